@@ -0,0 +1,54 @@
+package com.flowey258.harvestBoost.benchmarks;
+
+import com.flowey258.harvestBoost.core.BoostEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BoostEngine lookups, as every BlockGrowEvent and every boost update performs them
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoostLookupBenchmark {
+
+    /**
+     * Multiplier of a crop whose boost cell is cached and valid
+     */
+    @Benchmark
+    public double boostMultiplierHit(EngineState state) {
+        int crop = state.nextCrop();
+        return state.boosts.getBoostMultiplier(state.world.getId(), state.cropX[crop], EngineState.CROP_Y, state.cropZ[crop]);
+    }
+
+    /**
+     * Multiplier of a crop whose cell a farmer nearby just invalidated, which is how cells go stale in play
+     */
+    @Benchmark
+    public double boostMultiplierMiss(EngineState state) {
+        int crop = state.nextCrop();
+        UUID worldId = state.world.getId();
+        state.boosts.invalidateAround(worldId, state.cropX[crop], state.cropZ[crop]);
+        return state.boosts.getBoostMultiplier(worldId, state.cropX[crop], EngineState.CROP_Y, state.cropZ[crop]);
+    }
+
+    /**
+     * Cache key of the boost cell containing a crop
+     */
+    @Benchmark
+    public long cellKey(EngineState state) {
+        int crop = state.nextCrop();
+        int shift = state.settings.getBoostCellShift();
+        return BoostEngine.cellKey(state.cropX[crop], EngineState.CROP_Y, state.cropZ[crop], shift);
+    }
+}
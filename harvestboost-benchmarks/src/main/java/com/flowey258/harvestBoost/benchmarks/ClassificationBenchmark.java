@@ -0,0 +1,71 @@
+package com.flowey258.harvestBoost.benchmarks;
+
+import com.flowey258.harvestBoost.benchmarks.fake.FakeBlockTypes;
+import com.flowey258.harvestBoost.core.BlockClassifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Block type classification, as the farm scans and growth listeners run it for every block they see
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClassificationBenchmark {
+
+    @State(Scope.Thread)
+    public static class Types {
+        private static final int SIZE = 1024;
+
+        BlockClassifier classifier;
+        final int[] sample = new int[SIZE];
+        private int cursor;
+
+        /**
+         * Every block type with the same chance, roughly the mix a section scan reads
+         */
+        @Setup(Level.Trial)
+        public void setUp(EngineState engine) {
+            classifier = engine.settings.getClassifier();
+            int typeCount = new FakeBlockTypes().count();
+
+            Random random = new Random(258);
+            for (int i = 0; i < SIZE; i++) {
+                sample[i] = random.nextInt(typeCount);
+            }
+        }
+
+        int next() {
+            return sample[cursor++ & (SIZE - 1)];
+        }
+    }
+
+    @Benchmark
+    public boolean isFarmable(Types types) {
+        return types.classifier.isFarmable(types.next());
+    }
+
+    @Benchmark
+    public boolean isBoostable(Types types) {
+        return types.classifier.isBoostable(types.next());
+    }
+
+    @Benchmark
+    public boolean isAgeable(Types types) {
+        return types.classifier.isAgeable(types.next());
+    }
+}
@@ -0,0 +1,178 @@
+package com.flowey258.harvestBoost.benchmarks;
+
+import com.flowey258.harvestBoost.benchmarks.fake.FakeBlockTypes;
+import com.flowey258.harvestBoost.benchmarks.fake.FakePlatform;
+import com.flowey258.harvestBoost.benchmarks.fake.FakeSettings;
+import com.flowey258.harvestBoost.benchmarks.fake.FakeWorld;
+import com.flowey258.harvestBoost.core.BoostEngine;
+import com.flowey258.harvestBoost.core.FarmIndex;
+import com.flowey258.harvestBoost.core.HarvestEngine;
+import com.flowey258.harvestBoost.core.PresenceTracker;
+import com.flowey258.harvestBoost.metrics.PluginMetrics;
+import com.flowey258.harvestBoost.util.BlockKeys;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * A fake world of co-op wheat farms with qualified farmers, at a configurable density.
+ *
+ * Crops are split over square farms laid out on a grid, with FARMERS_PER_FARM players standing in
+ * the middle of each. By the time a benchmark starts every farmer qualified, the farm index knows
+ * every farm and the boost cells of the sampled crops are cached.
+ *
+ * Thread scoped: the engine is main-thread only, so every benchmark thread gets its own world.
+ */
+@State(Scope.Thread)
+public class EngineState {
+
+    // Players sharing one farm; three make the common co-op case of a boost above 1.0
+    static final int FARMERS_PER_FARM = 3;
+
+    // Sampled crop and farmer positions the benchmarks cycle through, a power of two
+    static final int SAMPLE_SIZE = 4096;
+    private static final int SAMPLE_MASK = SAMPLE_SIZE - 1;
+
+    // Crop layer; farmland lies one block below and farmers stand one above
+    static final int CROP_Y = 64;
+    static final int FARMER_Y = CROP_Y + 1;
+
+    @Param({"10", "100", "300"})
+    public int players;
+
+    @Param({"10000", "100000", "500000"})
+    public int crops;
+
+    FakeWorld world;
+    FakeSettings settings;
+    PluginMetrics metrics;
+    BoostEngine boosts;
+    PresenceTracker presence;
+    FarmIndex farmIndex;
+
+    final List<UUID> farmers = new ArrayList<>();
+    final List<double[]> farmerPositions = new ArrayList<>();
+
+    // Sampled crops by block X and Z on the crop layer
+    final int[] cropX = new int[SAMPLE_SIZE];
+    final int[] cropZ = new int[SAMPLE_SIZE];
+
+    // Sampled farmers by id and where they stand
+    final UUID[] farmerIds = new UUID[SAMPLE_SIZE];
+    final double[] farmerX = new double[SAMPLE_SIZE];
+    final double[] farmerZ = new double[SAMPLE_SIZE];
+
+    private int cropCursor;
+    private int farmerCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(258);
+        FakePlatform platform = new FakePlatform();
+        world = new FakeWorld("world");
+        settings = new FakeSettings(platform.getLogger());
+        metrics = new PluginMetrics();
+        HarvestEngine engine = new HarvestEngine(() -> settings, metrics, platform);
+        boosts = engine.getBoosts();
+        presence = engine.getPresence();
+        farmIndex = engine.getFarmIndex();
+
+        long[] cropColumns = plantFarms(platform, random);
+
+        // Like a plugin enabled on a running server: the farms' chunks are loaded already
+        for (long chunkKey : world.populatedChunks()) {
+            farmIndex.onChunkLoad(world, BlockKeys.columnX(chunkKey), BlockKeys.columnZ(chunkKey));
+        }
+
+        qualifyFarmers();
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            long crop = cropColumns[random.nextInt(cropColumns.length)];
+            cropX[i] = BlockKeys.columnX(crop);
+            cropZ[i] = BlockKeys.columnZ(crop);
+
+            int farmer = random.nextInt(farmers.size());
+            farmerIds[i] = farmers.get(farmer);
+            farmerX[i] = farmerPositions.get(farmer)[0];
+            farmerZ[i] = farmerPositions.get(farmer)[1];
+        }
+
+        // Warm the boost cells the hit path reads
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            boosts.getBoostMultiplier(world.getId(), cropX[i], CROP_Y, cropZ[i]);
+        }
+    }
+
+    /**
+     * Plant the crops on square farms on a grid and put the players in the middle of them, returning the crops
+     */
+    private long[] plantFarms(FakePlatform platform, Random random) {
+        int farms = Math.max(1, (players + FARMERS_PER_FARM - 1) / FARMERS_PER_FARM);
+        int cropsPerFarm = Math.max(1, crops / farms);
+        int side = (int) Math.ceil(Math.sqrt(cropsPerFarm));
+        int spacing = side + 48;
+        int grid = (int) Math.ceil(Math.sqrt(farms));
+
+        long[] cropColumns = new long[farms * cropsPerFarm];
+        for (int farm = 0; farm < farms; farm++) {
+            int originX = (farm % grid) * spacing;
+            int originZ = (farm / grid) * spacing;
+
+            for (int i = 0; i < cropsPerFarm; i++) {
+                int x = originX + i % side;
+                int z = originZ + i / side;
+                world.setType(x, CROP_Y - 1, z, FakeBlockTypes.FARMLAND);
+                world.setType(x, CROP_Y, z, FakeBlockTypes.WHEAT);
+                cropColumns[farm * cropsPerFarm + i] = BlockKeys.packColumn(x, z);
+            }
+
+            for (int i = 0; i < FARMERS_PER_FARM && farmers.size() < players; i++) {
+                double x = originX + side / 2.0 + random.nextInt(3) - 1;
+                double z = originZ + side / 2.0 + random.nextInt(3) - 1;
+                farmers.add(platform.addPlayer("farmer" + farmers.size()));
+                farmerPositions.add(new double[]{x, z});
+            }
+        }
+        return cropColumns;
+    }
+
+    /**
+     * Register every farmer's presence and tick the tracker until their minimum time has passed
+     */
+    private void qualifyFarmers() {
+        int farmRadius = settings.getFarmingDetectionRadius();
+        for (int i = 0; i < farmers.size(); i++) {
+            double x = farmerPositions.get(i)[0];
+            double z = farmerPositions.get(i)[1];
+            if (farmIndex.isNearFarmableBlocks(world, (int) Math.floor(x), FARMER_Y, (int) Math.floor(z), farmRadius, 2)) {
+                presence.updatePresence(farmers.get(i), world.getId(), x, FARMER_Y, z);
+                presence.placeFarmer(farmers.get(i), world.getId(), x, FARMER_Y, z);
+            }
+        }
+
+        for (int tick = 0; tick <= settings.getMinimumPresenceTime(); tick++) {
+            presence.tick();
+        }
+    }
+
+    /**
+     * Index of the next sampled crop, for cropX and cropZ
+     */
+    int nextCrop() {
+        return cropCursor++ & SAMPLE_MASK;
+    }
+
+    /**
+     * Index of the next sampled farmer, for farmerIds, farmerX and farmerZ
+     */
+    int nextFarmer() {
+        return farmerCursor++ & SAMPLE_MASK;
+    }
+}
@@ -0,0 +1,66 @@
+package com.flowey258.harvestBoost.benchmarks;
+
+import com.flowey258.harvestBoost.benchmarks.fake.FakeWorld;
+import com.flowey258.harvestBoost.core.ChunkBlocks;
+import com.flowey258.harvestBoost.core.FarmIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Farmable neighbourhood checks around players, and the section scans that build the index
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FarmScanBenchmark {
+
+    @State(Scope.Thread)
+    public static class Section {
+        ChunkBlocks blocks;
+        int sectionIndex;
+        int sectionMinY;
+
+        /**
+         * Snapshot of the chunk holding the first farm's corner, at the crop layer
+         */
+        @Setup(Level.Trial)
+        public void setUp(EngineState engine) {
+            blocks = engine.world.snapshotChunk(0, 0);
+            sectionIndex = (EngineState.CROP_Y - FakeWorld.MIN_HEIGHT) >> 4;
+            sectionMinY = FakeWorld.MIN_HEIGHT + (sectionIndex << 4);
+        }
+    }
+
+    /**
+     * Farm proximity check the boost update runs for every online player, against indexed chunks
+     */
+    @Benchmark
+    public boolean nearFarmableBlocks(EngineState state) {
+        int farmer = state.nextFarmer();
+        int farmRadius = state.settings.getFarmingDetectionRadius();
+        return state.farmIndex.isNearFarmableBlocks(state.world, (int) Math.floor(state.farmerX[farmer]),
+                EngineState.FARMER_Y, (int) Math.floor(state.farmerZ[farmer]), farmRadius, 2);
+    }
+
+    /**
+     * Bitmap of one 16x16x16 section full of crops; the fake chunk is not a server snapshot, so compare runs, not servers
+     */
+    @Benchmark
+    public long[] scanSection(EngineState state, Section section) {
+        return FarmIndex.scanSection(section.blocks, section.sectionIndex, section.sectionMinY,
+                state.settings.getClassifier(), state.metrics);
+    }
+}
@@ -0,0 +1,46 @@
+package com.flowey258.harvestBoost.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PresenceTracker qualification checks and presence updates
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PresenceBenchmark {
+
+    /**
+     * Whether a farmer counts towards the boost at a crop, run for every farmer near a recomputed cell
+     */
+    @Benchmark
+    public boolean isContributing(EngineState state) {
+        UUID farmer = state.farmerIds[state.nextFarmer()];
+        int crop = state.nextCrop();
+        return state.presence.isContributing(farmer, state.world.getId(),
+                state.cropX[crop], EngineState.CROP_Y, state.cropZ[crop]);
+    }
+
+    /**
+     * Presence update of a farmer who stayed on the same block, the common case of every boost update
+     */
+    @Benchmark
+    public void updatePresence(EngineState state) {
+        int farmer = state.nextFarmer();
+        UUID farmerId = state.farmerIds[farmer];
+        UUID worldId = state.world.getId();
+        state.presence.updatePresence(farmerId, worldId, state.farmerX[farmer], EngineState.FARMER_Y, state.farmerZ[farmer]);
+        state.presence.placeFarmer(farmerId, worldId, state.farmerX[farmer], EngineState.FARMER_Y, state.farmerZ[farmer]);
+    }
+}
@@ -0,0 +1,71 @@
+package com.flowey258.harvestBoost.benchmarks.fake;
+
+import com.flowey258.harvestBoost.core.BlockTypes;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The block types a fake farm is built from, next to the common blocks found around farms
+ */
+public final class FakeBlockTypes implements BlockTypes {
+
+    public static final int AIR = 0;
+    public static final int FARMLAND = 1;
+    public static final int WHEAT = 2;
+
+    private static final String[] NAMES = {
+            "AIR", "FARMLAND", "WHEAT", "CARROTS", "POTATOES", "BEETROOTS", "MELON", "MELON_STEM",
+            "ATTACHED_MELON_STEM", "PUMPKIN", "PUMPKIN_STEM", "ATTACHED_PUMPKIN_STEM", "SWEET_BERRY_BUSH",
+            "COCOA", "NETHER_WART", "TORCHFLOWER_CROP", "PITCHER_CROP", "OAK_SAPLING", "SPRUCE_SAPLING",
+            "BIRCH_SAPLING", "BROWN_MUSHROOM", "RED_MUSHROOM", "BAMBOO", "BAMBOO_SAPLING", "SUGAR_CANE",
+            "CACTUS", "KELP", "KELP_PLANT", "SEAGRASS", "TALL_SEAGRASS", "COMPOSTER",
+            "STONE", "DEEPSLATE", "GRANITE", "DIORITE", "ANDESITE", "DIRT", "COARSE_DIRT", "GRASS_BLOCK",
+            "SHORT_GRASS", "TALL_GRASS", "SAND", "GRAVEL", "WATER", "LAVA", "COBBLESTONE", "OAK_LOG",
+            "OAK_LEAVES", "OAK_PLANKS", "OAK_FENCE", "OAK_FENCE_GATE", "TORCH", "LANTERN", "GLASS",
+            "HAY_BLOCK", "CHEST", "BARREL", "CRAFTING_TABLE", "DANDELION", "POPPY", "SNOW", "ICE"
+    };
+
+    private final Map<String, Integer> byName = new HashMap<>();
+
+    public FakeBlockTypes() {
+        for (int type = 0; type < NAMES.length; type++) {
+            byName.put(NAMES[type], type);
+        }
+    }
+
+    @Override
+    public int count() {
+        return NAMES.length;
+    }
+
+    @Override
+    public int byName(String name) {
+        return byName.getOrDefault(name, -1);
+    }
+
+    @Override
+    public int matchBlock(String entry) {
+        String name = entry.trim().toUpperCase(Locale.ROOT);
+        if (name.startsWith("MINECRAFT:")) {
+            name = name.substring("MINECRAFT:".length());
+        }
+        return byName(name);
+    }
+
+    @Override
+    public int[] tag(String key) {
+        return null;
+    }
+
+    @Override
+    public String name(int type) {
+        return NAMES[type];
+    }
+
+    @Override
+    public boolean isLegacy(int type) {
+        return false;
+    }
+}
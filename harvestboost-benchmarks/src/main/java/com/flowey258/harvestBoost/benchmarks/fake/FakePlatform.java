@@ -0,0 +1,44 @@
+package com.flowey258.harvestBoost.benchmarks.fake;
+
+import com.flowey258.harvestBoost.core.EnginePlatform;
+import com.flowey258.harvestBoost.core.PresenceState;
+import com.flowey258.harvestBoost.core.PresenceTracker;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * In-memory server of online players; presence changes are dropped, nobody listens for them
+ */
+public final class FakePlatform implements EnginePlatform {
+
+    private final Logger logger = Logger.getLogger("FakePlatform");
+    private final Set<UUID> online = new HashSet<>();
+
+    /**
+     * Connect a player, with the same id for the same name on every run
+     */
+    public UUID addPlayer(String name) {
+        UUID playerId = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        online.add(playerId);
+        return playerId;
+    }
+
+    @Override
+    public boolean isOnline(UUID playerId) {
+        return online.contains(playerId);
+    }
+
+    @Override
+    public void onPresenceChange(UUID playerId, PresenceState previousState, PresenceState newState,
+                                 PresenceTracker.PresenceData presence) {
+    }
+
+    @Override
+    public Logger getLogger() {
+        return logger;
+    }
+}
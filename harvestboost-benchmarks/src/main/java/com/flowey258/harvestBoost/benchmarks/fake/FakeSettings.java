@@ -0,0 +1,81 @@
+package com.flowey258.harvestBoost.benchmarks.fake;
+
+import com.flowey258.harvestBoost.core.BlockClassifier;
+import com.flowey258.harvestBoost.core.EngineSettings;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Engine settings with the defaults of the shipped config.yml
+ */
+public final class FakeSettings implements EngineSettings {
+
+    private static final int DETECTION_RADIUS = 10;
+    private static final int FARMING_DETECTION_RADIUS = 3;
+    private static final int MINIMUM_PRESENCE_TIME = 100;
+    private static final int MAX_PLAYERS = 4;
+    private static final int BOOST_CELL_SHIFT = 2;
+
+    // Each farmer past the first adds this much to the multiplier, as in the default config
+    private static final double BOOST_PER_FARMER = 0.25;
+
+    private final double[] boostMultipliers = new double[MAX_PLAYERS + 1];
+    private final BlockClassifier classifier;
+
+    public FakeSettings(Logger logger) {
+        for (int count = 0; count <= MAX_PLAYERS; count++) {
+            boostMultipliers[count] = 1.0 + BOOST_PER_FARMER * Math.max(0, count - 1);
+        }
+
+        BlockClassifier.Rules rules = new BlockClassifier.Rules(List.of(), List.of(), List.of(), List.of(), List.of(),
+                true, true, true, true);
+        this.classifier = BlockClassifier.compile(new FakeBlockTypes(), rules, logger);
+    }
+
+    @Override
+    public int getDetectionRadius() {
+        return DETECTION_RADIUS;
+    }
+
+    @Override
+    public int getFarmingDetectionRadius() {
+        return FARMING_DETECTION_RADIUS;
+    }
+
+    @Override
+    public int getMinimumPresenceTime() {
+        return MINIMUM_PRESENCE_TIME;
+    }
+
+    @Override
+    public int getMaxPlayers() {
+        return MAX_PLAYERS;
+    }
+
+    @Override
+    public int getBoostCellShift() {
+        return BOOST_CELL_SHIFT;
+    }
+
+    @Override
+    public double getBoostMultiplier(int playerCount) {
+        return boostMultipliers[Math.max(0, Math.min(playerCount, MAX_PLAYERS))];
+    }
+
+    @Override
+    public boolean isWorldDisabled(UUID worldId) {
+        return false;
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return false;
+    }
+
+    @Override
+    public BlockClassifier getClassifier() {
+        return classifier;
+    }
+}
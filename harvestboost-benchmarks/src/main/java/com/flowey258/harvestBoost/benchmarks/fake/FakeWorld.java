@@ -0,0 +1,109 @@
+package com.flowey258.harvestBoost.benchmarks.fake;
+
+import com.flowey258.harvestBoost.core.ChunkBlocks;
+import com.flowey258.harvestBoost.core.FarmWorld;
+import com.flowey258.harvestBoost.util.BlockKeys;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory world: a sparse map of chunk sections holding block type ids, every chunk loaded.
+ *
+ * Only blocks that were set take memory; everything else reads as air.
+ */
+public final class FakeWorld implements FarmWorld {
+
+    public static final int MIN_HEIGHT = -64;
+    public static final int MAX_HEIGHT = 320;
+    private static final int SECTION_COUNT = (MAX_HEIGHT - MIN_HEIGHT) >> 4;
+
+    private static final ChunkBlocks EMPTY_CHUNK = new FakeChunk();
+
+    private final UUID id;
+
+    // Packed chunk column -> chunk, only for chunks with blocks in them
+    private final Map<Long, FakeChunk> chunks = new HashMap<>();
+
+    public FakeWorld(String name) {
+        this.id = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public int getMinHeight() {
+        return MIN_HEIGHT;
+    }
+
+    @Override
+    public int getMaxHeight() {
+        return MAX_HEIGHT;
+    }
+
+    @Override
+    public boolean isChunkLoaded(int chunkX, int chunkZ) {
+        return true;
+    }
+
+    @Override
+    public int getBlockType(int x, int y, int z) {
+        if (y < MIN_HEIGHT || y >= MAX_HEIGHT) {
+            return FakeBlockTypes.AIR;
+        }
+
+        FakeChunk chunk = chunks.get(BlockKeys.packColumn(x >> 4, z >> 4));
+        return chunk != null ? chunk.getType(x & 15, y, z & 15) : FakeBlockTypes.AIR;
+    }
+
+    /**
+     * The live chunk, which is only safe to read while nothing writes concurrently
+     */
+    @Override
+    public ChunkBlocks snapshotChunk(int chunkX, int chunkZ) {
+        FakeChunk chunk = chunks.get(BlockKeys.packColumn(chunkX, chunkZ));
+        return chunk != null ? chunk : EMPTY_CHUNK;
+    }
+
+    public void setType(int x, int y, int z, int type) {
+        chunks.computeIfAbsent(BlockKeys.packColumn(x >> 4, z >> 4), key -> new FakeChunk()).setType(x, y, z, type);
+    }
+
+    /**
+     * Chunk columns holding at least one block
+     */
+    public Iterable<Long> populatedChunks() {
+        return chunks.keySet();
+    }
+
+    /**
+     * Block types of one chunk, one byte per block in the sections that hold anything
+     */
+    private static final class FakeChunk implements ChunkBlocks {
+        private final byte[][] sections = new byte[SECTION_COUNT][];
+
+        @Override
+        public boolean isSectionEmpty(int sectionIndex) {
+            return sections[sectionIndex] == null;
+        }
+
+        @Override
+        public int getType(int x, int y, int z) {
+            byte[] section = sections[(y - MIN_HEIGHT) >> 4];
+            return section != null ? section[((y & 15) << 8) | (z << 4) | x] : FakeBlockTypes.AIR;
+        }
+
+        private void setType(int x, int y, int z, int type) {
+            int index = (y - MIN_HEIGHT) >> 4;
+            if (sections[index] == null) {
+                sections[index] = new byte[16 * 16 * 16];
+            }
+            sections[index][((y & 15) << 8) | ((z & 15) << 4) | (x & 15)] = (byte) type;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.flowey258.harvestBoost.core;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Decides which action bar messages are actually sent.
+ *
+ * A message is sent when it differs from the one a player last received, and resent unchanged just
+ * before the client lets it fade. Players are identified by UUID; {@code P} is the platform's handle
+ * used to deliver the message.
+ *
+ * @param <P> the platform's player type
+ */
+public class ActionBarTracker<P> {
+
+    // The last message sent to each player, and when
+    private final Map<UUID, ActionBarState<P>> lastActionBar = new ConcurrentHashMap<>();
+
+    private final Sender<P> sender;
+    private final Predicate<P> online;
+
+    // Ticks counted by refresh()
+    private long tick;
+
+    // Messages sent since startup
+    private long sent;
+
+    public ActionBarTracker(Sender<P> sender, Predicate<P> online) {
+        this.sender = sender;
+        this.online = online;
+    }
+
+    /**
+     * Show a message to a player, or forget their last one when message is null
+     */
+    public void update(UUID playerId, P player, String message) {
+        if (message == null) {
+            lastActionBar.remove(playerId);
+            return;
+        }
+
+        ActionBarState<P> state = lastActionBar.get(playerId);
+        if (state == null) {
+            state = new ActionBarState<>(player);
+            lastActionBar.put(playerId, state);
+        } else if (message.equals(state.message)) {
+            return; // Already showing, the refresh keeps it alive
+        }
+
+        send(state, message);
+    }
+
+    /**
+     * Advance one tick, resending unchanged messages older than the refresh interval
+     */
+    public void refresh(int refreshInterval) {
+        tick++;
+        if (lastActionBar.isEmpty()) {
+            return;
+        }
+
+        for (ActionBarState<P> state : lastActionBar.values()) {
+            if (tick - state.sentTick >= refreshInterval && online.test(state.player)) {
+                send(state, state.message);
+            }
+        }
+    }
+
+    private void send(ActionBarState<P> state, String message) {
+        sender.send(state.player, message);
+        sent++;
+        state.message = message;
+        state.sentTick = tick;
+    }
+
+    /**
+     * Forget the players who are no longer online
+     */
+    public void cleanupOfflinePlayers(Predicate<UUID> isOnline) {
+        lastActionBar.keySet().removeIf(playerId -> !isOnline.test(playerId));
+    }
+
+    public void removePlayer(UUID playerId) {
+        lastActionBar.remove(playerId);
+    }
+
+    public void clearAll() {
+        lastActionBar.clear();
+    }
+
+    /**
+     * Number of players currently showing a message
+     */
+    public int size() {
+        return lastActionBar.size();
+    }
+
+    /**
+     * Number of messages sent since startup, refreshes included
+     */
+    public long getSentCount() {
+        return sent;
+    }
+
+    /**
+     * Delivers a message to a player's action bar
+     */
+    @FunctionalInterface
+    public interface Sender<P> {
+        void send(P player, String message);
+    }
+
+    /**
+     * The last message on one player's action bar
+     */
+    private static final class ActionBarState<P> {
+        private final P player;
+        private String message;
+        private long sentTick;
+
+        private ActionBarState(P player) {
+            this.player = player;
+        }
+    }
+}
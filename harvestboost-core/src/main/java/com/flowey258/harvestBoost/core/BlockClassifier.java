@@ -0,0 +1,303 @@
+package com.flowey258.harvestBoost.core;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Immutable, id-indexed classification of every block type the engine cares about.
+ *
+ * All category rules, enabled features and user-configured type and tag lists are compiled once
+ * at config load into one flag word per type id, so every classification afterwards is a single
+ * array lookup. A new classifier is compiled and swapped in on reload.
+ */
+public final class BlockClassifier {
+
+    // Raw categories
+    public static final int CROP = 1;
+    public static final int SAPLING = 1 << 1;
+    public static final int BAMBOO = 1 << 2;
+    public static final int TALL_PLANT = 1 << 3;
+    public static final int FARMLAND = 1 << 4;
+    public static final int AGEABLE = 1 << 5;
+    public static final int HEIGHT_BASED = 1 << 6;
+    public static final int FARMING_ITEM = 1 << 7;
+    public static final int FARMING_TOOL = 1 << 8;
+
+    // Derived from the raw categories and the enabled features
+    public static final int BOOSTABLE = 1 << 9;
+    public static final int FARMABLE = 1 << 10;
+    public static final int FARMING_BLOCK = 1 << 11;
+
+    private static final int BLOCK_CATEGORIES = CROP | SAPLING | BAMBOO | TALL_PLANT | FARMLAND | AGEABLE | HEIGHT_BASED;
+
+    private static final String[] DEFAULT_CROPS = {
+            "WHEAT", "CARROTS", "POTATOES", "BEETROOTS", "MELON", "MELON_STEM", "ATTACHED_MELON_STEM",
+            "PUMPKIN", "PUMPKIN_STEM", "ATTACHED_PUMPKIN_STEM", "SWEET_BERRY_BUSH", "COCOA", "NETHER_WART",
+            "TORCHFLOWER_CROP", "PITCHER_CROP"
+    };
+
+    private static final String[] DEFAULT_SAPLINGS = {
+            "OAK_SAPLING", "SPRUCE_SAPLING", "BIRCH_SAPLING", "JUNGLE_SAPLING", "ACACIA_SAPLING",
+            "DARK_OAK_SAPLING", "CHERRY_SAPLING", "PALE_OAK_SAPLING", "MANGROVE_PROPAGULE",
+            "BROWN_MUSHROOM", "RED_MUSHROOM"
+    };
+
+    private static final String[] DEFAULT_BAMBOO = {"BAMBOO", "BAMBOO_SAPLING"};
+
+    private static final String[] DEFAULT_TALL_PLANTS = {
+            "SUGAR_CANE", "CACTUS", "KELP", "KELP_PLANT", "SEAGRASS", "TALL_SEAGRASS"
+    };
+
+    private static final String[] DEFAULT_FARMLAND = {"FARMLAND"};
+
+    private static final String[] AGEABLE_BLOCKS = {
+            "WHEAT", "CARROTS", "POTATOES", "BEETROOTS", "MELON_STEM", "PUMPKIN_STEM",
+            "SWEET_BERRY_BUSH", "COCOA", "NETHER_WART", "TORCHFLOWER_CROP"
+    };
+
+    // Chance a random tick advances a plant and the light it needs, as vanilla rolls them
+    private static final double CROP_GROWTH_CHANCE = 1.0 / 3.0;
+    private static final double SAPLING_GROWTH_CHANCE = 1.0 / 7.0;
+    private static final int MIN_GROWTH_LIGHT = 9;
+
+    private static final String[] HEIGHT_BASED_BLOCKS = {"BAMBOO", "SUGAR_CANE", "CACTUS"};
+
+    private static final String[] FARMING_ITEMS = {
+            "WHEAT_SEEDS", "BEETROOT_SEEDS", "MELON_SEEDS", "PUMPKIN_SEEDS", "TORCHFLOWER_SEEDS", "PITCHER_POD",
+            "WHEAT", "CARROT", "POTATO", "BEETROOT", "MELON_SLICE", "PUMPKIN", "SWEET_BERRIES", "COCOA_BEANS",
+            "NETHER_WART", "SUGAR_CANE", "CACTUS", "BAMBOO", "KELP"
+    };
+
+    private static final String[] FARMING_TOOLS = {
+            "WOODEN_HOE", "STONE_HOE", "IRON_HOE", "GOLDEN_HOE", "DIAMOND_HOE", "NETHERITE_HOE",
+            "BONE_MEAL", "WHEAT_SEEDS", "BEETROOT_SEEDS", "MELON_SEEDS", "PUMPKIN_SEEDS",
+            "TORCHFLOWER_SEEDS", "WATER_BUCKET", "SHEARS"
+    };
+
+    private final int[] flags;
+    private final double[] growthChances;
+    private final int[] growthLight;
+
+    private BlockClassifier(int[] flags, double[] growthChances, int[] growthLight) {
+        this.flags = flags;
+        this.growthChances = growthChances;
+        this.growthLight = growthLight;
+    }
+
+    /**
+     * Compile a classifier for the block types of a platform
+     */
+    public static BlockClassifier compile(BlockTypes types, Rules rules, Logger logger) {
+        int[] flags = new int[types.count()];
+
+        // Built-in categories
+        mark(flags, types, DEFAULT_CROPS, CROP);
+        mark(flags, types, DEFAULT_SAPLINGS, SAPLING);
+        mark(flags, types, DEFAULT_BAMBOO, BAMBOO);
+        mark(flags, types, DEFAULT_TALL_PLANTS, TALL_PLANT);
+        mark(flags, types, DEFAULT_FARMLAND, FARMLAND);
+        mark(flags, types, AGEABLE_BLOCKS, AGEABLE);
+        mark(flags, types, HEIGHT_BASED_BLOCKS, HEIGHT_BASED);
+        mark(flags, types, FARMING_ITEMS, FARMING_ITEM);
+        mark(flags, types, FARMING_TOOLS, FARMING_TOOL);
+
+        // Saplings added in future versions still follow the naming scheme
+        int bambooSapling = types.byName("BAMBOO_SAPLING");
+        for (int type = 0; type < flags.length; type++) {
+            if (!types.isLegacy(type) && types.name(type).endsWith("_SAPLING") && type != bambooSapling) {
+                flags[type] |= SAPLING;
+            }
+        }
+
+        // User-configured types and tags
+        markConfigured(flags, types, rules.crops(), CROP, logger);
+        markConfigured(flags, types, rules.saplings(), SAPLING, logger);
+        markConfigured(flags, types, rules.bamboo(), BAMBOO, logger);
+        markConfigured(flags, types, rules.tallPlants(), TALL_PLANT, logger);
+        unmarkConfigured(flags, types, rules.exclude(), logger);
+
+        int boostableMask = (rules.cropsEnabled() ? CROP : 0) | (rules.saplingsEnabled() ? SAPLING : 0)
+                | (rules.bambooEnabled() ? BAMBOO : 0) | (rules.tallPlantsEnabled() ? TALL_PLANT : 0);
+        int farmableMask = boostableMask | (rules.cropsEnabled() ? FARMLAND : 0);
+
+        // Derived classifications, evaluated once per type
+        for (int i = 0; i < flags.length; i++) {
+            int f = flags[i];
+            if ((f & boostableMask) != 0) {
+                f |= BOOSTABLE;
+            }
+            if ((f & farmableMask) != 0) {
+                f |= FARMABLE;
+            }
+            if ((f & (CROP | SAPLING | BAMBOO | TALL_PLANT | FARMLAND)) != 0) {
+                f |= FARMING_BLOCK;
+            }
+            flags[i] = f;
+        }
+
+        // Composters count as farming activity but never as a farm
+        int composter = types.byName("COMPOSTER");
+        if (composter >= 0) {
+            flags[composter] |= FARMING_BLOCK;
+        }
+
+        // Crops roughly as on hydrated farmland in rows, saplings one stage in seven ticks
+        double[] growthChances = new double[flags.length];
+        int[] growthLight = new int[flags.length];
+        for (int i = 0; i < flags.length; i++) {
+            if ((flags[i] & AGEABLE) != 0) {
+                growthChances[i] = CROP_GROWTH_CHANCE;
+                growthLight[i] = MIN_GROWTH_LIGHT;
+            } else if ((flags[i] & SAPLING) != 0) {
+                growthChances[i] = SAPLING_GROWTH_CHANCE;
+                growthLight[i] = MIN_GROWTH_LIGHT;
+            }
+        }
+
+        // Plants with their own odds: beetroots and torchflowers skip a third of their ticks,
+        // nether wart, cocoa and mushrooms grow in the dark
+        setGrowth(growthChances, growthLight, types, "BEETROOTS", CROP_GROWTH_CHANCE * 2 / 3, MIN_GROWTH_LIGHT);
+        setGrowth(growthChances, growthLight, types, "TORCHFLOWER_CROP", CROP_GROWTH_CHANCE * 2 / 3, MIN_GROWTH_LIGHT);
+        setGrowth(growthChances, growthLight, types, "SWEET_BERRY_BUSH", 1.0 / 5.0, MIN_GROWTH_LIGHT);
+        setGrowth(growthChances, growthLight, types, "COCOA", 1.0 / 5.0, 0);
+        setGrowth(growthChances, growthLight, types, "NETHER_WART", 1.0 / 10.0, 0);
+        setGrowth(growthChances, growthLight, types, "BROWN_MUSHROOM", SAPLING_GROWTH_CHANCE, 0);
+        setGrowth(growthChances, growthLight, types, "RED_MUSHROOM", SAPLING_GROWTH_CHANCE, 0);
+
+        return new BlockClassifier(flags, growthChances, growthLight);
+    }
+
+    /**
+     * Check if a type has any of the given flags
+     */
+    public boolean is(int type, int flag) {
+        return (flags[type] & flag) != 0;
+    }
+
+    /**
+     * Check if a block type should receive growth boosts
+     */
+    public boolean isBoostable(int type) {
+        return (flags[type] & BOOSTABLE) != 0;
+    }
+
+    /**
+     * Check if a block type marks a farm for presence detection
+     */
+    public boolean isFarmable(int type) {
+        return (flags[type] & FARMABLE) != 0;
+    }
+
+    /**
+     * Check if a block uses age-based growth
+     */
+    public boolean isAgeable(int type) {
+        return (flags[type] & AGEABLE) != 0;
+    }
+
+    /**
+     * Check if a block uses height-based growth
+     */
+    public boolean isHeightBased(int type) {
+        return (flags[type] & HEIGHT_BASED) != 0;
+    }
+
+    /**
+     * Check if interacting with a block counts as farming activity
+     */
+    public boolean isFarmingBlock(int type) {
+        return (flags[type] & FARMING_BLOCK) != 0;
+    }
+
+    /**
+     * Check if picking up an item counts as farming activity
+     */
+    public boolean isFarmingItem(int type) {
+        return (flags[type] & (FARMING_ITEM | SAPLING)) != 0;
+    }
+
+    /**
+     * Check if an item is a farming tool
+     */
+    public boolean isFarmingTool(int type) {
+        return (flags[type] & FARMING_TOOL) != 0;
+    }
+
+    /**
+     * Chance a random tick advances a plant, 0 for blocks an extra growth tick cannot grow
+     */
+    public double growthChance(int type) {
+        return growthChances[type];
+    }
+
+    /**
+     * Light level a plant needs for a random tick to grow it
+     */
+    public int minGrowthLight(int type) {
+        return growthLight[type];
+    }
+
+    private static void setGrowth(double[] growthChances, int[] growthLight, BlockTypes types,
+                                  String name, double chance, int light) {
+        // Excluded or unknown types keep no growth odds
+        int type = types.byName(name);
+        if (type >= 0 && growthChances[type] > 0) {
+            growthChances[type] = chance;
+            growthLight[type] = light;
+        }
+    }
+
+    private static void mark(int[] flags, BlockTypes types, String[] names, int flag) {
+        for (String name : names) {
+            // Unknown names are types from other game versions
+            int type = types.byName(name);
+            if (type >= 0) {
+                flags[type] |= flag;
+            }
+        }
+    }
+
+    private static void markConfigured(int[] flags, BlockTypes types, List<String> entries, int flag, Logger logger) {
+        for (String entry : entries) {
+            for (int type : resolve(types, entry, logger)) {
+                flags[type] |= flag;
+            }
+        }
+    }
+
+    private static void unmarkConfigured(int[] flags, BlockTypes types, List<String> entries, Logger logger) {
+        for (String entry : entries) {
+            for (int type : resolve(types, entry, logger)) {
+                flags[type] &= ~BLOCK_CATEGORIES;
+            }
+        }
+    }
+
+    /**
+     * Resolve a configured block name or '#namespace:tag' block tag
+     */
+    private static int[] resolve(BlockTypes types, String entry, Logger logger) {
+        if (entry.startsWith("#")) {
+            int[] tag = types.tag(entry.substring(1));
+            if (tag == null) {
+                logger.warning("Unknown block tag in materials config: " + entry);
+                return new int[0];
+            }
+            return tag;
+        }
+
+        int type = types.matchBlock(entry);
+        if (type < 0) {
+            logger.warning("Unknown block material in materials config: " + entry);
+            return new int[0];
+        }
+        return new int[]{type};
+    }
+
+    /**
+     * Configured type lists and enabled plant kinds a classifier is compiled from
+     */
+    public record Rules(List<String> crops, List<String> saplings, List<String> bamboo, List<String> tallPlants,
+                        List<String> exclude, boolean cropsEnabled, boolean saplingsEnabled,
+                        boolean bambooEnabled, boolean tallPlantsEnabled) {}
+}
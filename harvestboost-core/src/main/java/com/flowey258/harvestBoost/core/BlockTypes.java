@@ -0,0 +1,34 @@
+package com.flowey258.harvestBoost.core;
+
+/**
+ * The block types of a platform, identified by dense ids from 0 to {@code count() - 1}
+ */
+public interface BlockTypes {
+
+    /**
+     * Number of type ids
+     */
+    int count();
+
+    /**
+     * Id of a type by its exact name, or -1 when this version has no such type
+     */
+    int byName(String name);
+
+    /**
+     * Id of a block type matched leniently from a configured name, or -1 when unknown or not a block
+     */
+    int matchBlock(String entry);
+
+    /**
+     * Ids of the block types in a tag such as {@code minecraft:crops}, or null when the tag is unknown
+     */
+    int[] tag(String key);
+
+    String name(int type);
+
+    /**
+     * Whether a type only exists for compatibility with old versions
+     */
+    boolean isLegacy(int type);
+}
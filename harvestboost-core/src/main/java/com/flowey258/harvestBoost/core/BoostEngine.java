@@ -0,0 +1,321 @@
+package com.flowey258.harvestBoost.core;
+
+import com.flowey258.harvestBoost.metrics.PluginMetrics;
+import com.flowey258.harvestBoost.util.BlockKeys;
+import com.flowey258.harvestBoost.util.BoostCache;
+import com.flowey258.harvestBoost.util.FarmerGrid;
+import com.flowey258.harvestBoost.util.RegionVersions;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class BoostEngine {
+
+    private final HarvestEngine engine;
+    private final PluginMetrics metrics;
+
+    // Cached boost cells and their invalidation versions, one pair of primitive tables per world
+    private final Map<UUID, WorldBoosts> worldBoosts = new HashMap<>();
+
+    // Last world handed out, growth events tend to come from the same world in a row
+    private UUID lastWorldId;
+    private WorldBoosts lastWorldBoosts;
+
+    // Advanced by every cleanup; cells not read for a whole cleanup period are dropped
+    private long cleanupEpoch;
+
+    // Player UID -> boost level last published, players without a boost are absent
+    private final Map<UUID, Integer> boostLevels = new HashMap<>();
+
+    public BoostEngine(HarvestEngine engine) {
+        this.engine = engine;
+        this.metrics = engine.getMetrics();
+    }
+
+    /**
+     * Get the current boost multiplier at a block
+     */
+    public double getBoostMultiplier(UUID worldId, int x, int y, int z) {
+        long start = metrics.boostMultiplier.start();
+        EngineSettings settings = engine.getSettings();
+        WorldBoosts boosts = getWorldBoosts(worldId, settings);
+        int slot = findValidCell(boosts, x, y, z, settings);
+
+        double multiplier = slot < 0
+                ? computeCell(boosts, worldId, x, y, z, settings).multiplier()
+                : boosts.cache.multiplier(slot);
+
+        metrics.boostMultiplier.stop(start);
+        return multiplier;
+    }
+
+    /**
+     * Get the number of farmers contributing to boost at a block
+     */
+    public int getFarmerCount(UUID worldId, int x, int y, int z) {
+        EngineSettings settings = engine.getSettings();
+        WorldBoosts boosts = getWorldBoosts(worldId, settings);
+        int slot = findValidCell(boosts, x, y, z, settings);
+
+        if (slot < 0) {
+            return computeCell(boosts, worldId, x, y, z, settings).playerCount();
+        }
+
+        return boosts.cache.playerCount(slot);
+    }
+
+    /**
+     * Resolve farmer count and multiplier at a block with one cache lookup
+     */
+    public CellBoost getCellBoost(UUID worldId, int x, int y, int z) {
+        EngineSettings settings = engine.getSettings();
+        WorldBoosts boosts = getWorldBoosts(worldId, settings);
+        int slot = findValidCell(boosts, x, y, z, settings);
+
+        if (slot < 0) {
+            return computeCell(boosts, worldId, x, y, z, settings);
+        }
+
+        return new CellBoost(boosts.cache.playerCount(slot), boosts.cache.multiplier(slot));
+    }
+
+    /**
+     * Check if a block has any boost active
+     */
+    public boolean hasBoost(UUID worldId, int x, int y, int z) {
+        return getBoostMultiplier(worldId, x, y, z) > 1.0;
+    }
+
+    /**
+     * Record the boost level a player is now at, returning the level published before
+     */
+    public int publishBoostLevel(UUID playerId, int level) {
+        Integer previous = level > 0
+                ? boostLevels.put(playerId, level)
+                : boostLevels.remove(playerId);
+        return previous != null ? previous : 0;
+    }
+
+    /**
+     * Forget the published level of a player who left
+     */
+    public void removePlayer(UUID playerId) {
+        boostLevels.remove(playerId);
+    }
+
+    /**
+     * Boost level of a farmer count: 0 when solo or alone, capped at the maximum player count
+     */
+    public static int boostLevel(int farmerCount, int maxLevel) {
+        return farmerCount <= 1 ? 0 : Math.min(farmerCount, maxLevel);
+    }
+
+    /**
+     * Visit every cached, still valid boost cell of a world with a multiplier above 1.0
+     */
+    public void forEachBoostedCell(UUID worldId, BoostedCellConsumer consumer) {
+        WorldBoosts boosts = worldBoosts.get(worldId);
+        if (boosts == null) {
+            return;
+        }
+
+        int shift = engine.getSettings().getBoostCellShift();
+        double half = (1 << shift) / 2.0;
+
+        boosts.cache.forEachSlot((slot, key) -> {
+            if (boosts.cache.multiplier(slot) <= 1.0) {
+                return;
+            }
+
+            int cellX = BlockKeys.blockX(key);
+            int cellZ = BlockKeys.blockZ(key);
+            long tileVersion = boosts.versions.versionAt((cellX << shift) + half, (cellZ << shift) + half);
+            if (boosts.cache.version(slot) < tileVersion) {
+                return; // Stale, a farmer nearby changed since it was computed
+            }
+
+            consumer.accept(cellX << shift, BlockKeys.blockY(key) << shift, cellZ << shift, 1 << shift,
+                    boosts.cache.playerCount(slot), boosts.cache.multiplier(slot));
+        });
+    }
+
+    /**
+     * Recompute and cache the boost of the cell containing a block
+     */
+    public void updateBoostCache(UUID worldId, int x, int y, int z) {
+        EngineSettings settings = engine.getSettings();
+        computeCell(getWorldBoosts(worldId, settings), worldId, x, y, z, settings);
+    }
+
+    /**
+     * Invalidate every cached cell a farmer change at a position can affect
+     */
+    public void invalidateAround(UUID worldId, double x, double z) {
+        WorldBoosts boosts = worldBoosts.get(worldId);
+        if (boosts != null) {
+            boosts.versions.bump(x, z);
+        }
+    }
+
+    /**
+     * Drop cache entries nobody read since the last cleanup
+     */
+    public void cleanCache() {
+        long cutoff = cleanupEpoch++;
+
+        worldBoosts.values().removeIf(boosts -> {
+            boosts.cache.removeUnusedSince(cutoff);
+            if (boosts.cache.isEmpty()) {
+                return true;
+            }
+
+            // Tiles older than every cached cell can no longer invalidate anything
+            boosts.versions.forgetUpTo(boosts.cache.oldestVersion());
+            return false;
+        });
+        lastWorldId = null;
+        lastWorldBoosts = null;
+    }
+
+    /**
+     * Clear all cached data
+     */
+    public void clearCache() {
+        worldBoosts.clear();
+        lastWorldId = null;
+        lastWorldBoosts = null;
+    }
+
+    /**
+     * Get the number of cached boost entries across all worlds
+     */
+    public int getCacheSize() {
+        int total = 0;
+        for (WorldBoosts boosts : worldBoosts.values()) {
+            total += boosts.cache.size();
+        }
+        return total;
+    }
+
+    /**
+     * Count nearby farming players within boost radius of a cell centre
+     */
+    private int countNearbyFarmers(UUID worldId, double x, double y, double z, EngineSettings settings) {
+        // Check if world is disabled
+        if (settings.isWorldDisabled(worldId)) {
+            return 0;
+        }
+
+        int radius = settings.getDetectionRadius();
+        PresenceTracker presence = engine.getPresence();
+        FarmerGrid farmerGrid = presence.getFarmerGrid();
+
+        // Cells match the detection radius so a query only touches the neighbouring columns
+        farmerGrid.ensureCellSize(radius);
+
+        // Presence, minimum time and farm proximity are kept current by the tracker,
+        // which invalidates the surrounding cells whenever any of them change
+        return farmerGrid.countNear(worldId, x, y, z, radius,
+                playerId -> presence.isContributing(playerId, worldId, x, y, z));
+    }
+
+    /**
+     * Cache key of the boost cell containing a block
+     */
+    public static long cellKey(int x, int y, int z, int shift) {
+        return BlockKeys.packBlock(x >> shift, y >> shift, z >> shift);
+    }
+
+    /**
+     * Find the cached cell of a block, or -1 when it is missing or was invalidated
+     */
+    private int findValidCell(WorldBoosts boosts, int x, int y, int z, EngineSettings settings) {
+        int shift = settings.getBoostCellShift();
+        int cellX = x >> shift;
+        int cellZ = z >> shift;
+
+        int slot = boosts.cache.find(cellKey(x, y, z, shift));
+        if (slot < 0) {
+            metrics.boostCacheMisses.increment();
+            return -1;
+        }
+
+        double half = (1 << shift) / 2.0;
+        long tileVersion = boosts.versions.versionAt((cellX << shift) + half, (cellZ << shift) + half);
+        if (boosts.cache.version(slot) < tileVersion) {
+            metrics.boostCacheStale.increment();
+            return -1;
+        }
+
+        metrics.boostCacheHits.increment();
+        boosts.cache.touch(slot, cleanupEpoch);
+        return slot;
+    }
+
+    /**
+     * Count the farmers of a cell and cache the result stamped with the current version
+     */
+    private CellBoost computeCell(WorldBoosts boosts, UUID worldId, int x, int y, int z, EngineSettings settings) {
+        long start = metrics.boostRecompute.start();
+
+        // Every crop in a cell shares the count taken at its centre
+        int shift = settings.getBoostCellShift();
+        double half = (1 << shift) / 2.0;
+        long countStart = metrics.countNearbyFarmers.start();
+        int playerCount = countNearbyFarmers(worldId,
+                ((x >> shift) << shift) + half,
+                ((y >> shift) << shift) + half,
+                ((z >> shift) << shift) + half, settings);
+        metrics.countNearbyFarmers.stop(countStart);
+
+        double multiplier = settings.getBoostMultiplier(playerCount);
+
+        boosts.cache.put(cellKey(x, y, z, shift), playerCount, multiplier,
+                boosts.versions.current(), cleanupEpoch);
+
+        metrics.boostRecompute.stop(start);
+        return new CellBoost(playerCount, multiplier);
+    }
+
+    /**
+     * Get (or create) the boost tables for a world
+     */
+    private WorldBoosts getWorldBoosts(UUID worldId, EngineSettings settings) {
+        if (worldId.equals(lastWorldId)) {
+            return lastWorldBoosts;
+        }
+
+        // A farmer only counts for cells within the farming radius of their presence location
+        WorldBoosts boosts = worldBoosts.computeIfAbsent(worldId,
+                id -> new WorldBoosts(settings.getFarmingDetectionRadius()));
+        lastWorldId = worldId;
+        lastWorldBoosts = boosts;
+        return boosts;
+    }
+
+    /**
+     * Cached cells of one world and the versions that invalidate them
+     */
+    private static final class WorldBoosts {
+        private final BoostCache cache = new BoostCache();
+        private final RegionVersions versions;
+
+        private WorldBoosts(int tileSize) {
+            this.versions = new RegionVersions(tileSize);
+        }
+    }
+
+    /**
+     * Farmer count and multiplier of one boost cell
+     */
+    public record CellBoost(int playerCount, double multiplier) {}
+
+    /**
+     * Receives one boosted cell by its lowest corner, edge length, farmer count and multiplier
+     */
+    @FunctionalInterface
+    public interface BoostedCellConsumer {
+        void accept(int minX, int minY, int minZ, int size, int farmerCount, double multiplier);
+    }
+}
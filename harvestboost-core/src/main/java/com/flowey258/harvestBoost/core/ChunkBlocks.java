@@ -0,0 +1,17 @@
+package com.flowey258.harvestBoost.core;
+
+/**
+ * Read-only block types of one chunk, safe to read from any thread
+ */
+public interface ChunkBlocks {
+
+    /**
+     * Whether a section holds nothing but air
+     */
+    boolean isSectionEmpty(int sectionIndex);
+
+    /**
+     * Type id of a block, by chunk-local X and Z and world Y
+     */
+    int getType(int x, int y, int z);
+}
@@ -0,0 +1,23 @@
+package com.flowey258.harvestBoost.core;
+
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * What the engine needs from the server it runs on
+ */
+public interface EnginePlatform {
+
+    /**
+     * Check if a player is still connected
+     */
+    boolean isOnline(UUID playerId);
+
+    /**
+     * Announce that a player's farming presence changed state (main thread)
+     */
+    void onPresenceChange(UUID playerId, PresenceState previousState, PresenceState newState,
+                          PresenceTracker.PresenceData presence);
+
+    Logger getLogger();
+}
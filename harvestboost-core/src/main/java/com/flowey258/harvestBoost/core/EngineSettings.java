@@ -0,0 +1,54 @@
+package com.flowey258.harvestBoost.core;
+
+import java.util.UUID;
+
+/**
+ * The part of the configuration the engine reads.
+ *
+ * Implementations are immutable snapshots; the engine fetches the current one once per operation,
+ * so a reload swaps every rule at once.
+ */
+public interface EngineSettings {
+
+    /**
+     * Radius in blocks within which qualified farmers boost a crop
+     */
+    int getDetectionRadius();
+
+    /**
+     * Radius in blocks around farmable blocks that counts as being at a farm
+     */
+    int getFarmingDetectionRadius();
+
+    /**
+     * Ticks a player must stay at a farm before counting towards boosts
+     */
+    int getMinimumPresenceTime();
+
+    /**
+     * Farmer count past which the boost no longer grows
+     */
+    int getMaxPlayers();
+
+    /**
+     * Get the boost cell size as a bit shift (e.g. 2 for 4-block cells)
+     */
+    int getBoostCellShift();
+
+    /**
+     * Get boost multiplier for player count
+     */
+    double getBoostMultiplier(int playerCount);
+
+    /**
+     * Check if boosts are disabled in a world
+     */
+    boolean isWorldDisabled(UUID worldId);
+
+    boolean isDebugEnabled();
+
+    /**
+     * Classification of every block type, compiled with these settings
+     */
+    BlockClassifier getClassifier();
+}
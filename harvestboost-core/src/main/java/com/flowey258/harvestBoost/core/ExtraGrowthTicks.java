@@ -0,0 +1,288 @@
+package com.flowey258.harvestBoost.core;
+
+import com.flowey258.harvestBoost.util.BlockKeys;
+import com.flowey258.harvestBoost.util.LongHashSet;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Hands out extra random growth ticks to the ageable crops and saplings in boosted cells.
+ *
+ * Vanilla gives every block randomTickSpeed / 4096 random ticks per tick. A block in a cell with
+ * multiplier m gets (m - 1) times that on top, which is what makes a 1.5x boost actually grow
+ * crops 1.5 times as fast instead of only reacting to the growth vanilla already did.
+ *
+ * The registry of candidate blocks is rebuilt from the farm index around boosted farmers after
+ * every boost update; nothing scans the world. Each tick the expected number of extra ticks is
+ * accumulated per world and that many blocks are drawn, weighted by their cell's rate, under a
+ * per-tick budget. What an extra tick does to a block is up to the platform.
+ *
+ * Not thread-safe; all access is expected from the server main thread.
+ */
+public class ExtraGrowthTicks {
+
+    // Vanilla random tick chance per block per tick is randomTickSpeed / 4096
+    public static final double RANDOM_TICKS_PER_SPEED = 1.0 / 4096.0;
+
+    private final HarvestEngine engine;
+    private final Random random;
+
+    // World UID -> candidate blocks of the boosted cells in that world
+    private final Map<UUID, GrowthRegistry> registries = new HashMap<>();
+
+    // Registries collected since the last beginRebuild, swapped in by finishRebuild
+    private final Map<UUID, GrowthRegistry> rebuilding = new HashMap<>();
+
+    // Statistics since startup
+    private long attemptsTotal;
+    private long grownTotal;
+    private long droppedTotal;
+
+    public ExtraGrowthTicks(HarvestEngine engine, Random random) {
+        this.engine = engine;
+        this.random = random;
+    }
+
+    /**
+     * Start collecting the registry that replaces the current one
+     */
+    public void beginRebuild() {
+        rebuilding.clear();
+    }
+
+    /**
+     * Register the growable blocks of the boosted cells within detection radius of a boosted farmer
+     */
+    public void addFarmer(FarmWorld world, int x, int y, int z, int randomTickSpeed) {
+        UUID worldId = world.getId();
+        EngineSettings settings = engine.getSettings();
+        if (settings.isWorldDisabled(worldId)) {
+            return;
+        }
+
+        // Keep the accumulated credit so a rebuild never skips or repeats ticks
+        GrowthRegistry registry = rebuilding.computeIfAbsent(worldId, id -> {
+            GrowthRegistry previous = registries.get(id);
+            return new GrowthRegistry(id, previous != null ? previous.credit : random.nextDouble());
+        });
+
+        BoostEngine boosts = engine.getBoosts();
+        FarmIndex farmIndex = engine.getFarmIndex();
+        BlockClassifier classifier = settings.getClassifier();
+        int shift = settings.getBoostCellShift();
+        int cellSize = 1 << shift;
+        int radius = settings.getDetectionRadius();
+        double ticksPerBlock = Math.max(0, randomTickSpeed) * RANDOM_TICKS_PER_SPEED;
+
+        for (int cellX = (x - radius) >> shift; cellX <= (x + radius) >> shift; cellX++) {
+            for (int cellY = (y - radius) >> shift; cellY <= (y + radius) >> shift; cellY++) {
+                for (int cellZ = (z - radius) >> shift; cellZ <= (z + radius) >> shift; cellZ++) {
+                    // Farmers close together share cells, each cell is registered once
+                    if (!registry.visitedCells.add(BlockKeys.packBlock(cellX, cellY, cellZ))) {
+                        continue;
+                    }
+
+                    int minX = cellX << shift;
+                    int minY = cellY << shift;
+                    int minZ = cellZ << shift;
+                    double multiplier = boosts.getBoostMultiplier(worldId,
+                            minX + cellSize / 2, minY + cellSize / 2, minZ + cellSize / 2);
+                    if (multiplier <= 1.0) {
+                        continue;
+                    }
+
+                    // Farmland, melons and tall plants are farmable too, but an extra tick can only
+                    // advance ageable crops and saplings, so only those take a share of the ticks
+                    int start = registry.blockCount;
+                    farmIndex.forEachFarmableInBox(worldId,
+                            minX, minX + cellSize - 1, minY, minY + cellSize - 1, minZ, minZ + cellSize - 1,
+                            blockKey -> {
+                                int type = world.getBlockType(BlockKeys.blockX(blockKey),
+                                        BlockKeys.blockY(blockKey), BlockKeys.blockZ(blockKey));
+                                if (classifier.isBoostable(type) && classifier.growthChance(type) > 0) {
+                                    registry.addBlock(blockKey);
+                                }
+                            });
+                    registry.addCell(start, (multiplier - 1.0) * ticksPerBlock);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replace the registry with the one collected since beginRebuild
+     */
+    public void finishRebuild() {
+        registries.clear();
+        registries.putAll(rebuilding);
+        rebuilding.clear();
+    }
+
+    /**
+     * Hand out this tick's extra growth ticks, at most budget over every world
+     */
+    public void tick(int budget, Grower grower) {
+        for (GrowthRegistry registry : registries.values()) {
+            registry.credit += registry.totalWeight;
+            int attempts = (int) registry.credit;
+            registry.credit -= attempts;
+
+            // Over budget: the rest is dropped, not carried, so a backlog can never burst
+            if (attempts > budget) {
+                droppedTotal += attempts - budget;
+                attempts = budget;
+            }
+            budget -= attempts;
+
+            for (int i = 0; i < attempts; i++) {
+                long blockKey = registry.draw(random);
+                if (grower.grow(registry.worldId,
+                        BlockKeys.blockX(blockKey), BlockKeys.blockY(blockKey), BlockKeys.blockZ(blockKey))) {
+                    grownTotal++;
+                }
+            }
+            attemptsTotal += attempts;
+        }
+    }
+
+    /**
+     * Forget the registry of an unloaded world
+     */
+    public void onWorldUnload(UUID worldId) {
+        registries.remove(worldId);
+        rebuilding.remove(worldId);
+    }
+
+    /**
+     * Forget every registered block
+     */
+    public void clear() {
+        registries.clear();
+        rebuilding.clear();
+    }
+
+    /**
+     * Number of blocks currently receiving extra growth ticks
+     */
+    public int getRegisteredCount() {
+        int total = 0;
+        for (GrowthRegistry registry : registries.values()) {
+            total += registry.blockCount;
+        }
+        return total;
+    }
+
+    /**
+     * Expected extra growth ticks per tick over every world, before the budget
+     */
+    public double getExpectedTicks() {
+        double total = 0;
+        for (GrowthRegistry registry : registries.values()) {
+            total += registry.totalWeight;
+        }
+        return total;
+    }
+
+    public long getAttemptCount() {
+        return attemptsTotal;
+    }
+
+    public long getGrownCount() {
+        return grownTotal;
+    }
+
+    /**
+     * Number of extra ticks dropped because the per-tick budget ran out
+     */
+    public long getDroppedCount() {
+        return droppedTotal;
+    }
+
+    /**
+     * Applies one extra random tick to a block, returning whether it grew
+     */
+    @FunctionalInterface
+    public interface Grower {
+        boolean grow(UUID worldId, int x, int y, int z);
+    }
+
+    /**
+     * Candidate blocks of one world, grouped by boost cell with a cumulative weight per cell
+     */
+    private static final class GrowthRegistry {
+        private final UUID worldId;
+        private final LongHashSet visitedCells = new LongHashSet();
+
+        private long[] blocks = new long[64];
+        private int blockCount;
+
+        private int[] cellStarts = new int[16];
+        private double[] cumulativeWeights = new double[16];
+        private int cellCount;
+
+        // Expected extra ticks per server tick over every registered block
+        private double totalWeight;
+
+        // Fractional extra ticks earned but not handed out yet
+        private double credit;
+
+        private GrowthRegistry(UUID worldId, double credit) {
+            this.worldId = worldId;
+            this.credit = credit;
+        }
+
+        private void addBlock(long blockKey) {
+            if (blockCount == blocks.length) {
+                blocks = Arrays.copyOf(blocks, blocks.length << 1);
+            }
+            blocks[blockCount++] = blockKey;
+        }
+
+        /**
+         * Close the cell whose blocks were added since start, at a per-block rate
+         */
+        private void addCell(int start, double ratePerBlock) {
+            int count = blockCount - start;
+            if (count == 0) {
+                return;
+            }
+
+            if (cellCount == cellStarts.length) {
+                cellStarts = Arrays.copyOf(cellStarts, cellCount << 1);
+                cumulativeWeights = Arrays.copyOf(cumulativeWeights, cellCount << 1);
+            }
+
+            totalWeight += ratePerBlock * count;
+            cellStarts[cellCount] = start;
+            cumulativeWeights[cellCount] = totalWeight;
+            cellCount++;
+        }
+
+        /**
+         * Draw a block, each with a chance proportional to its cell's rate
+         */
+        private long draw(Random random) {
+            double target = random.nextDouble() * totalWeight;
+
+            // Binary search for the first cell whose cumulative weight exceeds the target
+            int low = 0;
+            int high = cellCount - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulativeWeights[mid] <= target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            int start = cellStarts[low];
+            int end = low + 1 < cellCount ? cellStarts[low + 1] : blockCount;
+            return blocks[start + random.nextInt(end - start)];
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.flowey258.harvestBoost.core;
+
+import com.flowey258.harvestBoost.metrics.PluginMetrics;
+import com.flowey258.harvestBoost.util.BlockKeys;
+import com.flowey258.harvestBoost.util.ChunkFarmBits;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+public class FarmIndex {
+
+    private final HarvestEngine engine;
+
+    // World id -> (packed chunk key -> farmable bitmaps)
+    private final Map<UUID, Map<Long, ChunkFarmBits>> worldIndexes = new HashMap<>();
+
+    public FarmIndex(HarvestEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Start tracking a chunk; sections are scanned the first time a query needs them
+     */
+    public void onChunkLoad(FarmWorld world, int chunkX, int chunkZ) {
+        worldIndexes.computeIfAbsent(world.getId(), id -> new HashMap<>())
+                .computeIfAbsent(BlockKeys.packColumn(chunkX, chunkZ),
+                        key -> new ChunkFarmBits(world.getMinHeight(), world.getMaxHeight()));
+    }
+
+    /**
+     * Stop tracking a chunk
+     */
+    public void onChunkUnload(UUID worldId, int chunkX, int chunkZ) {
+        Map<Long, ChunkFarmBits> chunks = worldIndexes.get(worldId);
+        if (chunks != null) {
+            chunks.remove(BlockKeys.packColumn(chunkX, chunkZ));
+        }
+    }
+
+    /**
+     * Drop the index of an unloaded world
+     */
+    public void onWorldUnload(UUID worldId) {
+        worldIndexes.remove(worldId);
+    }
+
+    /**
+     * Record a block change at a position
+     */
+    public void updateBlock(UUID worldId, int x, int y, int z, int newType) {
+        ChunkFarmBits chunk = getChunk(worldId, x >> 4, z >> 4);
+        if (chunk != null) {
+            chunk.set(x, y, z, engine.getSettings().getClassifier().isFarmable(newType));
+        }
+    }
+
+    /**
+     * Check if there is any farmable block within a horizontal radius and vertical reach of a block
+     */
+    public boolean isNearFarmableBlocks(FarmWorld world, int centerX, int centerY, int centerZ,
+                                        int radius, int verticalReach) {
+        return anyFarmableInBox(world,
+                centerX - radius, centerX + radius,
+                centerY - verticalReach, centerY + verticalReach,
+                centerZ - radius, centerZ + radius);
+    }
+
+    /**
+     * Check if every loaded chunk section around a block has already been scanned
+     */
+    public boolean isIndexed(FarmWorld world, int centerX, int centerY, int centerZ, int radius, int verticalReach) {
+        for (int chunkX = (centerX - radius) >> 4; chunkX <= (centerX + radius) >> 4; chunkX++) {
+            for (int chunkZ = (centerZ - radius) >> 4; chunkZ <= (centerZ + radius) >> 4; chunkZ++) {
+                ChunkFarmBits chunk = getOrIndexChunk(world, chunkX, chunkZ);
+                if (chunk != null && !chunk.isScanned(centerY - verticalReach, centerY + verticalReach)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Check a block box for farmable blocks, scanning any section not indexed yet
+     */
+    public boolean anyFarmableInBox(FarmWorld world, int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                ChunkFarmBits chunk = getOrIndexChunk(world, chunkX, chunkZ);
+                if (chunk == null) {
+                    continue; // Not loaded, never force-load chunks for a presence check
+                }
+
+                // Normally pre-scanned off-thread by the update task, this is the fallback
+                if (!chunk.isScanned(minY, maxY)) {
+                    scanSections(world.snapshotChunk(chunkX, chunkZ), chunk, minY, maxY);
+                }
+
+                int localMinX = Math.max(minX, chunkX << 4) & 15;
+                int localMaxX = Math.min(maxX, (chunkX << 4) + 15) & 15;
+                int localMinZ = Math.max(minZ, chunkZ << 4) & 15;
+                int localMaxZ = Math.min(maxZ, (chunkZ << 4) + 15) & 15;
+
+                if (chunk.anyInBox(localMinX, localMaxX, minY, maxY, localMinZ, localMaxZ)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Visit the packed key of every indexed farmable block in a box; unscanned sections are skipped
+     */
+    public void forEachFarmableInBox(UUID worldId, int minX, int maxX, int minY, int maxY, int minZ, int maxZ,
+                                     LongConsumer consumer) {
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                ChunkFarmBits chunk = getChunk(worldId, chunkX, chunkZ);
+                if (chunk == null) {
+                    continue;
+                }
+
+                int baseX = chunkX << 4;
+                int baseZ = chunkZ << 4;
+                int localMinX = Math.max(minX, baseX) & 15;
+                int localMaxX = Math.min(maxX, baseX + 15) & 15;
+                int localMinZ = Math.max(minZ, baseZ) & 15;
+                int localMaxZ = Math.min(maxZ, baseZ + 15) & 15;
+
+                chunk.forEachInBox(localMinX, localMaxX, minY, maxY, localMinZ, localMaxZ,
+                        (x, y, z) -> consumer.accept(BlockKeys.packBlock(baseX + x, y, baseZ + z)));
+            }
+        }
+    }
+
+    /**
+     * Forget every scan, e.g. after the block classification changed
+     */
+    public void invalidateAll() {
+        for (Map<Long, ChunkFarmBits> chunks : worldIndexes.values()) {
+            for (ChunkFarmBits chunk : chunks.values()) {
+                chunk.invalidate();
+            }
+        }
+    }
+
+    /**
+     * Clear all indexed data
+     */
+    public void clearAll() {
+        worldIndexes.clear();
+    }
+
+    /**
+     * Get the index of a tracked chunk, or null when it is not loaded
+     */
+    public ChunkFarmBits getChunk(UUID worldId, int chunkX, int chunkZ) {
+        Map<Long, ChunkFarmBits> chunks = worldIndexes.get(worldId);
+        return chunks != null ? chunks.get(BlockKeys.packColumn(chunkX, chunkZ)) : null;
+    }
+
+    /**
+     * Number of chunks currently tracked
+     */
+    public int getIndexedChunkCount() {
+        int total = 0;
+        for (Map<Long, ChunkFarmBits> chunks : worldIndexes.values()) {
+            total += chunks.size();
+        }
+        return total;
+    }
+
+    /**
+     * Install the result of an off-thread scan, replaying block changes made since its snapshot was taken;
+     * dropped when the chunk unloaded or its index was invalidated in the meantime
+     */
+    public boolean installScan(UUID worldId, int chunkX, int chunkZ, int expectedEpoch,
+                               int[] sectionIndexes, long[][] sectionBits) {
+        ChunkFarmBits chunk = getChunk(worldId, chunkX, chunkZ);
+        if (chunk == null || chunk.epoch() != expectedEpoch) {
+            return false;
+        }
+
+        for (int i = 0; i < sectionIndexes.length; i++) {
+            if (!chunk.isScanned(sectionIndexes[i])) {
+                chunk.install(sectionIndexes[i], sectionBits[i]);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get a chunk index, registering loaded chunks whose load event we did not see
+     */
+    public ChunkFarmBits getOrIndexChunk(FarmWorld world, int chunkX, int chunkZ) {
+        ChunkFarmBits chunk = getChunk(world.getId(), chunkX, chunkZ);
+        if (chunk == null && world.isChunkLoaded(chunkX, chunkZ)) {
+            onChunkLoad(world, chunkX, chunkZ);
+            chunk = getChunk(world.getId(), chunkX, chunkZ);
+        }
+        return chunk;
+    }
+
+    /**
+     * Scan the unscanned sections of a chunk overlapping a Y range
+     */
+    private void scanSections(ChunkBlocks blocks, ChunkFarmBits bits, int minY, int maxY) {
+        BlockClassifier classifier = engine.getSettings().getClassifier();
+
+        for (int index = bits.firstSection(minY); index <= bits.lastSection(maxY); index++) {
+            if (!bits.isScanned(index)) {
+                bits.install(index, scanSection(blocks, index, bits.sectionMinY(index), classifier, engine.getMetrics()));
+            }
+        }
+    }
+
+    /**
+     * Build the farmable bitmap of one section from captured chunk blocks (safe off the main thread)
+     */
+    public static long[] scanSection(ChunkBlocks blocks, int sectionIndex, int sectionMinY,
+                                     BlockClassifier classifier, PluginMetrics metrics) {
+        if (blocks.isSectionEmpty(sectionIndex)) {
+            return null;
+        }
+
+        long start = metrics.sectionScan.start();
+        long[] sectionBits = null;
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    if (classifier.isFarmable(blocks.getType(x, sectionMinY + y, z))) {
+                        if (sectionBits == null) {
+                            sectionBits = new long[ChunkFarmBits.SECTION_WORDS];
+                        }
+                        int bit = ChunkFarmBits.bitIndex(x, y, z);
+                        sectionBits[bit >>> 6] |= 1L << bit;
+                    }
+                }
+            }
+        }
+
+        metrics.blockReads.add(ChunkFarmBits.SECTION_WORDS * Long.SIZE); // One read per block of the section
+        metrics.sectionScan.stop(start);
+        return sectionBits;
+    }
+}
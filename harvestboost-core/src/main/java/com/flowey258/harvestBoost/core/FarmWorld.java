@@ -0,0 +1,27 @@
+package com.flowey258.harvestBoost.core;
+
+import java.util.UUID;
+
+/**
+ * A world as the farm index sees it: an id, a height range and loaded chunks to read blocks from
+ */
+public interface FarmWorld {
+
+    UUID getId();
+
+    int getMinHeight();
+
+    int getMaxHeight();
+
+    boolean isChunkLoaded(int chunkX, int chunkZ);
+
+    /**
+     * Type id of a block in a loaded chunk (main thread)
+     */
+    int getBlockType(int x, int y, int z);
+
+    /**
+     * Capture the blocks of a loaded chunk (main thread); the result may be read from any thread
+     */
+    ChunkBlocks snapshotChunk(int chunkX, int chunkZ);
+}
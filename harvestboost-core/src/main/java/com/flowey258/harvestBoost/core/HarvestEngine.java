@@ -0,0 +1,69 @@
+package com.flowey258.harvestBoost.core;
+
+import com.flowey258.harvestBoost.metrics.PluginMetrics;
+
+import java.util.function.Supplier;
+
+/**
+ * The boost, presence and farm index logic, independent of any server API.
+ *
+ * Worlds and players are identified by UUID and positions are plain coordinates; everything the
+ * engine needs from the server comes through an {@link EnginePlatform} and {@link FarmWorld}s.
+ * Not thread-safe; like the server it runs on, the engine is driven from a single main thread.
+ */
+public final class HarvestEngine {
+
+    private final Supplier<? extends EngineSettings> settings;
+    private final PluginMetrics metrics;
+    private final EnginePlatform platform;
+
+    private final BoostEngine boosts;
+    private final PresenceTracker presence;
+    private final FarmIndex farmIndex;
+
+    public HarvestEngine(Supplier<? extends EngineSettings> settings, PluginMetrics metrics, EnginePlatform platform) {
+        this.settings = settings;
+        this.metrics = metrics;
+        this.platform = platform;
+
+        this.boosts = new BoostEngine(this);
+        this.presence = new PresenceTracker(this);
+        this.farmIndex = new FarmIndex(this);
+    }
+
+    /**
+     * Get the current settings snapshot; read it once per operation
+     */
+    public EngineSettings getSettings() {
+        return settings.get();
+    }
+
+    public PluginMetrics getMetrics() {
+        return metrics;
+    }
+
+    public EnginePlatform getPlatform() {
+        return platform;
+    }
+
+    public BoostEngine getBoosts() {
+        return boosts;
+    }
+
+    public PresenceTracker getPresence() {
+        return presence;
+    }
+
+    public FarmIndex getFarmIndex() {
+        return farmIndex;
+    }
+
+    /**
+     * Drop every cached boost, presence and index entry
+     */
+    public void clearAll() {
+        boosts.clearCache();
+        presence.clearAll();
+        farmIndex.clearAll();
+    }
+}
@@ -0,0 +1,251 @@
+package com.flowey258.harvestBoost.core;
+
+import com.flowey258.harvestBoost.util.BlockKeys;
+import com.flowey258.harvestBoost.util.LongHashSet;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Collects the growth particles of one tick and hands each viewer the nearest merged bursts.
+ *
+ * A block sparkles at most once per tick, the blocks of a chunk are merged into a single burst and
+ * every viewer receives no more than its packet budget, nearest bursts first. What a viewer is and
+ * how a burst is spawned is up to the platform.
+ *
+ * @param <P> the platform's player type
+ */
+public class ParticleBatcher<P> {
+
+    // A single merged burst never grows past this many bursts' worth of particles
+    private static final int MAX_MERGED_BURSTS = 4;
+
+    // World UID -> growth particles collected during the current tick
+    private final Map<UUID, WorldEmissions> pending = new HashMap<>();
+
+    // Reused between flushes to rank clusters by distance for each viewer
+    private int[] candidates = new int[16];
+    private double[] distances = new double[16];
+
+    // Statistics since startup
+    private long queuedTotal;
+    private long duplicateTotal;
+    private long packetsSent;
+    private long packetsCulled;
+
+    /**
+     * Queue growth particles above a block, delivered by the next flush
+     */
+    public void queue(UUID worldId, int x, int y, int z) {
+        WorldEmissions emissions = pending.get(worldId);
+        if (emissions == null) {
+            emissions = new WorldEmissions();
+            pending.put(worldId, emissions);
+        }
+
+        // A block boosted several times in one tick still only sparkles once
+        if (!emissions.blocks.add(BlockKeys.packBlock(x, y, z))) {
+            duplicateTotal++;
+            return;
+        }
+
+        long chunkKey = BlockKeys.packColumn(x >> 4, z >> 4);
+        ParticleCluster cluster = emissions.chunks.get(chunkKey);
+        if (cluster == null) {
+            cluster = new ParticleCluster(x, y, z);
+            emissions.chunks.put(chunkKey, cluster);
+            emissions.clusters.add(cluster);
+        } else {
+            cluster.include(x, y, z);
+        }
+        queuedTotal++;
+    }
+
+    /**
+     * Deliver the particles collected this tick to every viewer close enough, within their budget
+     */
+    public void flush(Viewers<P> viewers, Emitter<P> emitter, int viewDistance, int budget, int particleAmount) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        double maxDistanceSquared = (double) viewDistance * viewDistance;
+        for (Map.Entry<UUID, WorldEmissions> entry : pending.entrySet()) {
+            List<ParticleCluster> clusters = entry.getValue().clusters;
+            if (candidates.length < clusters.size()) {
+                candidates = new int[clusters.size()];
+                distances = new double[clusters.size()];
+            }
+
+            viewers.forEachViewer(entry.getKey(), (viewer, x, y, z) ->
+                    deliver(viewer, x, y, z, clusters, emitter, maxDistanceSquared, budget, particleAmount));
+        }
+
+        pending.clear();
+    }
+
+    /**
+     * Send one viewer the nearest merged bursts, up to its packet budget
+     */
+    private void deliver(P viewer, double viewerX, double viewerY, double viewerZ, List<ParticleCluster> clusters,
+                         Emitter<P> emitter, double maxDistanceSquared, int budget, int particleAmount) {
+        // Collect the bursts within view distance of this viewer
+        int count = 0;
+        for (int i = 0; i < clusters.size(); i++) {
+            ParticleCluster cluster = clusters.get(i);
+            double dx = cluster.centerX() - viewerX;
+            double dy = cluster.centerY() - viewerY;
+            double dz = cluster.centerZ() - viewerZ;
+            double distanceSquared = dx * dx + dy * dy + dz * dz;
+
+            if (distanceSquared <= maxDistanceSquared) {
+                candidates[count] = i;
+                distances[count] = distanceSquared;
+                count++;
+            }
+        }
+
+        packetsCulled += clusters.size() - count;
+
+        // Over budget: keep only the nearest bursts (budget is small, so a partial selection sort will do)
+        if (count > budget) {
+            for (int i = 0; i < budget; i++) {
+                int nearest = i;
+                for (int j = i + 1; j < count; j++) {
+                    if (distances[j] < distances[nearest]) {
+                        nearest = j;
+                    }
+                }
+                swap(i, nearest);
+            }
+            packetsCulled += count - budget;
+            count = budget;
+        }
+
+        for (int i = 0; i < count; i++) {
+            ParticleCluster cluster = clusters.get(candidates[i]);
+            emitter.emit(viewer,
+                    cluster.centerX(), cluster.centerY(), cluster.centerZ(),
+                    particleAmount * Math.min(cluster.count, MAX_MERGED_BURSTS),
+                    (cluster.maxX - cluster.minX) / 2.0 + 0.3,
+                    (cluster.maxY - cluster.minY) / 2.0 + 0.2,
+                    (cluster.maxZ - cluster.minZ) / 2.0 + 0.3);
+        }
+        packetsSent += count;
+    }
+
+    private void swap(int a, int b) {
+        int candidate = candidates[a];
+        candidates[a] = candidates[b];
+        candidates[b] = candidate;
+
+        double distance = distances[a];
+        distances[a] = distances[b];
+        distances[b] = distance;
+    }
+
+    /**
+     * Drop particles that were not delivered yet
+     */
+    public void clear() {
+        pending.clear();
+    }
+
+    public long getQueuedCount() {
+        return queuedTotal;
+    }
+
+    /**
+     * Number of emissions dropped because their block already sparkled that tick
+     */
+    public long getDuplicateCount() {
+        return duplicateTotal;
+    }
+
+    public long getPacketsSent() {
+        return packetsSent;
+    }
+
+    /**
+     * Number of bursts not sent to a viewer because of distance or budget
+     */
+    public long getPacketsCulled() {
+        return packetsCulled;
+    }
+
+    /**
+     * Lists the viewers of a world with their position
+     */
+    @FunctionalInterface
+    public interface Viewers<P> {
+        void forEachViewer(UUID worldId, ViewerConsumer<P> consumer);
+    }
+
+    @FunctionalInterface
+    public interface ViewerConsumer<P> {
+        void accept(P viewer, double x, double y, double z);
+    }
+
+    /**
+     * Spawns one merged burst for a viewer
+     */
+    @FunctionalInterface
+    public interface Emitter<P> {
+        void emit(P viewer, double x, double y, double z, int amount, double offsetX, double offsetY, double offsetZ);
+    }
+
+    /**
+     * Emissions of one world for the current tick
+     */
+    private static final class WorldEmissions {
+        private final LongHashSet blocks = new LongHashSet();
+        private final Map<Long, ParticleCluster> chunks = new HashMap<>();
+        private final List<ParticleCluster> clusters = new ArrayList<>();
+    }
+
+    /**
+     * Bounds and block count of the particles merged for one chunk
+     */
+    private static final class ParticleCluster {
+        private int minX;
+        private int minY;
+        private int minZ;
+        private int maxX;
+        private int maxY;
+        private int maxZ;
+        private int count;
+
+        private ParticleCluster(int x, int y, int z) {
+            minX = maxX = x;
+            minY = maxY = y;
+            minZ = maxZ = z;
+            count = 1;
+        }
+
+        private void include(int x, int y, int z) {
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            minZ = Math.min(minZ, z);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+            maxZ = Math.max(maxZ, z);
+            count++;
+        }
+
+        // Slightly above the middle of the merged blocks
+        private double centerX() {
+            return (minX + maxX) / 2.0 + 0.5;
+        }
+
+        private double centerY() {
+            return (minY + maxY) / 2.0 + 0.5;
+        }
+
+        private double centerZ() {
+            return (minZ + maxZ) / 2.0 + 0.5;
+        }
+    }
+}
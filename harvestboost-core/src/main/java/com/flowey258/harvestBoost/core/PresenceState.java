@@ -0,0 +1,13 @@
+package com.flowey258.harvestBoost.core;
+
+/**
+ * Farming presence state of a player
+ */
+public enum PresenceState {
+    // Not near a farm
+    OUTSIDE,
+    // Near a farm, minimum presence time not reached yet
+    QUALIFYING,
+    // Near a farm long enough to count towards boosts
+    QUALIFIED
+}
@@ -0,0 +1,439 @@
+package com.flowey258.harvestBoost.core;
+
+import com.flowey258.harvestBoost.util.FarmerGrid;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PresenceTracker {
+
+    private final HarvestEngine engine;
+
+    // Track player presence in farming areas
+    private final Map<UUID, PresenceData> playerPresence = new ConcurrentHashMap<>();
+
+    // Players still qualifying, ordered by the tick they qualify at
+    private final PriorityQueue<PendingQualification> pendingQualifications =
+            new PriorityQueue<>(Comparator.comparingLong(PendingQualification::dueTick));
+
+    // Spatial index of tracked farmers for nearby-farmer range queries
+    private final FarmerGrid farmerGrid = new FarmerGrid(10);
+
+    // Server ticks seen since the tracker started, advanced by the presence tick task
+    private long currentTick;
+
+    public PresenceTracker(HarvestEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Advance one server tick, qualifying players whose minimum presence time just ended
+     */
+    public void tick() {
+        currentTick++;
+
+        PendingQualification next;
+        while ((next = pendingQualifications.peek()) != null && next.dueTick() <= currentTick) {
+            pendingQualifications.poll();
+
+            // Skip players who left, changed area or stepped away since they were queued
+            PresenceData data = playerPresence.get(next.playerId());
+            if (data != next.presence() || data.state != PresenceState.QUALIFYING) {
+                continue;
+            }
+
+            if (engine.getPlatform().isOnline(next.playerId())) {
+                setState(next.playerId(), data, PresenceState.QUALIFIED);
+            }
+        }
+    }
+
+    /**
+     * Update a player's presence in a farming area, returning true when they entered a new area
+     */
+    public boolean updatePresence(UUID playerId, UUID worldId, double x, double y, double z) {
+        PresenceData data = playerPresence.get(playerId);
+
+        // Check if player moved to a different farming area
+        if (data == null || !isSameFarmingArea(data, worldId, x, y, z)) {
+            if (data != null) {
+                setState(playerId, data, PresenceState.OUTSIDE);
+            }
+
+            // Player entered new farming area
+            data = new PresenceData(currentTick, currentTick + engine.getSettings().getMinimumPresenceTime(),
+                    worldId, x, y, z);
+            playerPresence.put(playerId, data);
+            setState(playerId, data, stateForTime(data));
+            return true;
+        }
+
+        // Update presence in same area
+        double previousX = data.x;
+        double previousY = data.y;
+        double previousZ = data.z;
+        data.x = x;
+        data.y = y;
+        data.z = z;
+
+        if (data.state == PresenceState.OUTSIDE) {
+            // Back near the farm, time spent away still counts
+            setState(playerId, data, stateForTime(data));
+        } else if (data.state == PresenceState.QUALIFIED
+                && farmingMoveChangesCells(playerId, data, previousX, previousY, previousZ)) {
+            engine.getBoosts().invalidateAround(worldId, previousX, previousZ);
+            engine.getBoosts().invalidateAround(worldId, x, z);
+        }
+        return false;
+    }
+
+    /**
+     * Record where a farmer stands in the farmer grid, starting to track them if needed
+     */
+    public void placeFarmer(UUID playerId, UUID worldId, double x, double y, double z) {
+        moveFarmer(playerId, worldId, x, y, z);
+    }
+
+    /**
+     * Record that a tracked player is no longer near any farmable blocks
+     */
+    public void updateAwayFromFarm(UUID playerId) {
+        PresenceData data = playerPresence.get(playerId);
+        if (data != null) {
+            setState(playerId, data, PresenceState.OUTSIDE);
+        }
+    }
+
+    /**
+     * Keep a tracked farmer's grid position in sync as they move
+     */
+    public void updatePosition(UUID playerId, UUID worldId, double x, double y, double z) {
+        if (farmerGrid.contains(playerId)) {
+            moveFarmer(playerId, worldId, x, y, z);
+        }
+    }
+
+    /**
+     * Check if a tracked player currently counts towards the boost at a crop position
+     */
+    public boolean isContributing(UUID playerId, UUID worldId, double x, double y, double z) {
+        PresenceData data = playerPresence.get(playerId);
+        if (data == null || data.state != PresenceState.QUALIFIED || !data.worldId.equals(worldId)) {
+            return false;
+        }
+
+        double dx = data.x - x;
+        double dy = data.y - y;
+        double dz = data.z - z;
+        int farmRadius = engine.getSettings().getFarmingDetectionRadius();
+        return dx * dx + dy * dy + dz * dz <= farmRadius * farmRadius;
+    }
+
+    /**
+     * Get a player's current presence, or null when they are not tracked
+     */
+    public PresenceData getPresence(UUID playerId) {
+        return playerPresence.get(playerId);
+    }
+
+    /**
+     * Get a player's current presence state
+     */
+    public PresenceState getPresenceState(UUID playerId) {
+        PresenceData data = playerPresence.get(playerId);
+        return data != null ? data.state : PresenceState.OUTSIDE;
+    }
+
+    /**
+     * Get the time a player has been in their current farming area (in milliseconds)
+     */
+    public long getTimeInCurrentArea(UUID playerId) {
+        PresenceData data = playerPresence.get(playerId);
+        if (data == null) {
+            return 0;
+        }
+
+        return (currentTick - data.entryTick) * 50; // Convert ticks to milliseconds
+    }
+
+    /**
+     * Visit every farmer currently counting towards boosts in a world, with their last farming position
+     */
+    public void forEachQualifiedFarmer(UUID worldId, FarmerConsumer consumer) {
+        for (Map.Entry<UUID, PresenceData> entry : playerPresence.entrySet()) {
+            PresenceData data = entry.getValue();
+            if (data.state == PresenceState.QUALIFIED && data.worldId.equals(worldId)) {
+                consumer.accept(entry.getKey(), data.x, data.y, data.z);
+            }
+        }
+    }
+
+    /**
+     * Remove player from tracking when they leave
+     */
+    public void removePlayer(UUID playerId) {
+        PresenceData data = playerPresence.remove(playerId);
+        if (data != null) {
+            setState(playerId, data, PresenceState.OUTSIDE);
+        }
+        farmerGrid.remove(playerId);
+    }
+
+    /**
+     * Clean up old presence data for offline players
+     */
+    public void cleanupOfflinePlayers() {
+        playerPresence.entrySet().removeIf(entry -> {
+            if (!engine.getPlatform().isOnline(entry.getKey())) {
+                // Gone without a quit event, so there is nobody to announce the change for
+                farmerGrid.remove(entry.getKey());
+                PresenceData data = entry.getValue();
+                if (data.state == PresenceState.QUALIFIED) {
+                    engine.getBoosts().invalidateAround(data.worldId, data.x, data.z);
+                }
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Clear all tracking data
+     */
+    public void clearAll() {
+        playerPresence.clear();
+        pendingQualifications.clear();
+        farmerGrid.clear();
+    }
+
+    /**
+     * Get the spatial index of tracked farmers
+     */
+    public FarmerGrid getFarmerGrid() {
+        return farmerGrid;
+    }
+
+    /**
+     * Number of players with a tracked presence
+     */
+    public int size() {
+        return playerPresence.size();
+    }
+
+    /**
+     * State a player near their farm is in, judged by how long ago they entered it
+     */
+    private PresenceState stateForTime(PresenceData data) {
+        return currentTick >= data.qualifyTick ? PresenceState.QUALIFIED : PresenceState.QUALIFYING;
+    }
+
+    /**
+     * Move a player to a new presence state, invalidating nearby boosts and announcing the change
+     */
+    private void setState(UUID playerId, PresenceData data, PresenceState newState) {
+        PresenceState previousState = data.state;
+        if (previousState == newState) {
+            return;
+        }
+
+        data.state = newState;
+
+        // Cached boosts around the area only change when a player starts or stops counting
+        if (previousState == PresenceState.QUALIFIED || newState == PresenceState.QUALIFIED) {
+            engine.getBoosts().invalidateAround(data.worldId, data.x, data.z);
+        }
+
+        if (newState == PresenceState.QUALIFYING) {
+            pendingQualifications.add(new PendingQualification(playerId, data.qualifyTick, data));
+        }
+
+        engine.getPlatform().onPresenceChange(playerId, previousState, newState, data);
+    }
+
+    /**
+     * Check if a position is in the same farming area as a presence
+     */
+    private boolean isSameFarmingArea(PresenceData data, UUID worldId, double x, double y, double z) {
+        if (!data.worldId.equals(worldId)) {
+            return false;
+        }
+
+        double dx = data.areaX - x;
+        double dy = data.areaY - y;
+        double dz = data.areaZ - z;
+        int farmRadius = engine.getSettings().getFarmingDetectionRadius();
+        return dx * dx + dy * dy + dz * dz <= farmRadius * farmRadius;
+    }
+
+    /**
+     * Move a farmer in the grid, invalidating nearby boosts only when a cell gains or loses them
+     */
+    private void moveFarmer(UUID playerId, UUID worldId, double x, double y, double z) {
+        // Walking around the farm keeps every cell within reach, so most moves change nothing
+        PresenceData data = playerPresence.get(playerId);
+        int radius = engine.getSettings().getDetectionRadius();
+        boolean changesCells = data != null && data.state == PresenceState.QUALIFIED
+                && anyCellNear(data.x, data.y, data.z, (centreX, centreY, centreZ) -> {
+                    boolean reachedBefore = farmerGrid.isNear(playerId, data.worldId, centreX, centreY, centreZ, radius);
+                    boolean reachesNow = data.worldId.equals(worldId) && isWithin(x, y, z, centreX, centreY, centreZ, radius);
+                    return reachedBefore != reachesNow;
+                });
+
+        farmerGrid.update(playerId, worldId, x, y, z);
+
+        if (changesCells) {
+            engine.getBoosts().invalidateAround(data.worldId, data.x, data.z);
+        }
+    }
+
+    /**
+     * Check if moving a qualified farmer's farming position from a previous one changes the cells they count for
+     */
+    private boolean farmingMoveChangesCells(UUID playerId, PresenceData data,
+                                            double previousX, double previousY, double previousZ) {
+        int farmRadius = engine.getSettings().getFarmingDetectionRadius();
+        int radius = engine.getSettings().getDetectionRadius();
+
+        // Only cells the farmer stands close enough to can gain or lose them
+        CellTest changed = (centreX, centreY, centreZ) ->
+                isWithin(previousX, previousY, previousZ, centreX, centreY, centreZ, farmRadius)
+                        != isWithin(data.x, data.y, data.z, centreX, centreY, centreZ, farmRadius)
+                && farmerGrid.isNear(playerId, data.worldId, centreX, centreY, centreZ, radius);
+
+        return anyCellNear(previousX, previousY, previousZ, changed) || anyCellNear(data.x, data.y, data.z, changed);
+    }
+
+    /**
+     * Check if the test holds for the centre of any boost cell within farming radius of a position
+     */
+    private boolean anyCellNear(double x, double y, double z, CellTest test) {
+        EngineSettings settings = engine.getSettings();
+        int farmRadius = settings.getFarmingDetectionRadius();
+        int shift = settings.getBoostCellShift();
+        double half = (1 << shift) / 2.0;
+        int minCellX = (int) Math.floor(x - farmRadius) >> shift;
+        int maxCellX = (int) Math.floor(x + farmRadius) >> shift;
+        int minCellY = (int) Math.floor(y - farmRadius) >> shift;
+        int maxCellY = (int) Math.floor(y + farmRadius) >> shift;
+        int minCellZ = (int) Math.floor(z - farmRadius) >> shift;
+        int maxCellZ = (int) Math.floor(z + farmRadius) >> shift;
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                    double centreX = (cellX << shift) + half;
+                    double centreY = (cellY << shift) + half;
+                    double centreZ = (cellZ << shift) + half;
+
+                    // A farmer only counts for cells whose centre is within farming radius of where they farm
+                    if (isWithin(x, y, z, centreX, centreY, centreZ, farmRadius)
+                            && test.test(centreX, centreY, centreZ)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if two positions are within a radius of each other
+     */
+    private static boolean isWithin(double x1, double y1, double z1, double x2, double y2, double z2, double radius) {
+        double dx = x1 - x2;
+        double dy = y1 - y2;
+        double dz = z1 - z2;
+        return dx * dx + dy * dy + dz * dz <= radius * radius;
+    }
+
+    /**
+     * Presence of a player in their current farming area, advanced in place on the main thread
+     */
+    public static final class PresenceData {
+        private final long entryTick;
+        private final long qualifyTick;
+        private final UUID worldId;
+        private final double areaX;
+        private final double areaY;
+        private final double areaZ;
+        private double x;
+        private double y;
+        private double z;
+        private PresenceState state = PresenceState.OUTSIDE;
+
+        private PresenceData(long entryTick, long qualifyTick, UUID worldId, double x, double y, double z) {
+            this.entryTick = entryTick;
+            this.qualifyTick = qualifyTick;
+            this.worldId = worldId;
+            this.areaX = x;
+            this.areaY = y;
+            this.areaZ = z;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        public long entryTick() {
+            return entryTick;
+        }
+
+        public UUID worldId() {
+            return worldId;
+        }
+
+        /**
+         * Where the player entered their current farming area
+         */
+        public double areaX() {
+            return areaX;
+        }
+
+        public double areaY() {
+            return areaY;
+        }
+
+        public double areaZ() {
+            return areaZ;
+        }
+
+        /**
+         * Where the player last farmed in the area
+         */
+        public double x() {
+            return x;
+        }
+
+        public double y() {
+            return y;
+        }
+
+        public double z() {
+            return z;
+        }
+
+        public PresenceState state() {
+            return state;
+        }
+    }
+
+    /**
+     * Receives one farmer by player id and farming position
+     */
+    @FunctionalInterface
+    public interface FarmerConsumer {
+        void accept(UUID playerId, double x, double y, double z);
+    }
+
+    /**
+     * Tests one boost cell by its centre
+     */
+    @FunctionalInterface
+    private interface CellTest {
+        boolean test(double centreX, double centreY, double centreZ);
+    }
+
+    private record PendingQualification(UUID playerId, long dueTick, PresenceData presence) {}
+}
@@ -0,0 +1,63 @@
+package com.flowey258.harvestBoost.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic event counter, a single volatile read and nothing else while metrics are disabled.
+ *
+ * Safe to update from any thread; the per-minute window is rolled by the main thread.
+ */
+public final class Counter {
+
+    private final String name;
+    private final MetricsRegistry registry;
+    private final LongAdder total = new LongAdder();
+
+    // Total when the current window started, and the rate of the last full window
+    private long totalAtRoll;
+    private volatile double lastRatePerMinute;
+
+    Counter(String name, MetricsRegistry registry) {
+        this.name = name;
+        this.registry = registry;
+    }
+
+    public void increment() {
+        if (registry.isEnabled()) {
+            total.increment();
+        }
+    }
+
+    public void add(long amount) {
+        if (registry.isEnabled()) {
+            total.add(amount);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * Events per minute over the last full window, extrapolated until the first window ends
+     */
+    public double getRatePerMinute() {
+        return registry.hasFullWindow() ? lastRatePerMinute : registry.extrapolatePerMinute(total.sum());
+    }
+
+    void roll(long windowNanos) {
+        long now = total.sum();
+        lastRatePerMinute = MetricsRegistry.perMinute(now - totalAtRoll, windowNanos);
+        totalAtRoll = now;
+    }
+
+    void reset() {
+        total.reset();
+        totalAtRoll = 0;
+        lastRatePerMinute = 0;
+    }
+}
@@ -0,0 +1,104 @@
+package com.flowey258.harvestBoost.metrics;
+
+/**
+ * Immutable copy of a {@link LatencyHistogram}'s buckets.
+ *
+ * Percentiles are reported as the upper bound of the bucket they fall into, so they are never
+ * optimistic by more than the bucket width (at most 1/8 of the value).
+ */
+public final class HistogramSnapshot {
+
+    public static final HistogramSnapshot EMPTY =
+            new HistogramSnapshot(new long[LatencyHistogram.BUCKET_COUNT], 0);
+
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+
+    HistogramSnapshot(long[] counts, long totalNanos) {
+        this.counts = counts;
+        this.totalNanos = totalNanos;
+
+        long sum = 0;
+        for (long bucketCount : counts) {
+            sum += bucketCount;
+        }
+        this.count = sum;
+    }
+
+    /**
+     * Values recorded since an older snapshot of the same histogram
+     */
+    public HistogramSnapshot since(HistogramSnapshot earlier) {
+        long[] delta = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            delta[i] = Math.max(0, counts[i] - earlier.counts[i]);
+        }
+        return new HistogramSnapshot(delta, Math.max(0, totalNanos - earlier.totalNanos));
+    }
+
+    /**
+     * Duration in nanoseconds that a fraction of the values (0.0 - 1.0) did not exceed
+     */
+    public long percentile(double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+
+        // Rank of the value asked for, 1-based so p100 is the last value and p0 the first
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return LatencyHistogram.bucketUpperBound(i);
+            }
+        }
+        return LatencyHistogram.bucketUpperBound(counts.length - 1);
+    }
+
+    /**
+     * Slowest recorded duration in nanoseconds, to bucket precision
+     */
+    public long max() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] > 0) {
+                return LatencyHistogram.bucketUpperBound(i);
+            }
+        }
+        return 0;
+    }
+
+    public long mean() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long totalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Number of values recorded into one bucket
+     */
+    public long bucketCount(int index) {
+        return counts[index];
+    }
+
+    /**
+     * Number of buckets, see {@link #bucketUpperBound(int)} for their bounds
+     */
+    public int bucketLength() {
+        return counts.length;
+    }
+
+    /**
+     * Highest duration in nanoseconds that falls into a bucket
+     */
+    public static long bucketUpperBound(int index) {
+        return LatencyHistogram.bucketUpperBound(index);
+    }
+}
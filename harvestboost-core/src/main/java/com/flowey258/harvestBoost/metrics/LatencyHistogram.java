@@ -0,0 +1,96 @@
+package com.flowey258.harvestBoost.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear latency histogram in nanoseconds, in the spirit of HdrHistogram.
+ *
+ * A value is bucketed by its highest set bit plus the three bits below it, so every bucket is at
+ * most 1/8 of its values wide whatever the magnitude, and recording costs one bit scan and two
+ * LongAdder increments. The adders stripe under contention, so the async scan workers can record
+ * next to the main thread without fighting over one cache line.
+ *
+ * Values from 1 ns to about 68 s are told apart, anything slower lands in the last bucket.
+ */
+public final class LatencyHistogram {
+
+    // Bits below the highest set bit that pick the linear sub-bucket
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // Highest set bit still told apart, 2^36 ns is about 68 seconds
+    private static final int MAX_MAGNITUDE = 36;
+
+    static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder totalNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record one duration in nanoseconds
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0; // nanoTime is monotonic, but never trust a clock with an index
+        }
+        buckets[bucketIndex(nanos)].increment();
+        totalNanos.add(nanos);
+    }
+
+    /**
+     * Copy the current bucket counts; concurrent records may or may not be included
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new HistogramSnapshot(counts, totalNanos.sum());
+    }
+
+    /**
+     * Forget every recorded value
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalNanos.reset();
+    }
+
+    /**
+     * Bucket a duration falls into
+     */
+    static int bucketIndex(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos; // Small values get one exact bucket each
+        }
+
+        int magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+        if (magnitude > MAX_MAGNITUDE) {
+            return BUCKET_COUNT - 1;
+        }
+
+        int subBucket = (int) (nanos >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Highest duration that falls into a bucket
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,122 @@
+package com.flowey258.harvestBoost.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Named counters and timers sharing one on/off switch and one per-minute window.
+ *
+ * Metrics are registered while the registry is constructed and never change afterwards, so the
+ * lists can be read from any thread. Rolling the window and resetting are main thread only.
+ */
+public class MetricsRegistry {
+
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    private final List<Counter> counters = new ArrayList<>();
+    private final List<Timer> timers = new ArrayList<>();
+
+    private volatile boolean enabled;
+
+    // Start of the current window and of the data collected since the last reset
+    private volatile long windowStart = System.nanoTime();
+    private volatile long resetAt = windowStart;
+    private volatile boolean fullWindow;
+
+    protected Counter counter(String name) {
+        Counter counter = new Counter(name, this);
+        counters.add(counter);
+        return counter;
+    }
+
+    protected Timer timer(String name) {
+        Timer timer = new Timer(name, this);
+        timers.add(timer);
+        return timer;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Switch collection on or off, switching it on starts from a clean slate
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            reset();
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * Close the current window, making its rates and latencies the reported ones
+     */
+    public void rollWindow() {
+        long now = System.nanoTime();
+        long windowNanos = now - windowStart;
+        if (windowNanos <= 0) {
+            return;
+        }
+
+        for (Counter counter : counters) {
+            counter.roll(windowNanos);
+        }
+        for (Timer timer : timers) {
+            timer.roll(windowNanos);
+        }
+
+        windowStart = now;
+        fullWindow = true;
+    }
+
+    /**
+     * Forget everything recorded so far
+     */
+    public void reset() {
+        for (Counter counter : counters) {
+            counter.reset();
+        }
+        for (Timer timer : timers) {
+            timer.reset();
+        }
+
+        windowStart = System.nanoTime();
+        resetAt = windowStart;
+        fullWindow = false;
+    }
+
+    public List<Counter> getCounters() {
+        return Collections.unmodifiableList(counters);
+    }
+
+    public List<Timer> getTimers() {
+        return Collections.unmodifiableList(timers);
+    }
+
+    /**
+     * Whether a whole window has been rolled since the last reset
+     */
+    public boolean hasFullWindow() {
+        return fullWindow;
+    }
+
+    /**
+     * Nanoseconds since the last reset
+     */
+    public long getCollectingNanos() {
+        return System.nanoTime() - resetAt;
+    }
+
+    /**
+     * Per-minute rate of a count collected since the last reset
+     */
+    double extrapolatePerMinute(long count) {
+        return perMinute(count, getCollectingNanos());
+    }
+
+    static double perMinute(long count, long nanos) {
+        return nanos <= 0 ? 0 : count * (double) NANOS_PER_MINUTE / nanos;
+    }
+}
@@ -0,0 +1,91 @@
+package com.flowey258.harvestBoost.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable set of gauges and counters copied out of main-thread-only state.
+ *
+ * Cache sizes, per-world farmer counts and manager statistics live in structures only the main
+ * thread may read, so the main thread copies them into a snapshot and publishes it; a scrape on
+ * another thread only ever reads the published copy.
+ */
+public final class MetricsSnapshot {
+
+    public static final MetricsSnapshot EMPTY = new MetricsSnapshot(Collections.emptyList(), 0);
+
+    private final List<Family> families;
+    private final long capturedAt;
+
+    private MetricsSnapshot(List<Family> families, long capturedAt) {
+        this.families = families;
+        this.capturedAt = capturedAt;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<Family> getFamilies() {
+        return families;
+    }
+
+    /**
+     * Wall clock time the snapshot was taken, in milliseconds (0 for the empty snapshot)
+     */
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    public enum Type {
+        GAUGE,
+        COUNTER
+    }
+
+    /**
+     * One value, optionally told apart from its siblings by a single label
+     */
+    public record Sample(String labelName, String labelValue, double value) {}
+
+    /**
+     * Samples sharing a name, help text and type
+     */
+    public record Family(String name, String help, Type type, List<Sample> samples) {}
+
+    public static final class Builder {
+        private final List<Family> families = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder gauge(String name, String help, double value) {
+            return add(name, help, Type.GAUGE, List.of(new Sample(null, null, value)));
+        }
+
+        public Builder counter(String name, String help, double value) {
+            return add(name, help, Type.COUNTER, List.of(new Sample(null, null, value)));
+        }
+
+        /**
+         * Add a gauge with one sample per label value
+         */
+        public Builder gauge(String name, String help, String labelName, Map<String, ? extends Number> values) {
+            List<Sample> samples = new ArrayList<>(values.size());
+            for (Map.Entry<String, ? extends Number> entry : values.entrySet()) {
+                samples.add(new Sample(labelName, entry.getKey(), entry.getValue().doubleValue()));
+            }
+            return add(name, help, Type.GAUGE, Collections.unmodifiableList(samples));
+        }
+
+        private Builder add(String name, String help, Type type, List<Sample> samples) {
+            families.add(new Family(name, help, type, samples));
+            return this;
+        }
+
+        public MetricsSnapshot build() {
+            return new MetricsSnapshot(List.copyOf(families), System.currentTimeMillis());
+        }
+    }
+}
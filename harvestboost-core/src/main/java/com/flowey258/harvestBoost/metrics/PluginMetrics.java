@@ -0,0 +1,36 @@
+package com.flowey258.harvestBoost.metrics;
+
+/**
+ * The plugin's hot-path instruments, reported by /harvestboost metrics.
+ *
+ * Disabled unless performance.metrics is set; while disabled every instrument costs a volatile
+ * read and a branch.
+ */
+public final class PluginMetrics extends MetricsRegistry {
+
+    // BlockGrowEvent handling, from the event to the boost being queued
+    public final Timer growEvent = timer("grow-event");
+
+    // Boost cell lookups: valid cached cell, no cell yet, cell invalidated by a farmer change
+    public final Counter boostCacheHits = counter("boost-cache.hits");
+    public final Counter boostCacheMisses = counter("boost-cache.misses");
+    public final Counter boostCacheStale = counter("boost-cache.stale");
+
+    public final Timer boostMultiplier = timer("boost.multiplier");
+    public final Timer boostRecompute = timer("boost.recompute");
+    public final Timer countNearbyFarmers = timer("boost.count-farmers");
+
+    // Chunk section scans for the farm index, on the main thread and the async workers alike
+    public final Timer sectionScan = timer("farm-scan.section");
+    public final Counter blockReads = counter("farm-scan.block-reads");
+
+    // Phases of the boost update task
+    public final Timer updateTotal = timer("update.total");
+    public final Timer updateTracking = timer("update.tracking");
+    public final Timer updateCleanup = timer("update.cleanup");
+    public final Timer updateFrame = timer("update.frame");
+    public final Timer updateExtraGrowth = timer("update.extra-growth");
+    public final Timer updatePublish = timer("update.publish");
+    public final Timer updateActionBars = timer("update.action-bars");
+    public final Timer updateAmbient = timer("update.ambient");
+}
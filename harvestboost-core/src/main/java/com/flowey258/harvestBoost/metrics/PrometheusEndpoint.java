@@ -0,0 +1,234 @@
+package com.flowey258.harvestBoost.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves metrics in the Prometheus text format from the JDK's built-in HTTP server.
+ *
+ * A scrape renders the last published {@link MetricsSnapshot} together with the registry's
+ * counters and timers, which are thread-safe by construction; nothing on the request thread
+ * touches the game server. Requests are handled one at a time on a single daemon thread.
+ *
+ * Start, stop and publish are called from the main thread.
+ */
+public final class PrometheusEndpoint {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String PREFIX = "harvestboost_";
+
+    // Quantiles reported for every timer
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private final MetricsRegistry registry;
+    private volatile MetricsSnapshot snapshot = MetricsSnapshot.EMPTY;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private String boundHost;
+    private int boundPort;
+    private String boundPath;
+
+    public PrometheusEndpoint(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Serve on an address and path, restarting only if either changed
+     */
+    public void start(String host, int port, String path) throws IOException {
+        if (server != null && host.equals(boundHost) && port == boundPort && path.equals(boundPath)) {
+            return;
+        }
+        stop();
+
+        HttpServer created = HttpServer.create(new InetSocketAddress(host, port), 0);
+        ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HarvestBoost-Metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        created.createContext(path, this::handle);
+        created.setExecutor(worker);
+        created.start();
+
+        server = created;
+        executor = worker;
+        boundHost = host;
+        boundPort = port;
+        boundPath = path;
+    }
+
+    /**
+     * Stop serving and drop the published snapshot
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            executor = null;
+        }
+        snapshot = MetricsSnapshot.EMPTY;
+    }
+
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Make a snapshot the one scrapes report
+     */
+    public void publish(MetricsSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+
+            if (method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Render the published snapshot and the registry in the Prometheus text format
+     */
+    String render() {
+        StringBuilder out = new StringBuilder(4096);
+        MetricsSnapshot current = snapshot;
+
+        for (MetricsSnapshot.Family family : current.getFamilies()) {
+            String name = PREFIX + family.name();
+            header(out, name, family.help(), family.type().name().toLowerCase(Locale.ROOT));
+            for (MetricsSnapshot.Sample sample : family.samples()) {
+                out.append(name);
+                if (sample.labelName() != null) {
+                    out.append('{').append(sample.labelName()).append("=\"");
+                    escapeLabel(out, sample.labelValue());
+                    out.append("\"}");
+                }
+                out.append(' ');
+                appendValue(out, sample.value());
+                out.append('\n');
+            }
+        }
+
+        if (current.getCapturedAt() > 0) {
+            header(out, PREFIX + "snapshot_age_seconds", "Seconds since the server state above was captured", "gauge");
+            out.append(PREFIX).append("snapshot_age_seconds ");
+            appendValue(out, Math.max(0, System.currentTimeMillis() - current.getCapturedAt()) / 1000.0);
+            out.append('\n');
+        }
+
+        header(out, PREFIX + "metrics_enabled", "Whether hot-path instruments are collecting", "gauge");
+        out.append(PREFIX).append("metrics_enabled ").append(registry.isEnabled() ? 1 : 0).append('\n');
+
+        for (Counter counter : registry.getCounters()) {
+            String name = PREFIX + sanitize(counter.getName()) + "_total";
+            header(out, name, "Count of " + counter.getName(), "counter");
+            out.append(name).append(' ').append(counter.getTotal()).append('\n');
+        }
+
+        renderTimers(out, registry.getTimers());
+        return out.toString();
+    }
+
+    /**
+     * Timers as one summary family: quantiles over the last window, sum and count since the last reset
+     */
+    private void renderTimers(StringBuilder out, List<Timer> timers) {
+        String name = PREFIX + "latency_seconds";
+        header(out, name, "Hot-path latency, quantiles over the last metrics window", "summary");
+
+        for (Timer timer : timers) {
+            HistogramSnapshot recent = timer.getRecent();
+            HistogramSnapshot total = timer.getTotal();
+
+            for (double quantile : QUANTILES) {
+                out.append(name).append("{path=\"");
+                escapeLabel(out, timer.getName());
+                out.append("\",quantile=\"").append(quantile).append("\"} ");
+                appendValue(out, recent.percentile(quantile) / 1e9);
+                out.append('\n');
+            }
+
+            out.append(name).append("_sum{path=\"");
+            escapeLabel(out, timer.getName());
+            out.append("\"} ");
+            appendValue(out, total.totalNanos() / 1e9);
+            out.append('\n');
+
+            out.append(name).append("_count{path=\"");
+            escapeLabel(out, timer.getName());
+            out.append("\"} ").append(total.count()).append('\n');
+        }
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void appendValue(StringBuilder out, double value) {
+        if (Double.isNaN(value)) {
+            out.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            out.append(value > 0 ? "+Inf" : "-Inf");
+        } else if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+    }
+
+    private static void escapeLabel(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '"' -> out.append("\\\"");
+                case '\n' -> out.append("\\n");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    /**
+     * Turn an instrument name like boost-cache.hits into a metric name like boost_cache_hits
+     */
+    private static String sanitize(String name) {
+        StringBuilder out = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            out.append(Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : '_');
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package com.flowey258.harvestBoost.metrics;
+
+/**
+ * Latency histogram of one code path.
+ *
+ * Usage is {@code long start = timer.start(); ...; timer.stop(start);}. While metrics are disabled
+ * start() returns 0 without reading the clock and stop(0) returns at once, so an idle timer costs
+ * a volatile read and a branch. (A clock that really reads 0 loses that one sample.)
+ *
+ * Safe to record from any thread; the per-minute window is rolled by the main thread.
+ */
+public final class Timer {
+
+    private final String name;
+    private final MetricsRegistry registry;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    // Histogram when the current window started, and what was recorded in the last full window
+    private HistogramSnapshot snapshotAtRoll = HistogramSnapshot.EMPTY;
+    private volatile HistogramSnapshot lastWindow = HistogramSnapshot.EMPTY;
+    private volatile double lastRatePerMinute;
+
+    Timer(String name, MetricsRegistry registry) {
+        this.name = name;
+        this.registry = registry;
+    }
+
+    /**
+     * Start timing, returns the token to pass to stop
+     */
+    public long start() {
+        return registry.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Record the time since a start token
+     */
+    public void stop(long start) {
+        if (start != 0L) {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Everything recorded since the metrics were last reset
+     */
+    public HistogramSnapshot getTotal() {
+        return histogram.snapshot();
+    }
+
+    /**
+     * What was recorded in the last full window, or everything until the first window ends
+     */
+    public HistogramSnapshot getRecent() {
+        return registry.hasFullWindow() ? lastWindow : histogram.snapshot();
+    }
+
+    /**
+     * Calls per minute over the last full window, extrapolated until the first window ends
+     */
+    public double getRatePerMinute() {
+        return registry.hasFullWindow() ? lastRatePerMinute : registry.extrapolatePerMinute(histogram.snapshot().count());
+    }
+
+    void roll(long windowNanos) {
+        HistogramSnapshot now = histogram.snapshot();
+        HistogramSnapshot window = now.since(snapshotAtRoll);
+        lastWindow = window;
+        lastRatePerMinute = MetricsRegistry.perMinute(window.count(), windowNanos);
+        snapshotAtRoll = now;
+    }
+
+    void reset() {
+        histogram.reset();
+        snapshotAtRoll = HistogramSnapshot.EMPTY;
+        lastWindow = HistogramSnapshot.EMPTY;
+        lastRatePerMinute = 0;
+    }
+}
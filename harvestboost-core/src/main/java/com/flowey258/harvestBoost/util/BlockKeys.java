@@ -0,0 +1,59 @@
+package com.flowey258.harvestBoost.util;
+
+/**
+ * Packing helpers for turning block and column coordinates into primitive long keys
+ */
+public final class BlockKeys {
+
+    private BlockKeys() {
+    }
+
+    /**
+     * Pack block coordinates into a single long (26 bits X, 26 bits Z, 12 bits Y)
+     */
+    public static long packBlock(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    /**
+     * Unpack the X coordinate of a packed block key
+     */
+    public static int blockX(long key) {
+        return (int) (key >> 38);
+    }
+
+    /**
+     * Unpack the Y coordinate of a packed block key
+     */
+    public static int blockY(long key) {
+        return (int) (key << 52 >> 52);
+    }
+
+    /**
+     * Unpack the Z coordinate of a packed block key
+     */
+    public static int blockZ(long key) {
+        return (int) (key << 26 >> 38);
+    }
+
+    /**
+     * Pack a pair of column (or chunk) coordinates into a single long
+     */
+    public static long packColumn(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Unpack the X coordinate of a packed column key
+     */
+    public static int columnX(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Unpack the Z coordinate of a packed column key
+     */
+    public static int columnZ(long key) {
+        return (int) key;
+    }
+}
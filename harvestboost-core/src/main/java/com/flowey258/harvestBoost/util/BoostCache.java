@@ -0,0 +1,253 @@
+package com.flowey258.harvestBoost.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table from packed block keys to cached boost values.
+ *
+ * Keys, farmer counts, multipliers, version stamps and last-use marks live in parallel primitive arrays, so
+ * lookups and updates never box, allocate or build strings. Linear probing with backward-shift
+ * deletion keeps probe chains short without tombstones.
+ *
+ * Not thread-safe; all access is expected from the server main thread.
+ */
+public final class BoostCache {
+
+    // Packs to X = -2^25, which is far outside the vanilla world border
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private static final int MIN_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] playerCounts;
+    private double[] multipliers;
+    private long[] versions;
+    private long[] lastUsed;
+
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public BoostCache() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Find the slot holding a key, or -1 when it is not cached
+     */
+    public int find(long key) {
+        int slot = mix(key) & mask;
+
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                return slot;
+            }
+            if (current == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public int playerCount(int slot) {
+        return playerCounts[slot];
+    }
+
+    public double multiplier(int slot) {
+        return multipliers[slot];
+    }
+
+    public long version(int slot) {
+        return versions[slot];
+    }
+
+    /**
+     * Record that a cached value was read at the given mark
+     */
+    public void touch(int slot, long used) {
+        lastUsed[slot] = used;
+    }
+
+    /**
+     * Insert or overwrite the cached values for a key
+     */
+    public void put(long key, int playerCount, double multiplier, long version, long used) {
+        int slot = mix(key) & mask;
+
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                break;
+            }
+            if (current == EMPTY) {
+                keys[slot] = key;
+                if (++size > resizeThreshold) {
+                    playerCounts[slot] = playerCount;
+                    multipliers[slot] = multiplier;
+                    versions[slot] = version;
+                    lastUsed[slot] = used;
+                    rehash(keys.length << 1);
+                    return;
+                }
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        playerCounts[slot] = playerCount;
+        multipliers[slot] = multiplier;
+        versions[slot] = version;
+        lastUsed[slot] = used;
+    }
+
+    /**
+     * Remove a key if present
+     */
+    public boolean remove(long key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+
+        removeSlot(slot);
+        return true;
+    }
+
+    /**
+     * Remove every entry last used before the cutoff mark
+     */
+    public int removeUnusedSince(long cutoff) {
+        int removed = 0;
+        int slot = 0;
+
+        while (slot < keys.length) {
+            if (keys[slot] != EMPTY && lastUsed[slot] < cutoff) {
+                // Backward shift may pull a later entry into this slot, so re-check it
+                removeSlot(slot);
+                removed++;
+            } else {
+                slot++;
+            }
+        }
+
+        // Shrink tables that were inflated by a past burst of growth
+        int wanted = tableSizeFor(size);
+        if (wanted < keys.length >> 2) {
+            rehash(wanted);
+        }
+
+        return removed;
+    }
+
+    /**
+     * Lowest version stamp of any entry, or Long.MAX_VALUE when empty
+     */
+    public long oldestVersion() {
+        long oldest = Long.MAX_VALUE;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY && versions[i] < oldest) {
+                oldest = versions[i];
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * Visit the slot of every entry in table order
+     */
+    public void forEachSlot(SlotConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(i, keys[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Drop every entry and release the table memory
+     */
+    public void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    private void removeSlot(int slot) {
+        size--;
+
+        // Backward-shift deletion: move later members of the probe chain into the gap
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                playerCounts[gap] = playerCounts[next];
+                multipliers[gap] = multipliers[next];
+                versions[gap] = versions[next];
+                lastUsed[gap] = lastUsed[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        keys[gap] = EMPTY;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldCounts = playerCounts;
+        double[] oldMultipliers = multipliers;
+        long[] oldVersions = versions;
+        long[] oldLastUsed = lastUsed;
+
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldCounts[i], oldMultipliers[i], oldVersions[i], oldLastUsed[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        playerCounts = new int[capacity];
+        multipliers = new double[capacity];
+        versions = new long[capacity];
+        lastUsed = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int entries) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR < entries) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Receives the slot and key of one entry
+     */
+    @FunctionalInterface
+    public interface SlotConsumer {
+        void accept(int slot, long key);
+    }
+}
@@ -0,0 +1,310 @@
+package com.flowey258.harvestBoost.util;
+
+/**
+ * Farmable-block bitmaps for the sections of a single chunk.
+ *
+ * Each 16x16x16 section is either unscanned, scanned and empty (no bitmap), or scanned with a
+ * 4096-bit bitmap indexed by {@code y << 8 | z << 4 | x}. One long therefore holds four X rows,
+ * which lets a box query test a whole row of X positions with a single mask.
+ *
+ * Not thread-safe; all access is expected from the server main thread.
+ */
+public final class ChunkFarmBits {
+
+    public static final int SECTION_WORDS = 64;
+
+    private final int minSection;
+    private final long[][] bits;
+    private final boolean[] scanned;
+    private final int[] counts;
+
+    // Bumped on every change so readers can tell when cached conclusions went stale
+    private int version;
+
+    // Per section: positions changed since an off-thread scan started, and their latest farmable state
+    private final long[][] pendingChanged;
+    private final long[][] pendingFarmable;
+
+    // Bumped when every scan is thrown away, so scans started before that are not installed
+    private int epoch;
+
+    public ChunkFarmBits(int minY, int maxY) {
+        this.minSection = minY >> 4;
+        int sections = ((maxY - 1) >> 4) - minSection + 1;
+        this.bits = new long[sections][];
+        this.scanned = new boolean[sections];
+        this.counts = new int[sections];
+        this.pendingChanged = new long[sections][];
+        this.pendingFarmable = new long[sections][];
+    }
+
+    /**
+     * Number of sections in this chunk
+     */
+    public int sectionCount() {
+        return bits.length;
+    }
+
+    /**
+     * Section index of a block Y coordinate, or -1 when outside the world height
+     */
+    public int sectionIndex(int blockY) {
+        int index = (blockY >> 4) - minSection;
+        return index >= 0 && index < bits.length ? index : -1;
+    }
+
+    /**
+     * Lowest block Y of a section index
+     */
+    public int sectionMinY(int sectionIndex) {
+        return (sectionIndex + minSection) << 4;
+    }
+
+    public boolean isScanned(int sectionIndex) {
+        return scanned[sectionIndex];
+    }
+
+    /**
+     * Check that every section overlapping a Y range has been scanned
+     */
+    public boolean isScanned(int minY, int maxY) {
+        for (int index = firstSection(minY); index <= lastSection(maxY); index++) {
+            if (!scanned[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Start recording block changes of an unscanned section whose snapshot is about to be scanned off-thread
+     */
+    public void beginScan(int sectionIndex) {
+        if (!scanned[sectionIndex] && pendingChanged[sectionIndex] == null) {
+            pendingChanged[sectionIndex] = new long[SECTION_WORDS];
+            pendingFarmable[sectionIndex] = new long[SECTION_WORDS];
+        }
+    }
+
+    /**
+     * Install the scan result of a section (null for a section without farmable blocks)
+     */
+    public void install(int sectionIndex, long[] sectionBits) {
+        // Replay the changes made since the scan started; the recorded state is the latest, so this is
+        // correct whether the snapshot was taken before or after each change
+        long[] changed = pendingChanged[sectionIndex];
+        if (changed != null) {
+            long[] farmable = pendingFarmable[sectionIndex];
+            for (int word = 0; word < SECTION_WORDS; word++) {
+                if (changed[word] == 0) {
+                    continue;
+                }
+                if (sectionBits == null) {
+                    sectionBits = new long[SECTION_WORDS];
+                }
+                sectionBits[word] = (sectionBits[word] & ~changed[word]) | (farmable[word] & changed[word]);
+            }
+            pendingChanged[sectionIndex] = null;
+            pendingFarmable[sectionIndex] = null;
+        }
+
+        int count = 0;
+        if (sectionBits != null) {
+            for (long word : sectionBits) {
+                count += Long.bitCount(word);
+            }
+        }
+
+        bits[sectionIndex] = count > 0 ? sectionBits : null;
+        counts[sectionIndex] = count;
+        scanned[sectionIndex] = true;
+        version++;
+    }
+
+    /**
+     * Forget every scan so sections are rebuilt on next use
+     */
+    public void invalidate() {
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = null;
+            counts[i] = 0;
+            scanned[i] = false;
+            pendingChanged[i] = null;
+            pendingFarmable[i] = null;
+        }
+        epoch++;
+        version++;
+    }
+
+    /**
+     * Record a single block change; unscanned sections only keep it while a scan of them is in flight
+     */
+    public void set(int x, int y, int z, boolean farmable) {
+        int index = sectionIndex(y);
+        if (index < 0) {
+            return;
+        }
+
+        int bit = bitIndex(x, y, z);
+        if (!scanned[index]) {
+            long[] changed = pendingChanged[index];
+            if (changed != null) {
+                changed[bit >>> 6] |= 1L << bit;
+                if (farmable) {
+                    pendingFarmable[index][bit >>> 6] |= 1L << bit;
+                } else {
+                    pendingFarmable[index][bit >>> 6] &= ~(1L << bit);
+                }
+            }
+            return;
+        }
+
+        long[] section = bits[index];
+        boolean present = section != null && (section[bit >>> 6] & (1L << bit)) != 0;
+        if (present == farmable) {
+            return;
+        }
+
+        if (farmable) {
+            if (section == null) {
+                section = new long[SECTION_WORDS];
+                bits[index] = section;
+            }
+            section[bit >>> 6] |= 1L << bit;
+            counts[index]++;
+        } else {
+            section[bit >>> 6] &= ~(1L << bit);
+            if (--counts[index] == 0) {
+                bits[index] = null;
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Check if a block is marked farmable
+     */
+    public boolean get(int x, int y, int z) {
+        int index = sectionIndex(y);
+        if (index < 0 || bits[index] == null) {
+            return false;
+        }
+
+        int bit = bitIndex(x, y, z);
+        return (bits[index][bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Check for any farmable block in a box given in chunk-local X/Z and absolute Y
+     */
+    public boolean anyInBox(int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        long rowMask = ((1L << (maxX - minX + 1)) - 1) << minX;
+
+        for (int index = firstSection(minY); index <= lastSection(maxY); index++) {
+            long[] section = bits[index];
+            if (section == null) {
+                continue;
+            }
+
+            int sectionMinY = sectionMinY(index);
+            int fromY = Math.max(minY, sectionMinY) & 15;
+            int toY = Math.min(maxY, sectionMinY + 15) & 15;
+
+            for (int y = fromY; y <= toY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    int rowStart = (y << 8) | (z << 4);
+                    if (((section[rowStart >>> 6] >>> (rowStart & 63)) & rowMask) != 0) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Visit every farmable block in a box given in chunk-local X/Z and absolute Y
+     */
+    public void forEachInBox(int minX, int maxX, int minY, int maxY, int minZ, int maxZ, BlockConsumer consumer) {
+        long rowMask = ((1L << (maxX - minX + 1)) - 1) << minX;
+
+        for (int index = firstSection(minY); index <= lastSection(maxY); index++) {
+            long[] section = bits[index];
+            if (section == null) {
+                continue;
+            }
+
+            int sectionMinY = sectionMinY(index);
+            int fromY = Math.max(minY, sectionMinY) & 15;
+            int toY = Math.min(maxY, sectionMinY + 15) & 15;
+
+            for (int y = fromY; y <= toY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    int rowStart = (y << 8) | (z << 4);
+                    long row = (section[rowStart >>> 6] >>> (rowStart & 63)) & rowMask;
+
+                    // Visit only the set bits of the row
+                    while (row != 0) {
+                        consumer.accept(Long.numberOfTrailingZeros(row), sectionMinY + y, z);
+                        row &= row - 1;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of farmable blocks in a section
+     */
+    public int count(int sectionIndex) {
+        return counts[sectionIndex];
+    }
+
+    /**
+     * Raw bitmap of a section (null when empty); callers must not modify it
+     */
+    public long[] sectionBits(int sectionIndex) {
+        return bits[sectionIndex];
+    }
+
+    public int version() {
+        return version;
+    }
+
+    /**
+     * Scan generation; off-thread scans are only installed into the epoch they were started in
+     */
+    public int epoch() {
+        return epoch;
+    }
+
+    /**
+     * Bit position of a block inside its section bitmap
+     */
+    public static int bitIndex(int x, int y, int z) {
+        return ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+    }
+
+    /**
+     * First section index overlapping a Y range starting at minY (clamped to the chunk)
+     */
+    public int firstSection(int minY) {
+        return Math.max(0, (minY >> 4) - minSection);
+    }
+
+    /**
+     * Last section index overlapping a Y range ending at maxY (clamped to the chunk)
+     */
+    public int lastSection(int maxY) {
+        return Math.min(bits.length - 1, (maxY >> 4) - minSection);
+    }
+
+    /**
+     * Receives one farmable block as chunk-local X/Z and absolute Y
+     */
+    @FunctionalInterface
+    public interface BlockConsumer {
+        void accept(int localX, int y, int localZ);
+    }
+}
@@ -0,0 +1,241 @@
+package com.flowey258.harvestBoost.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Per-world spatial hash of farming players.
+ *
+ * Players are bucketed into square columns of {@code cellSize} blocks on the X/Z plane, so a
+ * range query with a radius no larger than the cell size only ever touches the 3x3 block of
+ * columns around the query point instead of every player in the world.
+ *
+ * Not thread-safe; all access is expected from the server main thread.
+ */
+public class FarmerGrid {
+
+    // World UID -> (packed column key -> column)
+    private final Map<UUID, Map<Long, Column>> worlds = new HashMap<>();
+
+    // Player UID -> grid entry
+    private final Map<UUID, Farmer> farmers = new HashMap<>();
+
+    private int cellSize;
+
+    public FarmerGrid(int cellSize) {
+        this.cellSize = Math.max(1, cellSize);
+    }
+
+    /**
+     * Change the column size, rebucketing every tracked farmer if it differs
+     */
+    public void ensureCellSize(int newCellSize) {
+        newCellSize = Math.max(1, newCellSize);
+        if (newCellSize == cellSize) {
+            return;
+        }
+
+        cellSize = newCellSize;
+        worlds.clear();
+        for (Farmer farmer : farmers.values()) {
+            farmer.column = null;
+            insert(farmer);
+        }
+    }
+
+    /**
+     * Insert or move a farmer to the given position
+     */
+    public void update(UUID playerId, UUID worldId, double x, double y, double z) {
+        Farmer farmer = farmers.get(playerId);
+
+        if (farmer == null) {
+            farmer = new Farmer(playerId);
+            farmers.put(playerId, farmer);
+        } else if (farmer.worldId.equals(worldId)
+                && farmer.columnKey == columnKey(x, z)) {
+            // Same column, only the coordinates need refreshing
+            farmer.x = x;
+            farmer.y = y;
+            farmer.z = z;
+            return;
+        } else {
+            detach(farmer);
+        }
+
+        farmer.worldId = worldId;
+        farmer.x = x;
+        farmer.y = y;
+        farmer.z = z;
+        insert(farmer);
+    }
+
+    /**
+     * Remove a farmer from the grid
+     */
+    public boolean remove(UUID playerId) {
+        Farmer farmer = farmers.remove(playerId);
+        if (farmer == null) {
+            return false;
+        }
+
+        detach(farmer);
+        return true;
+    }
+
+    /**
+     * Check if a player is tracked by the grid
+     */
+    public boolean contains(UUID playerId) {
+        return farmers.containsKey(playerId);
+    }
+
+    /**
+     * Check if a tracked farmer stands in a world within {@code radius} of a point
+     */
+    public boolean isNear(UUID playerId, UUID worldId, double x, double y, double z, double radius) {
+        Farmer farmer = farmers.get(playerId);
+        if (farmer == null || !farmer.worldId.equals(worldId)) {
+            return false;
+        }
+
+        double dx = farmer.x - x;
+        double dy = farmer.y - y;
+        double dz = farmer.z - z;
+        return dx * dx + dy * dy + dz * dz <= radius * radius;
+    }
+
+    /**
+     * Count farmers within {@code radius} of a point that also pass {@code filter}
+     */
+    public int countNear(UUID worldId, double x, double y, double z, double radius, Predicate<UUID> filter) {
+        Map<Long, Column> columns = worlds.get(worldId);
+        if (columns == null || columns.isEmpty()) {
+            return 0;
+        }
+
+        double radiusSquared = radius * radius;
+        int minCx = Math.floorDiv((int) Math.floor(x - radius), cellSize);
+        int maxCx = Math.floorDiv((int) Math.floor(x + radius), cellSize);
+        int minCz = Math.floorDiv((int) Math.floor(z - radius), cellSize);
+        int maxCz = Math.floorDiv((int) Math.floor(z + radius), cellSize);
+
+        int count = 0;
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                Column column = columns.get(BlockKeys.packColumn(cx, cz));
+                if (column == null) {
+                    continue;
+                }
+
+                for (int i = 0; i < column.size; i++) {
+                    Farmer farmer = column.members[i];
+                    double dx = farmer.x - x;
+                    double dy = farmer.y - y;
+                    double dz = farmer.z - z;
+
+                    if (dx * dx + dy * dy + dz * dz <= radiusSquared && filter.test(farmer.playerId)) {
+                        count++;
+                    }
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Number of tracked farmers
+     */
+    public int size() {
+        return farmers.size();
+    }
+
+    /**
+     * Remove every farmer from the grid
+     */
+    public void clear() {
+        worlds.clear();
+        farmers.clear();
+    }
+
+    private void insert(Farmer farmer) {
+        farmer.columnKey = columnKey(farmer.x, farmer.z);
+        Column column = worlds.computeIfAbsent(farmer.worldId, id -> new HashMap<>())
+                .computeIfAbsent(farmer.columnKey, key -> new Column());
+        column.add(farmer);
+    }
+
+    private void detach(Farmer farmer) {
+        Column column = farmer.column;
+        if (column == null) {
+            return;
+        }
+
+        column.remove(farmer);
+        if (column.size == 0) {
+            Map<Long, Column> columns = worlds.get(farmer.worldId);
+            if (columns != null) {
+                columns.remove(farmer.columnKey);
+                if (columns.isEmpty()) {
+                    worlds.remove(farmer.worldId);
+                }
+            }
+        }
+    }
+
+    private long columnKey(double x, double z) {
+        return BlockKeys.packColumn(
+                Math.floorDiv((int) Math.floor(x), cellSize),
+                Math.floorDiv((int) Math.floor(z), cellSize));
+    }
+
+    /**
+     * Grid entry for a single player
+     */
+    private static final class Farmer {
+        private final UUID playerId;
+        private UUID worldId;
+        private double x;
+        private double y;
+        private double z;
+        private long columnKey;
+        private Column column;
+        private int slot;
+
+        private Farmer(UUID playerId) {
+            this.playerId = playerId;
+        }
+    }
+
+    /**
+     * Compact member list of one grid column with O(1) swap-removal
+     */
+    private static final class Column {
+        private Farmer[] members = new Farmer[4];
+        private int size;
+
+        private void add(Farmer farmer) {
+            if (size == members.length) {
+                Farmer[] grown = new Farmer[size * 2];
+                System.arraycopy(members, 0, grown, 0, size);
+                members = grown;
+            }
+
+            farmer.column = this;
+            farmer.slot = size;
+            members[size++] = farmer;
+        }
+
+        private void remove(Farmer farmer) {
+            int slot = farmer.slot;
+            Farmer last = members[--size];
+            members[slot] = last;
+            last.slot = slot;
+            members[size] = null;
+            farmer.column = null;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.flowey258.harvestBoost.util;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Open-addressing hash set of packed block or chunk keys.
+ *
+ * Same layout as {@link BoostCache}: linear probing with backward-shift deletion over a plain
+ * long array, so membership checks never box. {@link Long#MIN_VALUE} marks an empty slot and
+ * cannot be stored.
+ *
+ * Not thread-safe; all access is expected from the server main thread.
+ */
+public final class LongHashSet {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public LongHashSet() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Add a key, returning false when it was already present
+     */
+    public boolean add(long key) {
+        int slot = mix(key) & mask;
+
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                return false;
+            }
+            if (current == EMPTY) {
+                keys[slot] = key;
+                if (++size > resizeThreshold) {
+                    rehash(keys.length << 1);
+                }
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public boolean contains(long key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Remove a key, returning false when it was not present
+     */
+    public boolean remove(long key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+
+        size--;
+
+        // Backward-shift deletion: move later members of the probe chain into the gap
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        keys[gap] = EMPTY;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Visit every key in no particular order; the set must not change while visiting
+     */
+    public void forEach(LongConsumer consumer) {
+        for (long key : keys) {
+            if (key != EMPTY) {
+                consumer.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Drop every key and release the table memory
+     */
+    public void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    private int find(long key) {
+        int slot = mix(key) & mask;
+
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                return slot;
+            }
+            if (current == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+
+        allocate(capacity);
+
+        for (long key : oldKeys) {
+            if (key != EMPTY) {
+                add(key);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        size = 0;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,134 @@
+package com.flowey258.harvestBoost.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from packed block keys to int counters.
+ *
+ * Same layout as {@link BoostCache} and {@link LongHashSet}, used to merge per-block amounts
+ * gathered during a tick without boxing. {@link Long#MIN_VALUE} marks an empty slot and cannot
+ * be stored.
+ *
+ * Not thread-safe; all access is expected from the server main thread.
+ */
+public final class LongIntMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public LongIntMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Add to the value of a key (starting from 0) and return the new value
+     */
+    public int addTo(long key, int delta) {
+        int slot = mix(key) & mask;
+
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot] += delta;
+            }
+            if (current == EMPTY) {
+                keys[slot] = key;
+                values[slot] = delta;
+                if (++size > resizeThreshold) {
+                    rehash(keys.length << 1);
+                }
+                return delta;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Get the value of a key, or 0 when absent
+     */
+    public int get(long key) {
+        int slot = mix(key) & mask;
+
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == EMPTY) {
+                return 0;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Visit every entry in table order
+     */
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Drop every entry, keeping the table memory for reuse
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, EMPTY);
+            size = 0;
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                addTo(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new int[capacity];
+        mask = capacity - 1;
+        size = 0;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Receives one key and its value
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, int value);
+    }
+}
@@ -0,0 +1,81 @@
+package com.flowey258.harvestBoost.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Message format split once into literal text and numbered placeholders.
+ *
+ * Rendering appends the literals and the placeholder values into a single builder, so a message
+ * is never searched for placeholders again after the format was compiled.
+ */
+public final class MessageTemplate {
+
+    private final String[] literals;
+    private final int[] slots;
+    private final int length;
+
+    private MessageTemplate(String[] literals, int[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+
+        int total = 0;
+        for (String literal : literals) {
+            total += literal.length();
+        }
+        this.length = total;
+    }
+
+    /**
+     * Compile a format; each placeholder token is filled by the render value at the same position
+     */
+    public static MessageTemplate compile(String format, String... placeholders) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < format.length()) {
+            int slot = placeholderAt(format, index, placeholders);
+            if (slot < 0) {
+                literal.append(format.charAt(index++));
+                continue;
+            }
+
+            literals.add(literal.toString());
+            literal.setLength(0);
+            slots.add(slot);
+            index += placeholders[slot].length();
+        }
+        literals.add(literal.toString());
+
+        int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return new MessageTemplate(literals.toArray(new String[0]), slotArray);
+    }
+
+    /**
+     * Render the message with one value per placeholder, in compile order
+     */
+    public String render(int... values) {
+        StringBuilder message = new StringBuilder(length + slots.length * 4);
+        for (int i = 0; i < slots.length; i++) {
+            message.append(literals[i]).append(values[slots[i]]);
+        }
+        return message.append(literals[slots.length]).toString();
+    }
+
+    /**
+     * Index of the placeholder starting at a position, or -1 when there is none
+     */
+    private static int placeholderAt(String format, int index, String[] placeholders) {
+        for (int slot = 0; slot < placeholders.length; slot++) {
+            if (format.startsWith(placeholders[slot], index)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+}
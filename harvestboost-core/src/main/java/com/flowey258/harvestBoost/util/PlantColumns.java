@@ -0,0 +1,147 @@
+package com.flowey258.harvestBoost.util;
+
+/**
+ * Cached vertical plant columns (bamboo, sugar cane, cactus) of a single chunk.
+ *
+ * Each of the 256 X/Z positions holds a small array of (base Y, height) pairs, so finding the
+ * column a block belongs to is an array index plus a scan over the (usually one) column stacked
+ * at that position. Columns are only ever trusted while no block event has touched them.
+ *
+ * Not thread-safe; all access is expected from the server main thread.
+ */
+public final class PlantColumns {
+
+    private final int[][] columns = new int[256][];
+    private int size;
+
+    /**
+     * Height of the cached column containing a block, or 0 when not cached
+     */
+    public int heightAt(int x, int y, int z) {
+        int[] stack = columns[index(x, z)];
+        if (stack == null) {
+            return 0;
+        }
+
+        for (int i = 0; i < stack.length; i += 2) {
+            if (y >= stack[i] && y < stack[i] + stack[i + 1]) {
+                return stack[i + 1];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Base Y of the cached column containing a block, or Integer.MIN_VALUE when not cached
+     */
+    public int baseAt(int x, int y, int z) {
+        int[] stack = columns[index(x, z)];
+        if (stack == null) {
+            return Integer.MIN_VALUE;
+        }
+
+        for (int i = 0; i < stack.length; i += 2) {
+            if (y >= stack[i] && y < stack[i] + stack[i + 1]) {
+                return stack[i];
+            }
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * Cache a column, replacing any column it overlaps
+     */
+    public void put(int x, int z, int baseY, int height) {
+        invalidate(x, z, baseY, baseY + height - 1);
+
+        int index = index(x, z);
+        int[] stack = columns[index];
+        int[] grown;
+        if (stack == null) {
+            grown = new int[2];
+        } else {
+            grown = new int[stack.length + 2];
+            System.arraycopy(stack, 0, grown, 0, stack.length);
+        }
+
+        grown[grown.length - 2] = baseY;
+        grown[grown.length - 1] = height;
+        columns[index] = grown;
+        size++;
+    }
+
+    /**
+     * Grow the column whose top is directly below a block by one; false when there is none
+     */
+    public boolean extendTop(int x, int newTopY, int z) {
+        int[] stack = columns[index(x, z)];
+        if (stack == null) {
+            return false;
+        }
+
+        for (int i = 0; i < stack.length; i += 2) {
+            if (stack[i] + stack[i + 1] == newTopY) {
+                // A column starting right above would have to merge, leave that to a rescan
+                for (int j = 0; j < stack.length; j += 2) {
+                    if (stack[j] == newTopY + 1) {
+                        return false;
+                    }
+                }
+
+                stack[i + 1]++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Forget every column at an X/Z position that overlaps or touches a Y range
+     */
+    public void invalidate(int x, int z, int minY, int maxY) {
+        int index = index(x, z);
+        int[] stack = columns[index];
+        if (stack == null) {
+            return;
+        }
+
+        int kept = 0;
+        for (int i = 0; i < stack.length; i += 2) {
+            int base = stack[i];
+            int top = base + stack[i + 1] - 1;
+            if (top >= minY - 1 && base <= maxY + 1) {
+                size--;
+            } else {
+                stack[kept++] = base;
+                stack[kept++] = stack[i + 1];
+            }
+        }
+
+        if (kept == stack.length) {
+            return;
+        }
+
+        if (kept == 0) {
+            columns[index] = null;
+        } else {
+            int[] shrunk = new int[kept];
+            System.arraycopy(stack, 0, shrunk, 0, kept);
+            columns[index] = shrunk;
+        }
+    }
+
+    /**
+     * Number of cached columns
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static int index(int x, int z) {
+        return ((z & 15) << 4) | (x & 15);
+    }
+}
@@ -0,0 +1,71 @@
+package com.flowey258.harvestBoost.util;
+
+import java.util.Random;
+
+/**
+ * Fixed-size uniform sample of packed block keys.
+ *
+ * Keys are offered one by one (reservoir sampling, Algorithm R), so any number of candidates can
+ * be streamed through without storing them, and each one ends up in the sample with the same
+ * probability. Drawing a key from the sample afterwards is a single array read.
+ *
+ * Not thread-safe; all access is expected from the server main thread.
+ */
+public final class PositionReservoir {
+
+    private final long[] samples;
+    private int size;
+    private long seen;
+
+    public PositionReservoir(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    /**
+     * Offer a candidate key to the sample
+     */
+    public void offer(long key, Random random) {
+        seen++;
+
+        if (size < samples.length) {
+            samples[size++] = key;
+            return;
+        }
+
+        // Keep the new key with probability capacity / seen, replacing a random sample
+        long slot = (long) (random.nextDouble() * seen);
+        if (slot < samples.length) {
+            samples[(int) slot] = key;
+        }
+    }
+
+    /**
+     * Draw a random key from the sample; the sample must not be empty
+     */
+    public long draw(Random random) {
+        return samples[random.nextInt(size)];
+    }
+
+    /**
+     * Forget every sample so the reservoir can be refilled
+     */
+    public void reset() {
+        size = 0;
+        seen = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of candidates offered since the last reset
+     */
+    public long seen() {
+        return seen;
+    }
+}
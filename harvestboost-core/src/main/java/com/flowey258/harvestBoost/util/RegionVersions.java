@@ -0,0 +1,178 @@
+package com.flowey258.harvestBoost.util;
+
+import java.util.Arrays;
+
+/**
+ * Version counters for square X/Z tiles of a world, used to invalidate cached values by region.
+ *
+ * A change at a point bumps the tile containing it and its eight neighbours to a fresh version,
+ * so with a tile size no smaller than the reach of a change, every position the change can affect
+ * sees a newer version in its own tile. A cached value stamped with {@link #current()} stays
+ * valid for as long as its tile version is not newer than the stamp.
+ *
+ * Tiles that have not been bumped since the last {@link #forgetUpTo(long)} report the floor
+ * version. Not thread-safe; all access is expected from the server main thread.
+ */
+public final class RegionVersions {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final int tileSize;
+
+    private long[] keys;
+    private long[] versions;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    private long counter;
+    private long floor;
+
+    public RegionVersions(int tileSize) {
+        this.tileSize = Math.max(1, tileSize);
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Version to stamp a value computed now
+     */
+    public long current() {
+        return counter;
+    }
+
+    /**
+     * Invalidate everything that a change at a point can reach
+     */
+    public void bump(double x, double z) {
+        long version = ++counter;
+        int tileX = tile(x);
+        int tileZ = tile(z);
+
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                put(BlockKeys.packColumn(tileX + dx, tileZ + dz), version);
+            }
+        }
+    }
+
+    /**
+     * Latest version of the tile containing a point
+     */
+    public long versionAt(double x, double z) {
+        long key = BlockKeys.packColumn(tile(x), tile(z));
+        int slot = mix(key) & mask;
+
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                return versions[slot];
+            }
+            if (current == EMPTY) {
+                return floor;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Drop tiles whose version no cached value can be older than, raising the floor in their place
+     */
+    public void forgetUpTo(long oldestStamp) {
+        long newFloor = floor;
+        int kept = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == EMPTY) {
+                continue;
+            }
+            if (versions[i] <= oldestStamp) {
+                newFloor = Math.max(newFloor, versions[i]);
+            } else {
+                kept++;
+            }
+        }
+
+        if (kept == size) {
+            return;
+        }
+
+        long[] oldKeys = keys;
+        long[] oldVersions = versions;
+        allocate(tableSizeFor(kept));
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY && oldVersions[i] > oldestStamp) {
+                put(oldKeys[i], oldVersions[i]);
+            }
+        }
+        floor = newFloor;
+    }
+
+    /**
+     * Number of tiles with their own version
+     */
+    public int size() {
+        return size;
+    }
+
+    private void put(long key, long version) {
+        int slot = mix(key) & mask;
+
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                versions[slot] = version;
+                return;
+            }
+            if (current == EMPTY) {
+                keys[slot] = key;
+                versions[slot] = version;
+                if (++size > resizeThreshold) {
+                    rehash(keys.length << 1);
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldVersions = versions;
+
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldVersions[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        versions = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int tile(double coordinate) {
+        return Math.floorDiv((int) Math.floor(coordinate), tileSize);
+    }
+
+    private static int tableSizeFor(int entries) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR < entries) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,370 @@
+package com.flowey258.harvestBoost;
+
+import org.bukkit.plugin.ServicePriority;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import com.flowey258.harvestBoost.api.HarvestBoostAPI;
+import com.flowey258.harvestBoost.api.HarvestBoostService;
+import com.flowey258.harvestBoost.commands.HarvestBoostCommand;
+import com.flowey258.harvestBoost.config.ConfigManager;
+import com.flowey258.harvestBoost.config.PluginSettings;
+import com.flowey258.harvestBoost.core.HarvestEngine;
+import com.flowey258.harvestBoost.listeners.BoostFeedbackListener;
+import com.flowey258.harvestBoost.listeners.CropGrowthListener;
+import com.flowey258.harvestBoost.listeners.FarmIndexListener;
+import com.flowey258.harvestBoost.listeners.PlantColumnListener;
+import com.flowey258.harvestBoost.listeners.PlayerFarmingListener;
+import com.flowey258.harvestBoost.listeners.WorldListener;
+import com.flowey258.harvestBoost.managers.BoostManager;
+import com.flowey258.harvestBoost.managers.EffectsManager;
+import com.flowey258.harvestBoost.managers.FarmIndexManager;
+import com.flowey258.harvestBoost.managers.GrowthManager;
+import com.flowey258.harvestBoost.managers.ParticleManager;
+import com.flowey258.harvestBoost.managers.PlantColumnManager;
+import com.flowey258.harvestBoost.managers.PlayerTracker;
+import com.flowey258.harvestBoost.metrics.PluginMetrics;
+import com.flowey258.harvestBoost.metrics.PrometheusEndpoint;
+import com.flowey258.harvestBoost.platform.BukkitPlatform;
+import com.flowey258.harvestBoost.tasks.ActionBarRefreshTask;
+import com.flowey258.harvestBoost.tasks.AmbientParticleSampler;
+import com.flowey258.harvestBoost.tasks.AsyncFarmScanner;
+import com.flowey258.harvestBoost.tasks.BoostUpdateTask;
+import com.flowey258.harvestBoost.tasks.ExtraGrowthScheduler;
+import com.flowey258.harvestBoost.tasks.GrowthBoostScheduler;
+import com.flowey258.harvestBoost.tasks.MetricsSnapshotTask;
+import com.flowey258.harvestBoost.tasks.MetricsWindowTask;
+import com.flowey258.harvestBoost.tasks.ParticleFlushTask;
+import com.flowey258.harvestBoost.tasks.PresenceTickTask;
+
+import java.io.IOException;
+
+public class HarvestBoost extends JavaPlugin {
+
+    private static HarvestBoost instance;
+
+    private ConfigManager configManager;
+    private BukkitPlatform platform;
+    private HarvestEngine engine;
+    private BoostManager boostManager;
+    private PlayerTracker playerTracker;
+    private EffectsManager effectsManager;
+    private FarmIndexManager farmIndexManager;
+    private GrowthManager growthManager;
+    private PlantColumnManager plantColumnManager;
+    private HarvestBoostService apiService;
+    private ParticleManager particleManager;
+    private PluginMetrics metrics;
+    private PrometheusEndpoint metricsEndpoint;
+
+    private AsyncFarmScanner farmScanner;
+    private BoostUpdateTask boostUpdateTask;
+    private PresenceTickTask presenceTickTask;
+    private GrowthBoostScheduler growthScheduler;
+    private ExtraGrowthScheduler extraGrowthScheduler;
+    private ParticleFlushTask particleFlushTask;
+    private AmbientParticleSampler ambientParticleSampler;
+    private ActionBarRefreshTask actionBarRefreshTask;
+    private MetricsWindowTask metricsWindowTask;
+    private MetricsSnapshotTask metricsSnapshotTask;
+
+    @Override
+    public void onEnable() {
+        instance = this;
+
+        // Hot-path instruments, created first so every manager can hold on to them
+        this.metrics = new PluginMetrics();
+        this.metricsEndpoint = new PrometheusEndpoint(metrics);
+
+        // Initialize managers
+        this.configManager = new ConfigManager(this);
+
+        // Boost, presence and farm index logic, the managers below adapt it to Bukkit
+        this.platform = new BukkitPlatform(this);
+        this.engine = new HarvestEngine(configManager::getSettings, metrics, platform);
+
+        this.particleManager = new ParticleManager(this);
+        this.boostManager = new BoostManager(this);
+        this.playerTracker = new PlayerTracker(this);
+        this.effectsManager = new EffectsManager(this);
+        this.farmIndexManager = new FarmIndexManager(this);
+        this.plantColumnManager = new PlantColumnManager(this);
+        this.growthManager = new GrowthManager(this);
+
+        // Load configuration
+        configManager.loadConfig();
+        applyMetricsSettings();
+
+        // Track chunks that were loaded before the plugin
+        farmIndexManager.indexLoadedChunks();
+
+        // Start farm scan workers
+        this.farmScanner = new AsyncFarmScanner(this, configManager.getAsyncScanThreads());
+
+        // Apply growth boosts under the per-tick budget
+        this.growthScheduler = new GrowthBoostScheduler(this);
+        growthScheduler.runTaskTimer(this, 1L, 1L);
+
+        // Give crops in boosted areas extra random growth ticks
+        this.extraGrowthScheduler = new ExtraGrowthScheduler(this);
+        extraGrowthScheduler.runTaskTimer(this, 1L, 1L);
+
+        // Sparkle sampled farm blocks around boosted players, a few every tick
+        this.ambientParticleSampler = new AmbientParticleSampler(this);
+        ambientParticleSampler.runTaskTimer(this, 1L, 1L);
+
+        // Deliver the particles of each tick after the growth boosts and ambient sparkles that queued them
+        this.particleFlushTask = new ParticleFlushTask(particleManager);
+        particleFlushTask.runTaskTimer(this, 1L, 1L);
+
+        // Register listeners
+        getServer().getPluginManager().registerEvents(new CropGrowthListener(this), this);
+        getServer().getPluginManager().registerEvents(new PlayerFarmingListener(this), this);
+        getServer().getPluginManager().registerEvents(new FarmIndexListener(this), this);
+        getServer().getPluginManager().registerEvents(new PlantColumnListener(this), this);
+        getServer().getPluginManager().registerEvents(new WorldListener(this), this);
+        getServer().getPluginManager().registerEvents(new BoostFeedbackListener(this), this);
+
+        // Expose boost state to other plugins
+        this.apiService = new HarvestBoostService(this);
+        getServer().getServicesManager().register(HarvestBoostAPI.class, apiService, this, ServicePriority.Normal);
+
+        // Register commands
+        getCommand("harvestboost").setExecutor(new HarvestBoostCommand(this));
+
+        // Start boost update task
+        startBoostUpdateTask();
+
+        // Qualify farmers on the tick their minimum presence time ends
+        this.presenceTickTask = new PresenceTickTask(playerTracker);
+        presenceTickTask.runTaskTimer(this, 1L, 1L);
+
+        // Keep unchanged action bar messages from fading between boost updates
+        this.actionBarRefreshTask = new ActionBarRefreshTask(effectsManager);
+        actionBarRefreshTask.runTaskTimer(this, 1L, 1L);
+
+        // Roll the metrics window every minute for the per-minute rates
+        this.metricsWindowTask = new MetricsWindowTask(metrics);
+        metricsWindowTask.runTaskTimer(this, MetricsWindowTask.WINDOW_TICKS, MetricsWindowTask.WINDOW_TICKS);
+
+        // Publish main-thread state for the Prometheus endpoint once a second
+        this.metricsSnapshotTask = new MetricsSnapshotTask(this, metricsEndpoint);
+        metricsSnapshotTask.runTaskTimer(this, 20L, 20L);
+
+        getLogger().info("HarvestBoost has been enabled! Players can now farm together for faster growth.");
+
+        // Send enable message to online players
+        if (configManager.getConfig().getBoolean("messages.enabled", true)) {
+            getServer().getOnlinePlayers().forEach(player ->
+                    player.sendMessage(configManager.getMessage("plugin-enabled")));
+        }
+    }
+
+    @Override
+    public void onDisable() {
+        // Stop answering scrapes before the state behind them goes away
+        if (metricsEndpoint != null) {
+            metricsEndpoint.stop();
+        }
+
+        // Withdraw the API before the data behind it goes away
+        if (apiService != null) {
+            getServer().getServicesManager().unregister(HarvestBoostAPI.class, apiService);
+            apiService.clear();
+        }
+
+        // Stop tasks
+        if (boostUpdateTask != null) {
+            boostUpdateTask.cancel();
+        }
+
+        if (presenceTickTask != null) {
+            presenceTickTask.cancel();
+        }
+
+        if (actionBarRefreshTask != null) {
+            actionBarRefreshTask.cancel();
+        }
+
+        if (metricsWindowTask != null) {
+            metricsWindowTask.cancel();
+            metrics.setEnabled(false);
+        }
+
+        if (metricsSnapshotTask != null) {
+            metricsSnapshotTask.cancel();
+        }
+
+        if (extraGrowthScheduler != null) {
+            extraGrowthScheduler.cancel();
+            extraGrowthScheduler.clear();
+        }
+
+        if (growthScheduler != null) {
+            growthScheduler.cancel();
+            growthScheduler.clear();
+        }
+
+        if (ambientParticleSampler != null) {
+            ambientParticleSampler.cancel();
+            ambientParticleSampler.clear();
+        }
+
+        if (particleFlushTask != null) {
+            particleFlushTask.cancel();
+            particleManager.clear();
+        }
+
+        if (farmScanner != null) {
+            farmScanner.shutdown();
+        }
+
+        // Clear data
+        if (playerTracker != null) {
+            playerTracker.clearAll();
+        }
+
+        if (farmIndexManager != null) {
+            farmIndexManager.clearAll();
+        }
+
+        if (plantColumnManager != null) {
+            plantColumnManager.clearAll();
+        }
+
+        // Send disable message
+        if (configManager != null && configManager.getConfig().getBoolean("messages.enabled", true)) {
+            getServer().getOnlinePlayers().forEach(player ->
+                    player.sendMessage(configManager.getMessage("plugin-disabled")));
+        }
+
+        getLogger().info("HarvestBoost has been disabled.");
+        instance = null;
+    }
+
+    /**
+     * Start the main boost update task
+     */
+    private void startBoostUpdateTask() {
+        if (boostUpdateTask != null) {
+            boostUpdateTask.cancel();
+        }
+
+        int interval = configManager.getConfig().getInt("detection.check-interval", 100);
+        boostUpdateTask = new BoostUpdateTask(this);
+        boostUpdateTask.runTaskTimer(this, interval, interval);
+    }
+
+    /**
+     * Switch metrics collection and the Prometheus endpoint to match the settings
+     */
+    public void applyMetricsSettings() {
+        PluginSettings settings = configManager.getSettings();
+
+        // The endpoint reports the hot-path instruments, so it keeps them collecting
+        metrics.setEnabled(settings.isMetricsEnabled() || settings.isMetricsEndpointEnabled());
+
+        if (!settings.isMetricsEndpointEnabled()) {
+            metricsEndpoint.stop();
+            return;
+        }
+
+        try {
+            metricsEndpoint.start(settings.getMetricsEndpointHost(), settings.getMetricsEndpointPort(),
+                    settings.getMetricsEndpointPath());
+            getLogger().info("Serving metrics on http://" + settings.getMetricsEndpointHost() + ":" +
+                    settings.getMetricsEndpointPort() + settings.getMetricsEndpointPath());
+        } catch (IOException e) {
+            getLogger().warning("Could not start the metrics endpoint: " + e.getMessage());
+            metricsEndpoint.stop();
+        }
+    }
+
+    /**
+     * Reload the plugin configuration and restart tasks
+     */
+    public void reload() {
+        // Reload config
+        configManager.loadConfig();
+        applyMetricsSettings();
+
+        // Cached boosts may be keyed by a different cell size now
+        boostManager.clearCache();
+
+        // Material classification may have changed, rescan farm blocks on demand
+        farmIndexManager.invalidateAll();
+
+        // Restart task with new interval
+        startBoostUpdateTask();
+
+        getLogger().info("HarvestBoost configuration reloaded.");
+    }
+
+    // Getters for managers
+    public static HarvestBoost getInstance() {
+        return instance;
+    }
+
+    public ConfigManager getConfigManager() {
+        return configManager;
+    }
+
+    public BukkitPlatform getPlatform() {
+        return platform;
+    }
+
+    public HarvestEngine getEngine() {
+        return engine;
+    }
+
+    public BoostManager getBoostManager() {
+        return boostManager;
+    }
+
+    public GrowthManager getGrowthManager() {
+        return growthManager;
+    }
+
+    public GrowthBoostScheduler getGrowthScheduler() {
+        return growthScheduler;
+    }
+
+    public AmbientParticleSampler getAmbientParticleSampler() {
+        return ambientParticleSampler;
+    }
+
+    public HarvestBoostService getApiService() {
+        return apiService;
+    }
+
+    public PluginMetrics getMetrics() {
+        return metrics;
+    }
+
+    public ParticleManager getParticleManager() {
+        return particleManager;
+    }
+
+    public ExtraGrowthScheduler getExtraGrowthScheduler() {
+        return extraGrowthScheduler;
+    }
+
+    public PlantColumnManager getPlantColumnManager() {
+        return plantColumnManager;
+    }
+
+    public PlayerTracker getPlayerTracker() {
+        return playerTracker;
+    }
+
+    public EffectsManager getEffectsManager() {
+        return effectsManager;
+    }
+
+    public FarmIndexManager getFarmIndexManager() {
+        return farmIndexManager;
+    }
+
+    public AsyncFarmScanner getFarmScanner() {
+        return farmScanner;
+    }
+}
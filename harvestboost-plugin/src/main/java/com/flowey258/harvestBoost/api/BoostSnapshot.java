@@ -0,0 +1,45 @@
+package com.flowey258.harvestBoost.api;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable view of every online player's boost, replaced after each boost update
+ *
+ * @param players    boost of each online player by UID
+ * @param capturedAt wall-clock time the snapshot was taken, in epoch milliseconds
+ */
+public record BoostSnapshot(Map<UUID, PlayerBoostView> players, long capturedAt) {
+
+    public static final BoostSnapshot EMPTY = new BoostSnapshot(Map.of(), 0);
+
+    /**
+     * Get a player's boost, or null when they were not online at the last update
+     */
+    public PlayerBoostView get(UUID playerId) {
+        return players.get(playerId);
+    }
+
+    /**
+     * Get a player's multiplier, 1.0 when unknown
+     */
+    public double getMultiplier(UUID playerId) {
+        PlayerBoostView view = players.get(playerId);
+        return view != null ? view.multiplier() : 1.0;
+    }
+
+    /**
+     * Boost of one player
+     *
+     * @param level       farmer count capped at the maximum, 0 when not boosted
+     * @param farmerCount farmers counted at the player's location
+     * @param multiplier  growth multiplier at the player's location
+     * @param percentage  multiplier as a display percentage, e.g. 25 for 1.25x
+     */
+    public record PlayerBoostView(int level, int farmerCount, double multiplier, int percentage) {
+
+        public boolean isBoosted() {
+            return level > 0;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.flowey258.harvestBoost.api;
+
+import org.bukkit.World;
+
+/**
+ * Cubic cell of blocks sharing one boost, given by its lowest corner and edge length
+ */
+public record BoostedArea(World world, int minX, int minY, int minZ, int size, int farmerCount, double multiplier) {
+
+    /**
+     * Check if a block lies inside the cell
+     */
+    public boolean contains(int x, int y, int z) {
+        return x >= minX && x < minX + size
+                && y >= minY && y < minY + size
+                && z >= minZ && z < minZ + size;
+    }
+}
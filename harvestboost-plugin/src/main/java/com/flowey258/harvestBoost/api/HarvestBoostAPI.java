@@ -0,0 +1,44 @@
+package com.flowey258.harvestBoost.api;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read access to HarvestBoost's boost state for other plugins.
+ *
+ * Obtain it from Bukkit's services manager:
+ * {@code Bukkit.getServicesManager().load(HarvestBoostAPI.class)}.
+ *
+ * Query methods answer from the plugin's boost cache, presence tracker and farmer grid and must be
+ * called from the main thread. {@link #getSnapshot()} is safe from any thread.
+ */
+public interface HarvestBoostAPI {
+
+    /**
+     * Get the growth multiplier at a location (1.0 when not boosted)
+     */
+    double getMultiplier(Location location);
+
+    /**
+     * Get the growth multipliers of many locations at once, in the collection's iteration order
+     */
+    double[] getMultipliers(Collection<Location> locations);
+
+    /**
+     * Get every boosted cell of a world the engine currently has a valid result for
+     */
+    List<BoostedArea> getBoostedAreas(World world);
+
+    /**
+     * Get every farmer currently counting towards boosts in a world
+     */
+    List<QualifiedFarmer> getQualifiedFarmers(World world);
+
+    /**
+     * Get the boost of every online player as of the last boost update, without any computation
+     */
+    BoostSnapshot getSnapshot();
+}
@@ -0,0 +1,92 @@
+package com.flowey258.harvestBoost.api;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.managers.BoostManager;
+import com.flowey258.harvestBoost.managers.PlayerBoost;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * HarvestBoostAPI implementation registered with the services manager
+ */
+public class HarvestBoostService implements HarvestBoostAPI {
+
+    private final HarvestBoost plugin;
+    private final BoostManager boostManager;
+
+    // Replaced wholesale after every boost update, so readers on any thread see a consistent view
+    private volatile BoostSnapshot snapshot = BoostSnapshot.EMPTY;
+
+    public HarvestBoostService(HarvestBoost plugin) {
+        this.plugin = plugin;
+        this.boostManager = plugin.getBoostManager();
+    }
+
+    @Override
+    public double getMultiplier(Location location) {
+        return location.getWorld() != null ? boostManager.getBoostMultiplier(location) : 1.0;
+    }
+
+    @Override
+    public double[] getMultipliers(Collection<Location> locations) {
+        double[] multipliers = new double[locations.size()];
+
+        // Locations sharing a cell are answered from the cell the first of them resolved
+        int i = 0;
+        for (Location location : locations) {
+            multipliers[i++] = getMultiplier(location);
+        }
+        return multipliers;
+    }
+
+    @Override
+    public List<BoostedArea> getBoostedAreas(World world) {
+        List<BoostedArea> areas = new ArrayList<>();
+        boostManager.forEachBoostedCell(world, (minX, minY, minZ, size, farmerCount, multiplier) ->
+                areas.add(new BoostedArea(world, minX, minY, minZ, size, farmerCount, multiplier)));
+        return areas;
+    }
+
+    @Override
+    public List<QualifiedFarmer> getQualifiedFarmers(World world) {
+        List<QualifiedFarmer> farmers = new ArrayList<>();
+        plugin.getPlayerTracker().forEachQualifiedFarmer(world, (playerId, location) ->
+                farmers.add(new QualifiedFarmer(playerId, location.clone())));
+        return farmers;
+    }
+
+    @Override
+    public BoostSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Publish the boosts resolved by a boost update as the new snapshot
+     */
+    public void publish(List<PlayerBoost> boostFrame) {
+        int maxLevel = plugin.getConfigManager().getSettings().getMaxPlayers();
+        Map<UUID, BoostSnapshot.PlayerBoostView> players = new HashMap<>(boostFrame.size() * 2);
+
+        for (PlayerBoost boost : boostFrame) {
+            players.put(boost.player().getUniqueId(), new BoostSnapshot.PlayerBoostView(
+                    BoostManager.boostLevel(boost.farmerCount(), maxLevel),
+                    boost.farmerCount(), boost.multiplier(), boost.percentage()));
+        }
+
+        snapshot = new BoostSnapshot(Map.copyOf(players), System.currentTimeMillis());
+    }
+
+    /**
+     * Drop the published snapshot
+     */
+    public void clear() {
+        snapshot = BoostSnapshot.EMPTY;
+    }
+}
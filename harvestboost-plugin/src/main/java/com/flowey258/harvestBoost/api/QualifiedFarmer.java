@@ -0,0 +1,11 @@
+package com.flowey258.harvestBoost.api;
+
+import org.bukkit.Location;
+
+import java.util.UUID;
+
+/**
+ * Farmer counting towards boosts, with the location they were last seen farming at
+ */
+public record QualifiedFarmer(UUID playerId, Location location) {
+}
@@ -3,7 +3,15 @@ package com.flowey258.harvestBoost.commands;
 import com.flowey258.harvestBoost.HarvestBoost;
 import com.flowey258.harvestBoost.config.ConfigManager;
 import com.flowey258.harvestBoost.managers.BoostManager;
+import com.flowey258.harvestBoost.managers.ParticleManager;
+import com.flowey258.harvestBoost.managers.PlantColumnManager;
 import com.flowey258.harvestBoost.managers.PlayerTracker;
+import com.flowey258.harvestBoost.metrics.Counter;
+import com.flowey258.harvestBoost.metrics.HistogramSnapshot;
+import com.flowey258.harvestBoost.metrics.PluginMetrics;
+import com.flowey258.harvestBoost.metrics.Timer;
+import com.flowey258.harvestBoost.tasks.ExtraGrowthScheduler;
+import com.flowey258.harvestBoost.tasks.GrowthBoostScheduler;
 import org.bukkit.Location;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -43,6 +51,7 @@ public class HarvestBoostCommand implements CommandExecutor, TabCompleter {
             case "status" -> handleStatus(sender);
             case "info" -> handleInfo(sender);
             case "debug" -> handleDebug(sender, args);
+            case "metrics" -> handleMetrics(sender, args);
             case "help" -> {
                 showHelp(sender);
                 yield true;
@@ -144,6 +153,29 @@ public class HarvestBoostCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("§7- Sounds: " + (configManager.isSoundsEnabled() ? "§aYes" : "§cNo"));
         sender.sendMessage("§7- XP bonus: " + (configManager.isXpBonusEnabled() ? "§aYes" : "§cNo"));
 
+        if (sender.hasPermission("harvestboost.admin")) {
+            GrowthBoostScheduler growthScheduler = plugin.getGrowthScheduler();
+            sender.sendMessage("");
+            sender.sendMessage("§7Growth queue: §b" + growthScheduler.getQueueDepth() + " pending §7(peak §b" +
+                    growthScheduler.getPeakQueueDepth() + "§7, budget §b" + configManager.getMaxCropsPerTick() + "/tick§7)");
+            sender.sendMessage("§7Growth boosts: §b" + growthScheduler.getProcessedCount() + " applied§7, §b" +
+                    growthScheduler.getDeferredCount() + " deferred");
+
+            ExtraGrowthScheduler extraGrowth = plugin.getExtraGrowthScheduler();
+            sender.sendMessage("§7Extra growth: §b" + extraGrowth.getRegisteredCount() + " crops registered§7, §b" +
+                    extraGrowth.getGrownCount() + "/" + extraGrowth.getAttemptCount() + "§7 ticks grew, §b" +
+                    extraGrowth.getDroppedCount() + "§7 over budget");
+
+            PlantColumnManager plantColumns = plugin.getPlantColumnManager();
+            sender.sendMessage("§7Plant columns: §b" + plantColumns.getCachedColumnCount() + " cached §7(§b" +
+                    plantColumns.getHits() + "§7 hits, §b" + plantColumns.getMisses() + "§7 misses, §b" +
+                    plantColumns.getMismatches() + "§7 mismatches)");
+
+            ParticleManager particles = plugin.getParticleManager();
+            sender.sendMessage("§7Particles: §b" + particles.getPacketsSent() + " bursts sent§7, §b" +
+                    particles.getPacketsCulled() + " culled§7, §b" + particles.getDuplicateCount() + " duplicates merged");
+        }
+
         return true;
     }
 
@@ -172,12 +204,14 @@ public class HarvestBoostCommand implements CommandExecutor, TabCompleter {
             case "on" -> {
                 configManager.getConfig().set("advanced.debug", true);
                 plugin.saveConfig();
+                configManager.refreshSettings();
                 sender.sendMessage("§aDebug mode enabled.");
                 return true;
             }
             case "off" -> {
                 configManager.getConfig().set("advanced.debug", false);
                 plugin.saveConfig();
+                configManager.refreshSettings();
                 sender.sendMessage("§cDebug mode disabled.");
                 return true;
             }
@@ -194,6 +228,106 @@ public class HarvestBoostCommand implements CommandExecutor, TabCompleter {
         }
     }
 
+    /**
+     * Handle metrics command
+     */
+    private boolean handleMetrics(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("harvestboost.admin")) {
+            sender.sendMessage(configManager.getMessage("no-permission"));
+            return true;
+        }
+
+        PluginMetrics metrics = plugin.getMetrics();
+
+        if (args.length >= 2) {
+            switch (args[1].toLowerCase()) {
+                case "on" -> {
+                    configManager.getConfig().set("performance.metrics", true);
+                    plugin.saveConfig();
+                    configManager.refreshSettings();
+                    plugin.applyMetricsSettings();
+                    sender.sendMessage("§aMetrics collection enabled.");
+                }
+                case "off" -> {
+                    configManager.getConfig().set("performance.metrics", false);
+                    plugin.saveConfig();
+                    configManager.refreshSettings();
+                    plugin.applyMetricsSettings();
+                    sender.sendMessage(metrics.isEnabled()
+                            ? "§eMetrics stay on while the Prometheus endpoint is enabled."
+                            : "§cMetrics collection disabled.");
+                }
+                case "reset" -> {
+                    metrics.reset();
+                    sender.sendMessage("§aMetrics reset.");
+                }
+                default -> sender.sendMessage("§cUsage: /harvestboost metrics [on|off|reset]");
+            }
+            return true;
+        }
+
+        if (!metrics.isEnabled()) {
+            sender.sendMessage("§7Metrics are disabled. Enable them with §b/harvestboost metrics on§7.");
+            return true;
+        }
+
+        // Rates and latencies cover the last full minute, or everything collected until one has passed
+        String window = metrics.hasFullWindow()
+                ? "last minute"
+                : "last " + Math.max(1, metrics.getCollectingNanos() / 1_000_000_000L) + "s";
+
+        sender.sendMessage("§a=== HarvestBoost Metrics §7(" + window + ")§a ===");
+        sender.sendMessage("§eTimings §8(calls/min, p50, p99, max)");
+        for (Timer timer : metrics.getTimers()) {
+            HistogramSnapshot recent = timer.getRecent();
+            if (recent.count() == 0) {
+                continue;
+            }
+
+            sender.sendMessage("§7" + timer.getName() + " §8- §b" + formatRate(timer.getRatePerMinute()) + "/min"
+                    + " §7p50 §b" + formatNanos(recent.percentile(0.50))
+                    + " §7p99 §b" + formatNanos(recent.percentile(0.99))
+                    + " §7max §b" + formatNanos(recent.max()));
+        }
+
+        sender.sendMessage("§eCounters §8(per minute, total)");
+        for (Counter counter : metrics.getCounters()) {
+            sender.sendMessage("§7" + counter.getName() + " §8- §b" + formatRate(counter.getRatePerMinute()) + "/min"
+                    + " §7total §b" + counter.getTotal());
+        }
+
+        // Hit rate of the boost cell cache, the number that tells whether the cell size fits the farms
+        long hits = metrics.boostCacheHits.getTotal();
+        long lookups = hits + metrics.boostCacheMisses.getTotal() + metrics.boostCacheStale.getTotal();
+        if (lookups > 0) {
+            sender.sendMessage("§7Boost cache hit rate: §b" + String.format("%.1f", 100.0 * hits / lookups) + "%");
+        }
+        return true;
+    }
+
+    /**
+     * Format a per-minute rate, with one decimal only where it matters
+     */
+    private String formatRate(double ratePerMinute) {
+        return ratePerMinute >= 100 ? String.valueOf(Math.round(ratePerMinute)) : String.format("%.1f", ratePerMinute);
+    }
+
+    /**
+     * Format a duration in nanoseconds with a readable unit
+     */
+    private String formatNanos(long nanos) {
+        if (nanos < 1_000L) {
+            return nanos + "ns";
+        }
+        if (nanos < 1_000_000L) {
+            return String.format("%.1fµs", nanos / 1_000.0);
+        }
+        if (nanos < 1_000_000_000L) {
+            return String.format("%.2fms", nanos / 1_000_000.0);
+        }
+        return String.format("%.2fs", nanos / 1_000_000_000.0);
+    }
+
     /**
      * Show help message
      */
@@ -207,6 +341,7 @@ public class HarvestBoostCommand implements CommandExecutor, TabCompleter {
             sender.sendMessage("§c=== Admin Commands ===");
             sender.sendMessage("§7/harvestboost reload §8- §7Reload plugin configuration");
             sender.sendMessage("§7/harvestboost debug <on|off|player> §8- §7Debug commands");
+            sender.sendMessage("§7/harvestboost metrics [on|off|reset] §8- §7Hot-path timings and counters");
         }
 
         sender.sendMessage("");
@@ -223,7 +358,7 @@ public class HarvestBoostCommand implements CommandExecutor, TabCompleter {
 
             if (sender.hasPermission("harvestboost.admin")) {
                 subCommands = new ArrayList<>(subCommands);
-                subCommands.addAll(Arrays.asList("reload", "debug"));
+                subCommands.addAll(Arrays.asList("reload", "debug", "metrics"));
             }
 
             String partial = args[0].toLowerCase();
@@ -242,6 +377,15 @@ public class HarvestBoostCommand implements CommandExecutor, TabCompleter {
                     }
                 }
             }
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("metrics")) {
+            if (sender.hasPermission("harvestboost.admin")) {
+                String partial = args[1].toLowerCase();
+                for (String metricsCommand : Arrays.asList("on", "off", "reset")) {
+                    if (metricsCommand.startsWith(partial)) {
+                        completions.add(metricsCommand);
+                    }
+                }
+            }
         }
 
         return completions;
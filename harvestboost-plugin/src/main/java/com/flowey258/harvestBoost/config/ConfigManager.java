@@ -0,0 +1,293 @@
+package com.flowey258.harvestBoost.config;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import org.bukkit.ChatColor;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.List;
+
+public class ConfigManager {
+
+    private final HarvestBoost plugin;
+    private FileConfiguration config;
+
+    // Compiled settings, swapped in one step on reload so readers never see a half-built config
+    private volatile PluginSettings settings;
+
+    public ConfigManager(HarvestBoost plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Load and validate configuration
+     */
+    public void loadConfig() {
+        // Save default config if it doesn't exist
+        plugin.saveDefaultConfig();
+
+        // Reload config from file
+        plugin.reloadConfig();
+        config = plugin.getConfig();
+
+        // Validate configuration
+        validateConfig();
+
+        // Compile the typed snapshot
+        refreshSettings();
+
+        plugin.getLogger().info("Loaded " + settings.getMaxPlayers() + " boost levels");
+    }
+
+    /**
+     * Recompile the settings snapshot from the in-memory configuration
+     * (e.g. after a setting was changed in-game or a disabled world was loaded)
+     */
+    public void refreshSettings() {
+        settings = PluginSettings.compile(config, plugin.getServer(), plugin.getLogger());
+    }
+
+    /**
+     * Get the current settings snapshot; hot code should read this once per event
+     */
+    public PluginSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Validate configuration values
+     */
+    private void validateConfig() {
+        // Validate radius
+        if (config.getInt("detection.radius", 10) <= 0) {
+            plugin.getLogger().warning("Detection radius must be positive! Using default value of 10.");
+            config.set("detection.radius", 10);
+        }
+
+        // Validate check interval
+        if (config.getInt("detection.check-interval", 100) <= 0) {
+            plugin.getLogger().warning("Check interval must be positive! Using default value of 100.");
+            config.set("detection.check-interval", 100);
+        }
+
+        // Validate boost cell size
+        int cellSize = config.getInt("performance.boost-cell-size", 4);
+        if (cellSize < 1 || cellSize > 16 || Integer.bitCount(cellSize) != 1) {
+            plugin.getLogger().warning("Boost cell size must be a power of two between 1 and 16! Using default value of 4.");
+            config.set("performance.boost-cell-size", 4);
+        }
+
+        // Validate growth budget
+        if (config.getInt("performance.max-crops-per-tick", 50) <= 0) {
+            plugin.getLogger().warning("Max crops per tick must be positive! Using default value of 50.");
+            config.set("performance.max-crops-per-tick", 50);
+        }
+
+        if (config.getDouble("performance.max-crop-time-per-tick", 1.0) <= 0) {
+            plugin.getLogger().warning("Max crop time per tick must be positive! Using default value of 1.0.");
+            config.set("performance.max-crop-time-per-tick", 1.0);
+        }
+
+        // Validate action bar refresh, the client fades an action bar after 60 ticks
+        int actionBarInterval = config.getInt("effects.actionbar.update-interval", 40);
+        if (actionBarInterval <= 0 || actionBarInterval >= 60) {
+            plugin.getLogger().warning("Action bar update interval must be between 1 and 59! Using default value of 40.");
+            config.set("effects.actionbar.update-interval", 40);
+        }
+
+        // Validate particle delivery
+        if (config.getInt("effects.particles.view-distance", 32) <= 0) {
+            plugin.getLogger().warning("Particle view distance must be positive! Using default value of 32.");
+            config.set("effects.particles.view-distance", 32);
+        }
+
+        if (config.getInt("effects.particles.max-packets-per-player", 8) <= 0) {
+            plugin.getLogger().warning("Max particle packets per player must be positive! Using default value of 8.");
+            config.set("effects.particles.max-packets-per-player", 8);
+        }
+
+        if (config.getInt("performance.max-extra-growth-per-tick", 20) < 0) {
+            plugin.getLogger().warning("Max extra growth per tick can't be negative! Using default value of 20.");
+            config.set("performance.max-extra-growth-per-tick", 20);
+        }
+
+        // Validate metrics endpoint
+        int endpointPort = config.getInt("metrics-endpoint.port", 9225);
+        if (endpointPort < 1 || endpointPort > 65535) {
+            plugin.getLogger().warning("Metrics endpoint port must be between 1 and 65535! Using default value of 9225.");
+            config.set("metrics-endpoint.port", 9225);
+        }
+
+        if (!config.getString("metrics-endpoint.path", "/metrics").startsWith("/")) {
+            plugin.getLogger().warning("Metrics endpoint path must start with '/'! Using default value of /metrics.");
+            config.set("metrics-endpoint.path", "/metrics");
+        }
+
+        // Validate max players
+        if (config.getInt("boosts.max-players", 4) <= 0) {
+            plugin.getLogger().warning("Max players must be positive! Using default value of 4.");
+            config.set("boosts.max-players", 4);
+        }
+
+        // Save config if changes were made
+        plugin.saveConfig();
+    }
+
+    /**
+     * Get formatted message with color codes
+     */
+    public String getMessage(String key) {
+        String prefix = config.getString("messages.prefix", "&a[HarvestBoost] ");
+        String message = config.getString("messages." + key, "Message not found: " + key);
+        return ChatColor.translateAlternateColorCodes('&', prefix + message);
+    }
+
+    /**
+     * Get formatted message without prefix
+     */
+    public String getMessageNoPrefix(String key) {
+        String message = config.getString("messages." + key, "Message not found: " + key);
+        return ChatColor.translateAlternateColorCodes('&', message);
+    }
+
+    /**
+     * Get boost multiplier for player count
+     */
+    public double getBoostMultiplier(int playerCount) {
+        return settings.getBoostMultiplier(playerCount);
+    }
+
+    /**
+     * Get boost percentage for display (e.g., 25 for 1.25x multiplier)
+     */
+    public int getBoostPercentage(int playerCount) {
+        return settings.getBoostPercentage(playerCount);
+    }
+
+    // Configuration getters
+    public int getDetectionRadius() {
+        return settings.getDetectionRadius();
+    }
+
+    public int getCheckInterval() {
+        return settings.getCheckInterval();
+    }
+
+    public int getMaxPlayers() {
+        return settings.getMaxPlayers();
+    }
+
+    public int getFarmingDetectionRadius() {
+        return settings.getFarmingDetectionRadius();
+    }
+
+    public int getMinimumPresenceTime() {
+        return settings.getMinimumPresenceTime();
+    }
+
+    public boolean isCropsEnabled() {
+        return settings.isCropsEnabled();
+    }
+
+    public boolean isSaplingsEnabled() {
+        return settings.isSaplingsEnabled();
+    }
+
+    public boolean isBambooEnabled() {
+        return settings.isBambooEnabled();
+    }
+
+    public boolean isTallPlantsEnabled() {
+        return settings.isTallPlantsEnabled();
+    }
+
+    public boolean isParticlesEnabled() {
+        return settings.isParticlesEnabled();
+    }
+
+    public String getParticleType() {
+        return settings.getParticleTypeName();
+    }
+
+    public int getParticleAmount() {
+        return settings.getParticleAmount();
+    }
+
+    public int getParticleInterval() {
+        return settings.getParticleInterval();
+    }
+
+    public boolean isActionBarEnabled() {
+        return settings.isActionBarEnabled();
+    }
+
+    public int getActionBarUpdateInterval() {
+        return settings.getActionBarUpdateInterval();
+    }
+
+    public String getActionBarFormat() {
+        return settings.getActionBarFormat();
+    }
+
+    public boolean isSoundsEnabled() {
+        return settings.isSoundsEnabled();
+    }
+
+    public String getEnterBoostSound() {
+        return settings.getEnterBoostSoundName();
+    }
+
+    public String getBoostChangeSound() {
+        return settings.getBoostChangeSoundName();
+    }
+
+    public float getSoundVolume() {
+        return settings.getSoundVolume();
+    }
+
+    public float getSoundPitch() {
+        return settings.getSoundPitch();
+    }
+
+    public boolean isDebugEnabled() {
+        return settings.isDebugEnabled();
+    }
+
+    public List<String> getDisabledWorlds() {
+        return settings.getDisabledWorlds();
+    }
+
+    public boolean isXpBonusEnabled() {
+        return settings.isXpBonusEnabled();
+    }
+
+    public int getXpBonusPerLevel() {
+        return settings.getXpBonusPerLevel();
+    }
+
+    public int getMaxCropsPerTick() {
+        return settings.getMaxCropsPerTick();
+    }
+
+    public int getBoostCellSize() {
+        return settings.getBoostCellSize();
+    }
+
+    /**
+     * Get the boost cell size as a bit shift (e.g. 2 for 4-block cells)
+     */
+    public int getBoostCellShift() {
+        return settings.getBoostCellShift();
+    }
+
+    public int getAsyncScanThreads() {
+        return settings.getAsyncScanThreads();
+    }
+
+    public FarmMaterialRegistry getMaterialRegistry() {
+        return settings.getMaterials();
+    }
+
+    public FileConfiguration getConfig() {
+        return config;
+    }
+}
\ No newline at end of file
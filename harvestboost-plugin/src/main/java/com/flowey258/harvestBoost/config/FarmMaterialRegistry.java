@@ -0,0 +1,135 @@
+package com.flowey258.harvestBoost.config;
+
+import com.flowey258.harvestBoost.core.BlockClassifier;
+import com.flowey258.harvestBoost.platform.BukkitBlockTypes;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.logging.Logger;
+
+/**
+ * Material-typed view of the engine's {@link BlockClassifier}, which indexes materials by ordinal.
+ *
+ * Compiled once at config load from the material lists, tags and enabled features; every
+ * classification afterwards is a single array lookup. A new registry is swapped in on reload.
+ */
+public final class FarmMaterialRegistry {
+
+    // Raw categories
+    public static final int CROP = BlockClassifier.CROP;
+    public static final int SAPLING = BlockClassifier.SAPLING;
+    public static final int BAMBOO = BlockClassifier.BAMBOO;
+    public static final int TALL_PLANT = BlockClassifier.TALL_PLANT;
+    public static final int FARMLAND = BlockClassifier.FARMLAND;
+    public static final int AGEABLE = BlockClassifier.AGEABLE;
+    public static final int HEIGHT_BASED = BlockClassifier.HEIGHT_BASED;
+    public static final int FARMING_ITEM = BlockClassifier.FARMING_ITEM;
+    public static final int FARMING_TOOL = BlockClassifier.FARMING_TOOL;
+
+    // Derived from the raw categories and the enabled features
+    public static final int BOOSTABLE = BlockClassifier.BOOSTABLE;
+    public static final int FARMABLE = BlockClassifier.FARMABLE;
+    public static final int FARMING_BLOCK = BlockClassifier.FARMING_BLOCK;
+
+    private final BlockClassifier classifier;
+
+    private FarmMaterialRegistry(BlockClassifier classifier) {
+        this.classifier = classifier;
+    }
+
+    /**
+     * Compile a registry from the loaded configuration
+     */
+    public static FarmMaterialRegistry compile(FileConfiguration config, Server server, Logger logger) {
+        BlockClassifier.Rules rules = new BlockClassifier.Rules(
+                config.getStringList("materials.crops"),
+                config.getStringList("materials.saplings"),
+                config.getStringList("materials.bamboo"),
+                config.getStringList("materials.tall-plants"),
+                config.getStringList("materials.exclude"),
+                config.getBoolean("enable.crops", true),
+                config.getBoolean("enable.saplings", true),
+                config.getBoolean("enable.bamboo", true),
+                config.getBoolean("enable.tall-plants", true));
+
+        return new FarmMaterialRegistry(BlockClassifier.compile(new BukkitBlockTypes(server), rules, logger));
+    }
+
+    /**
+     * The engine classifier behind this registry
+     */
+    public BlockClassifier getClassifier() {
+        return classifier;
+    }
+
+    /**
+     * Check if a material has any of the given flags
+     */
+    public boolean is(Material material, int flag) {
+        return classifier.is(material.ordinal(), flag);
+    }
+
+    /**
+     * Check if a block type should receive growth boosts
+     */
+    public boolean isBoostable(Material material) {
+        return classifier.isBoostable(material.ordinal());
+    }
+
+    /**
+     * Check if a block type marks a farm for presence detection
+     */
+    public boolean isFarmable(Material material) {
+        return classifier.isFarmable(material.ordinal());
+    }
+
+    /**
+     * Check if a block uses age-based growth
+     */
+    public boolean isAgeable(Material material) {
+        return classifier.isAgeable(material.ordinal());
+    }
+
+    /**
+     * Check if a block uses height-based growth
+     */
+    public boolean isHeightBased(Material material) {
+        return classifier.isHeightBased(material.ordinal());
+    }
+
+    /**
+     * Chance a random tick advances a plant, 0 for blocks an extra growth tick cannot grow
+     */
+    public double growthChance(Material material) {
+        return classifier.growthChance(material.ordinal());
+    }
+
+    /**
+     * Light level a plant needs for a random tick to grow it
+     */
+    public int minGrowthLight(Material material) {
+        return classifier.minGrowthLight(material.ordinal());
+    }
+
+    /**
+     * Check if interacting with a block counts as farming activity
+     */
+    public boolean isFarmingBlock(Material material) {
+        return classifier.isFarmingBlock(material.ordinal());
+    }
+
+    /**
+     * Check if picking up an item counts as farming activity
+     */
+    public boolean isFarmingItem(Material material) {
+        return classifier.isFarmingItem(material.ordinal());
+    }
+
+    /**
+     * Check if an item is a farming tool
+     */
+    public boolean isFarmingTool(Material material) {
+        return classifier.isFarmingTool(material.ordinal());
+    }
+}
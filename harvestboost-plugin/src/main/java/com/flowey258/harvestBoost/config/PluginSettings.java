@@ -0,0 +1,433 @@
+package com.flowey258.harvestBoost.config;
+
+import com.flowey258.harvestBoost.core.BlockClassifier;
+import com.flowey258.harvestBoost.core.EngineSettings;
+import com.flowey258.harvestBoost.util.MessageTemplate;
+import org.bukkit.ChatColor;
+import org.bukkit.Particle;
+import org.bukkit.Server;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Immutable, typed snapshot of the plugin configuration.
+ *
+ * Compiled once per config load with every value already parsed: primitives instead of path
+ * lookups, a multiplier table indexed by player count, resolved particle and sound enums, action
+ * bar messages pre-rendered per player count and disabled worlds keyed by UID. Hot code grabs the
+ * current snapshot once and reads plain fields. The engine reads it through {@link EngineSettings}.
+ */
+public final class PluginSettings implements EngineSettings {
+
+    // Farmer counts whose action bar message is rendered when the settings are compiled
+    private static final int PRE_RENDERED_ACTION_BARS = 32;
+
+    private final int detectionRadius;
+    private final int checkInterval;
+    private final int maxPlayers;
+    private final double[] boostMultipliers;
+    private final int[] boostPercentages;
+
+    private final int farmingDetectionRadius;
+    private final int minimumPresenceTime;
+    private final boolean debugEnabled;
+    private final List<String> disabledWorlds;
+    private final Set<UUID> disabledWorldIds;
+    private final boolean xpBonusEnabled;
+    private final int xpBonusPerLevel;
+
+    private final boolean cropsEnabled;
+    private final boolean saplingsEnabled;
+    private final boolean bambooEnabled;
+    private final boolean tallPlantsEnabled;
+    private final FarmMaterialRegistry materials;
+
+    private final boolean particlesEnabled;
+    private final String particleTypeName;
+    private final Particle particleType;
+    private final int particleAmount;
+    private final int particleInterval;
+    private final int particleViewDistance;
+    private final int maxParticlePacketsPerPlayer;
+
+    private final boolean actionBarEnabled;
+    private final int actionBarUpdateInterval;
+    private final String actionBarFormat;
+    private final MessageTemplate actionBarTemplate;
+    private final String[] actionBarMessages;
+
+    private final boolean soundsEnabled;
+    private final String enterBoostSoundName;
+    private final Sound enterBoostSound;
+    private final String boostChangeSoundName;
+    private final Sound boostChangeSound;
+    private final float soundVolume;
+    private final float soundPitch;
+
+    private final int maxCropsPerTick;
+    private final long maxCropTimeNanos;
+    private final int maxExtraGrowthPerTick;
+    private final int boostCellSize;
+    private final int boostCellShift;
+    private final int asyncScanThreads;
+    private final boolean metricsEnabled;
+
+    private final boolean metricsEndpointEnabled;
+    private final String metricsEndpointHost;
+    private final int metricsEndpointPort;
+    private final String metricsEndpointPath;
+
+    private PluginSettings(FileConfiguration config, Server server, Logger logger) {
+        detectionRadius = config.getInt("detection.radius", 10);
+        checkInterval = config.getInt("detection.check-interval", 100);
+        maxPlayers = config.getInt("boosts.max-players", 4);
+
+        // Index 0 (nobody farming) and 1 (solo) default to no boost
+        boostMultipliers = new double[maxPlayers + 1];
+        boostPercentages = new int[maxPlayers + 1];
+        boostMultipliers[0] = 1.0;
+        for (int i = 1; i <= maxPlayers; i++) {
+            boostMultipliers[i] = config.getDouble("boosts." + i, 1.0);
+        }
+        for (int i = 0; i <= maxPlayers; i++) {
+            boostPercentages[i] = (int) Math.round((boostMultipliers[i] - 1.0) * 100);
+        }
+
+        farmingDetectionRadius = config.getInt("advanced.farming-detection-radius", 3);
+        minimumPresenceTime = config.getInt("advanced.minimum-presence-time", 100);
+        debugEnabled = config.getBoolean("advanced.debug", false);
+        disabledWorlds = List.copyOf(config.getStringList("advanced.disabled-worlds"));
+        xpBonusEnabled = config.getBoolean("advanced.xp-bonus.enabled", true);
+        xpBonusPerLevel = config.getInt("advanced.xp-bonus.per-level", 1);
+
+        // Worlds that are not loaded yet are picked up when they load and settings are recompiled
+        Set<UUID> worldIds = new HashSet<>();
+        for (String worldName : disabledWorlds) {
+            World world = server != null ? server.getWorld(worldName) : null;
+            if (world != null) {
+                worldIds.add(world.getUID());
+            }
+        }
+        disabledWorldIds = Set.copyOf(worldIds);
+
+        cropsEnabled = config.getBoolean("enable.crops", true);
+        saplingsEnabled = config.getBoolean("enable.saplings", true);
+        bambooEnabled = config.getBoolean("enable.bamboo", true);
+        tallPlantsEnabled = config.getBoolean("enable.tall-plants", true);
+        materials = FarmMaterialRegistry.compile(config, server, logger);
+
+        particlesEnabled = config.getBoolean("effects.particles.enabled", true);
+        particleTypeName = config.getString("effects.particles.type", "HAPPY_VILLAGER");
+        particleType = resolveParticle(particleTypeName, logger);
+        particleAmount = config.getInt("effects.particles.amount", 3);
+        particleInterval = config.getInt("effects.particles.interval", 60);
+        particleViewDistance = config.getInt("effects.particles.view-distance", 32);
+        maxParticlePacketsPerPlayer = config.getInt("effects.particles.max-packets-per-player", 8);
+
+        actionBarEnabled = config.getBoolean("effects.actionbar.enabled", true);
+        actionBarUpdateInterval = config.getInt("effects.actionbar.update-interval", 40);
+        actionBarFormat = config.getString("effects.actionbar.format", "🌱 Growth boosted by %boost%% (%players% farmers nearby!)");
+        actionBarTemplate = MessageTemplate.compile(ChatColor.translateAlternateColorCodes('&', actionBarFormat),
+                "%boost%", "%players%");
+
+        // Farmer counts past the table are rendered on demand
+        actionBarMessages = new String[PRE_RENDERED_ACTION_BARS + 1];
+        for (int i = 0; i < actionBarMessages.length; i++) {
+            actionBarMessages[i] = actionBarTemplate.render(getBoostPercentage(i), i);
+        }
+
+        soundsEnabled = config.getBoolean("effects.sounds.enabled", true);
+        enterBoostSoundName = config.getString("effects.sounds.enter-boost-area", "ENTITY_EXPERIENCE_ORB_PICKUP");
+        enterBoostSound = resolveSound(enterBoostSoundName, logger);
+        boostChangeSoundName = config.getString("effects.sounds.boost-change", "BLOCK_NOTE_BLOCK_CHIME");
+        boostChangeSound = resolveSound(boostChangeSoundName, logger);
+        soundVolume = (float) config.getDouble("effects.sounds.volume", 0.5);
+        soundPitch = (float) config.getDouble("effects.sounds.pitch", 1.2);
+
+        maxCropsPerTick = config.getInt("performance.max-crops-per-tick", 50);
+        maxCropTimeNanos = (long) (config.getDouble("performance.max-crop-time-per-tick", 1.0) * 1_000_000L);
+        maxExtraGrowthPerTick = config.getInt("performance.max-extra-growth-per-tick", 20);
+        boostCellSize = config.getInt("performance.boost-cell-size", 4);
+        boostCellShift = Integer.numberOfTrailingZeros(boostCellSize);
+        asyncScanThreads = config.getInt("performance.async-scan-threads", 2);
+        metricsEnabled = config.getBoolean("performance.metrics", false);
+
+        metricsEndpointEnabled = config.getBoolean("metrics-endpoint.enabled", false);
+        metricsEndpointHost = config.getString("metrics-endpoint.host", "127.0.0.1");
+        metricsEndpointPort = config.getInt("metrics-endpoint.port", 9225);
+        metricsEndpointPath = config.getString("metrics-endpoint.path", "/metrics");
+    }
+
+    /**
+     * Compile a snapshot from a validated configuration
+     */
+    public static PluginSettings compile(FileConfiguration config, Server server, Logger logger) {
+        return new PluginSettings(config, server, logger);
+    }
+
+    private static Particle resolveParticle(String name, Logger logger) {
+        try {
+            return Particle.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid arcane particle type: " + name);
+            return null;
+        }
+    }
+
+    private static Sound resolveSound(String name, Logger logger) {
+        try {
+            return Sound.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid sound: " + name);
+            return null;
+        }
+    }
+
+    /**
+     * Get boost multiplier for player count
+     */
+    @Override
+    public double getBoostMultiplier(int playerCount) {
+        // Cap at max players
+        return boostMultipliers[Math.max(0, Math.min(playerCount, maxPlayers))];
+    }
+
+    /**
+     * Get boost percentage for display (e.g., 25 for 1.25x multiplier)
+     */
+    public int getBoostPercentage(int playerCount) {
+        return boostPercentages[Math.max(0, Math.min(playerCount, maxPlayers))];
+    }
+
+    /**
+     * Check if the plugin is disabled in a world
+     */
+    public boolean isWorldDisabled(World world) {
+        return isWorldDisabled(world.getUID());
+    }
+
+    @Override
+    public boolean isWorldDisabled(UUID worldId) {
+        return disabledWorldIds.contains(worldId);
+    }
+
+    @Override
+    public int getDetectionRadius() {
+        return detectionRadius;
+    }
+
+    public int getCheckInterval() {
+        return checkInterval;
+    }
+
+    @Override
+    public int getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    @Override
+    public int getFarmingDetectionRadius() {
+        return farmingDetectionRadius;
+    }
+
+    @Override
+    public int getMinimumPresenceTime() {
+        return minimumPresenceTime;
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return debugEnabled;
+    }
+
+    public List<String> getDisabledWorlds() {
+        return disabledWorlds;
+    }
+
+    public boolean isXpBonusEnabled() {
+        return xpBonusEnabled;
+    }
+
+    public int getXpBonusPerLevel() {
+        return xpBonusPerLevel;
+    }
+
+    public boolean isCropsEnabled() {
+        return cropsEnabled;
+    }
+
+    public boolean isSaplingsEnabled() {
+        return saplingsEnabled;
+    }
+
+    public boolean isBambooEnabled() {
+        return bambooEnabled;
+    }
+
+    public boolean isTallPlantsEnabled() {
+        return tallPlantsEnabled;
+    }
+
+    public FarmMaterialRegistry getMaterials() {
+        return materials;
+    }
+
+    @Override
+    public BlockClassifier getClassifier() {
+        return materials.getClassifier();
+    }
+
+    public boolean isParticlesEnabled() {
+        return particlesEnabled;
+    }
+
+    public String getParticleTypeName() {
+        return particleTypeName;
+    }
+
+    /**
+     * Resolved particle, or null when the configured name is invalid
+     */
+    public Particle getParticleType() {
+        return particleType;
+    }
+
+    public int getParticleAmount() {
+        return particleAmount;
+    }
+
+    public int getParticleInterval() {
+        return particleInterval;
+    }
+
+    /**
+     * Distance in blocks beyond which players receive no growth particles
+     */
+    public int getParticleViewDistance() {
+        return particleViewDistance;
+    }
+
+    /**
+     * Growth particle packets a single player receives per tick at most
+     */
+    public int getMaxParticlePacketsPerPlayer() {
+        return maxParticlePacketsPerPlayer;
+    }
+
+    public boolean isActionBarEnabled() {
+        return actionBarEnabled;
+    }
+
+    public int getActionBarUpdateInterval() {
+        return actionBarUpdateInterval;
+    }
+
+    public String getActionBarFormat() {
+        return actionBarFormat;
+    }
+
+    /**
+     * Action bar message for a farmer count, the same instance every time for common counts
+     */
+    public String getActionBarMessage(int playerCount) {
+        if (playerCount >= 0 && playerCount < actionBarMessages.length) {
+            return actionBarMessages[playerCount];
+        }
+        return actionBarTemplate.render(getBoostPercentage(playerCount), playerCount);
+    }
+
+    public boolean isSoundsEnabled() {
+        return soundsEnabled;
+    }
+
+    public String getEnterBoostSoundName() {
+        return enterBoostSoundName;
+    }
+
+    /**
+     * Resolved sound, or null when the configured name is invalid
+     */
+    public Sound getEnterBoostSound() {
+        return enterBoostSound;
+    }
+
+    public String getBoostChangeSoundName() {
+        return boostChangeSoundName;
+    }
+
+    /**
+     * Resolved sound, or null when the configured name is invalid
+     */
+    public Sound getBoostChangeSound() {
+        return boostChangeSound;
+    }
+
+    public float getSoundVolume() {
+        return soundVolume;
+    }
+
+    public float getSoundPitch() {
+        return soundPitch;
+    }
+
+    public int getMaxCropsPerTick() {
+        return maxCropsPerTick;
+    }
+
+    /**
+     * Time budget for applying queued growth boosts each tick, in nanoseconds
+     */
+    public long getMaxCropTimeNanos() {
+        return maxCropTimeNanos;
+    }
+
+    /**
+     * Extra random growth ticks handed out per server tick at most
+     */
+    public int getMaxExtraGrowthPerTick() {
+        return maxExtraGrowthPerTick;
+    }
+
+    /**
+     * Whether hot-path timings and counters are collected for /harvestboost metrics
+     */
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public boolean isMetricsEndpointEnabled() {
+        return metricsEndpointEnabled;
+    }
+
+    public String getMetricsEndpointHost() {
+        return metricsEndpointHost;
+    }
+
+    public int getMetricsEndpointPort() {
+        return metricsEndpointPort;
+    }
+
+    public String getMetricsEndpointPath() {
+        return metricsEndpointPath;
+    }
+
+    public int getBoostCellSize() {
+        return boostCellSize;
+    }
+
+    @Override
+    public int getBoostCellShift() {
+        return boostCellShift;
+    }
+
+    public int getAsyncScanThreads() {
+        return asyncScanThreads;
+    }
+}
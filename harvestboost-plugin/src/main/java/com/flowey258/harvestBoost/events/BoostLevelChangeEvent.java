@@ -0,0 +1,82 @@
+package com.flowey258.harvestBoost.events;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+
+/**
+ * Called on the main thread when the boost level where a player stands changes.
+ *
+ * The level is the number of farmers counted towards the boost, capped at the configured maximum;
+ * level 0 means no boost at all (nobody or only the player themselves farming)
+ */
+public class BoostLevelChangeEvent extends PlayerEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final Location area;
+    private final int previousLevel;
+    private final int newLevel;
+    private final int maxLevel;
+
+    public BoostLevelChangeEvent(Player player, Location area, int previousLevel, int newLevel, int maxLevel) {
+        super(player);
+        this.area = area;
+        this.previousLevel = previousLevel;
+        this.newLevel = newLevel;
+        this.maxLevel = maxLevel;
+    }
+
+    /**
+     * Get the location the new level was resolved at
+     */
+    public Location getArea() {
+        return area.clone();
+    }
+
+    public int getPreviousLevel() {
+        return previousLevel;
+    }
+
+    public int getNewLevel() {
+        return newLevel;
+    }
+
+    /**
+     * Get the highest level boosts can reach with the current configuration
+     */
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    /**
+     * Check if the player just entered a boosted area
+     */
+    public boolean isEnteringBoost() {
+        return previousLevel == 0 && newLevel > 0;
+    }
+
+    /**
+     * Check if the player just lost their boost
+     */
+    public boolean isLeavingBoost() {
+        return previousLevel > 0 && newLevel == 0;
+    }
+
+    /**
+     * Check if the boost just reached the highest level
+     */
+    public boolean isReachingMaxLevel() {
+        return newLevel >= maxLevel && previousLevel < maxLevel;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
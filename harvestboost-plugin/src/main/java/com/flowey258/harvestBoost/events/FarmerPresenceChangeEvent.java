@@ -0,0 +1,59 @@
+package com.flowey258.harvestBoost.events;
+
+import com.flowey258.harvestBoost.core.PresenceState;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+
+/**
+ * Called on the main thread when a player's farming presence changes state,
+ * e.g. when they have stayed long enough to start counting towards boosts
+ */
+public class FarmerPresenceChangeEvent extends PlayerEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final PresenceState previousState;
+    private final PresenceState newState;
+    private final Location farmingArea;
+
+    public FarmerPresenceChangeEvent(Player player, PresenceState previousState, PresenceState newState,
+                                     Location farmingArea) {
+        super(player);
+        this.previousState = previousState;
+        this.newState = newState;
+        this.farmingArea = farmingArea;
+    }
+
+    public PresenceState getPreviousState() {
+        return previousState;
+    }
+
+    public PresenceState getNewState() {
+        return newState;
+    }
+
+    /**
+     * Get the location where the player entered their current farming area
+     */
+    public Location getFarmingArea() {
+        return farmingArea.clone();
+    }
+
+    /**
+     * Check if the player started counting towards boosts
+     */
+    public boolean isQualifying() {
+        return newState == PresenceState.QUALIFIED;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,29 @@
+package com.flowey258.harvestBoost.listeners;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.events.BoostLevelChangeEvent;
+import com.flowey258.harvestBoost.managers.EffectsManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+public class BoostFeedbackListener implements Listener {
+
+    private final EffectsManager effectsManager;
+
+    public BoostFeedbackListener(HarvestBoost plugin) {
+        this.effectsManager = plugin.getEffectsManager();
+    }
+
+    /**
+     * Play sounds and celebrate the highest level when a player's boost level changes
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onBoostLevelChange(BoostLevelChangeEvent event) {
+        effectsManager.handleBoostChange(event.getPlayer(), event.getPreviousLevel(), event.getNewLevel());
+
+        if (event.isReachingMaxLevel()) {
+            effectsManager.showBoostAchievementEffect(event.getPlayer(), event.getNewLevel());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.flowey258.harvestBoost.listeners;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.ConfigManager;
+import com.flowey258.harvestBoost.config.PluginSettings;
+import com.flowey258.harvestBoost.managers.BoostManager;
+import com.flowey258.harvestBoost.managers.EffectsManager;
+import com.flowey258.harvestBoost.managers.GrowthManager;
+import com.flowey258.harvestBoost.metrics.PluginMetrics;
+import com.flowey258.harvestBoost.tasks.GrowthBoostScheduler;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockGrowEvent;
+import org.bukkit.event.world.StructureGrowEvent;
+
+public class CropGrowthListener implements Listener {
+
+    private final HarvestBoost plugin;
+    private final ConfigManager configManager;
+    private final BoostManager boostManager;
+    private final EffectsManager effectsManager;
+    private final GrowthManager growthManager;
+    private final GrowthBoostScheduler growthScheduler;
+    private final PluginMetrics metrics;
+
+    public CropGrowthListener(HarvestBoost plugin) {
+        this.plugin = plugin;
+        this.configManager = plugin.getConfigManager();
+        this.boostManager = plugin.getBoostManager();
+        this.effectsManager = plugin.getEffectsManager();
+        this.growthManager = plugin.getGrowthManager();
+        this.growthScheduler = plugin.getGrowthScheduler();
+        this.metrics = plugin.getMetrics();
+    }
+
+    /**
+     * Handle regular block growth events (crops, bamboo, cactus, sugar cane)
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockGrow(BlockGrowEvent event) {
+        long start = metrics.growEvent.start();
+        queueGrowthBoost(event);
+        metrics.growEvent.stop(start);
+    }
+
+    /**
+     * Queue the boost of a grown block if its world and type are boosted
+     */
+    private void queueGrowthBoost(BlockGrowEvent event) {
+        Block block = event.getBlock();
+        PluginSettings settings = configManager.getSettings();
+
+        // Check if world is disabled
+        if (settings.isWorldDisabled(block.getWorld())) {
+            return;
+        }
+
+        // Check if this type of plant should be boosted (cane, cactus and bamboo grow into the block above)
+        Material newType = event.getNewState().getType();
+        if (!settings.getMaterials().isBoostable(newType)) {
+            return;
+        }
+
+        // Ageable crops already get their whole boost as extra random ticks, a bonus stage here would stack on top
+        if (settings.getMaxExtraGrowthPerTick() > 0 && settings.getMaterials().isAgeable(newType)) {
+            return;
+        }
+
+        // The boost itself runs later under the per-tick growth budget
+        growthScheduler.enqueue(block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Handle tree growth events (saplings growing into trees)
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onStructureGrow(StructureGrowEvent event) {
+        PluginSettings settings = configManager.getSettings();
+        if (event.isCancelled() || !settings.isSaplingsEnabled()) {
+            return;
+        }
+
+        Location location = event.getLocation();
+
+        // Check if world is disabled
+        if (settings.isWorldDisabled(location.getWorld())) {
+            return;
+        }
+
+        // Get boost multiplier for this location
+        double boostMultiplier = boostManager.getBoostMultiplier(location);
+
+        if (boostMultiplier <= 1.0) {
+            return; // No boost to apply
+        }
+
+        // Apply boost chance for tree growth
+        if (growthManager.shouldApplyBoost(boostMultiplier)) {
+            // Show particle effects
+            effectsManager.showCropParticles(location);
+
+            // Trees grow faster by having a higher chance to grow
+            // The event already handles the growth, we just show effects
+
+            if (settings.isDebugEnabled()) {
+                plugin.getLogger().info("Applied " + String.format("%.1f", boostMultiplier) +
+                        "x boost to tree growth at " +
+                        location.getBlockX() + "," + location.getBlockY() + "," + location.getBlockZ());
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.flowey258.harvestBoost.listeners;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.managers.FarmIndexManager;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockGrowEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.StructureGrowEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import java.util.List;
+
+public class FarmIndexListener implements Listener {
+
+    private final FarmIndexManager farmIndexManager;
+
+    public FarmIndexListener(HarvestBoost plugin) {
+        this.farmIndexManager = plugin.getFarmIndexManager();
+    }
+
+    /**
+     * Start tracking chunks as they load
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        farmIndexManager.onChunkLoad(event.getChunk());
+    }
+
+    /**
+     * Release chunk indexes as they unload
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        farmIndexManager.onChunkUnload(event.getChunk());
+    }
+
+    /**
+     * Release the whole index of an unloaded world
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        farmIndexManager.onWorldUnload(event.getWorld());
+    }
+
+    /**
+     * Index planted crops and placed farmland
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        Block block = event.getBlock();
+        farmIndexManager.updateBlock(block.getWorld(), block.getX(), block.getY(), block.getZ(), block.getType());
+    }
+
+    /**
+     * Remove harvested or broken farm blocks
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        Block block = event.getBlock();
+        farmIndexManager.updateBlock(block.getWorld(), block.getX(), block.getY(), block.getZ(), Material.AIR);
+    }
+
+    /**
+     * Follow crops changing state, including melons and pumpkins appearing next to stems
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockGrow(BlockGrowEvent event) {
+        BlockState newState = event.getNewState();
+        farmIndexManager.updateBlock(newState.getWorld(), newState.getX(), newState.getY(), newState.getZ(), newState.getType());
+    }
+
+    /**
+     * Follow farmland drying out into dirt
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(BlockFadeEvent event) {
+        BlockState newState = event.getNewState();
+        farmIndexManager.updateBlock(newState.getWorld(), newState.getX(), newState.getY(), newState.getZ(), newState.getType());
+    }
+
+    /**
+     * Follow water and lava washing crops away
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFromTo(BlockFromToEvent event) {
+        Block to = event.getToBlock();
+        farmIndexManager.updateBlock(to.getWorld(), to.getX(), to.getY(), to.getZ(), event.getBlock().getType());
+    }
+
+    /**
+     * Follow farm blocks a piston pushes, breaks or leaves behind
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        handleMovedBlocks(event.getBlock(), event.getBlocks(), event.getDirection());
+    }
+
+    /**
+     * Follow farm blocks a sticky piston pulls
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        handleMovedBlocks(event.getBlock(), event.getBlocks(), event.getDirection());
+    }
+
+    /**
+     * Remove farm blocks destroyed by creepers, TNT and other entity explosions
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        handleExplodedBlocks(event.blockList());
+    }
+
+    /**
+     * Remove farm blocks destroyed by beds, respawn anchors and other block explosions
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        handleExplodedBlocks(event.blockList());
+    }
+
+    /**
+     * Follow entities changing blocks: trampled farmland, eaten crops, falling blocks landing
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        Block block = event.getBlock();
+        farmIndexManager.updateBlock(block.getWorld(), block.getX(), block.getY(), block.getZ(), event.getTo());
+
+        // A crop on trampled farmland pops off through physics, without an event of its own
+        farmIndexManager.refreshLater(block.getWorld(), block.getX(), block.getY() + 1, block.getZ());
+    }
+
+    /**
+     * Follow saplings and mushrooms turning into trees
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onStructureGrow(StructureGrowEvent event) {
+        // The sapling itself is replaced even when the tree does not cover its position
+        Block origin = event.getLocation().getBlock();
+        farmIndexManager.updateBlock(origin.getWorld(), origin.getX(), origin.getY(), origin.getZ(), Material.AIR);
+
+        for (BlockState state : event.getBlocks()) {
+            farmIndexManager.updateBlock(state.getWorld(), state.getX(), state.getY(), state.getZ(), state.getType());
+        }
+    }
+
+    private void handleMovedBlocks(Block piston, List<Block> blocks, BlockFace direction) {
+        // Where blocks end up, and which crops break on the way, is only settled after the move
+        Block head = piston.getRelative(direction);
+        farmIndexManager.refreshLater(head.getWorld(), head.getX(), head.getY(), head.getZ());
+
+        for (Block block : blocks) {
+            farmIndexManager.refreshLater(block.getWorld(), block.getX(), block.getY(), block.getZ());
+            farmIndexManager.refreshLater(block.getWorld(), block.getX() + direction.getModX(),
+                    block.getY() + direction.getModY(), block.getZ() + direction.getModZ());
+        }
+    }
+
+    private void handleExplodedBlocks(List<Block> blocks) {
+        for (Block block : blocks) {
+            farmIndexManager.updateBlock(block.getWorld(), block.getX(), block.getY(), block.getZ(), Material.AIR);
+
+            // Crops standing on destroyed farmland pop off through physics
+            farmIndexManager.refreshLater(block.getWorld(), block.getX(), block.getY() + 1, block.getZ());
+        }
+    }
+}
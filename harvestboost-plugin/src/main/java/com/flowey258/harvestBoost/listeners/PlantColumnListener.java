@@ -0,0 +1,114 @@
+package com.flowey258.harvestBoost.listeners;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.ConfigManager;
+import com.flowey258.harvestBoost.managers.PlantColumnManager;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockGrowEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.BlockSpreadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import java.util.List;
+
+public class PlantColumnListener implements Listener {
+
+    private final ConfigManager configManager;
+    private final PlantColumnManager plantColumnManager;
+
+    public PlantColumnListener(HarvestBoost plugin) {
+        this.configManager = plugin.getConfigManager();
+        this.plantColumnManager = plugin.getPlantColumnManager();
+    }
+
+    /**
+     * Extend cached columns as sugar cane and cactus grow
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockGrow(BlockGrowEvent event) {
+        handleGrowth(event);
+    }
+
+    /**
+     * Extend cached columns as bamboo grows (reported as spreading)
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockSpread(BlockSpreadEvent event) {
+        handleGrowth(event);
+    }
+
+    /**
+     * Forget columns a placed block joins or splits
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        Block block = event.getBlock();
+        plantColumnManager.onBlockChanged(block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Forget columns a broken block belonged to (blocks above pop without events of their own)
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        Block block = event.getBlock();
+        plantColumnManager.onBlockChanged(block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Forget columns at both ends of every block a piston pushes
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        handleMovedBlocks(event.getBlocks(), event.getDirection());
+    }
+
+    /**
+     * Forget columns at both ends of every block a sticky piston pulls
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        handleMovedBlocks(event.getBlocks(), event.getDirection());
+    }
+
+    /**
+     * Release cached columns as chunks unload
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        plantColumnManager.onChunkUnload(event.getChunk());
+    }
+
+    /**
+     * Release every cached column of an unloaded world
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        plantColumnManager.onWorldUnload(event.getWorld());
+    }
+
+    private void handleGrowth(BlockGrowEvent event) {
+        if (!configManager.getMaterialRegistry().isHeightBased(event.getNewState().getType())) {
+            return;
+        }
+
+        Block block = event.getBlock();
+        plantColumnManager.onGrow(block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+
+    private void handleMovedBlocks(List<Block> blocks, BlockFace direction) {
+        for (Block block : blocks) {
+            plantColumnManager.onBlockChanged(block.getWorld(), block.getX(), block.getY(), block.getZ());
+            plantColumnManager.onBlockChanged(block.getWorld(), block.getX() + direction.getModX(),
+                    block.getY() + direction.getModY(), block.getZ() + direction.getModZ());
+        }
+    }
+}
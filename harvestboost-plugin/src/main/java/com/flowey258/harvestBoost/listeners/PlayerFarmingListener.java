@@ -15,7 +15,9 @@ import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.player.PlayerHarvestBlockEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.inventory.ItemStack;
 
 public class PlayerFarmingListener implements Listener {
@@ -43,7 +45,7 @@ public class PlayerFarmingListener implements Listener {
         Material blockType = event.getBlock().getType();
 
         // Check if it's a farmable block
-        if (isFarmingBlock(blockType)) {
+        if (configManager.getMaterialRegistry().isFarmingBlock(blockType)) {
             updatePlayerFarmingActivity(player, event.getBlock().getLocation());
         }
     }
@@ -61,7 +63,7 @@ public class PlayerFarmingListener implements Listener {
         Material blockType = event.getBlock().getType();
 
         // Check if it's a farmable block
-        if (isFarmingBlock(blockType)) {
+        if (configManager.getMaterialRegistry().isFarmingBlock(blockType)) {
             updatePlayerFarmingActivity(player, event.getBlock().getLocation());
 
             // Give XP bonus if enabled
@@ -104,14 +106,14 @@ public class PlayerFarmingListener implements Listener {
 
         // Check for farmland interaction (tilling, planting)
         if (blockType == Material.FARMLAND || blockType == Material.DIRT || blockType == Material.GRASS_BLOCK) {
-            if (item != null && isFarmingTool(item.getType())) {
+            if (item != null && configManager.getMaterialRegistry().isFarmingTool(item.getType())) {
                 updatePlayerFarmingActivity(player, event.getClickedBlock().getLocation());
             }
         }
 
         // Check for bone meal usage
         if (item != null && item.getType() == Material.BONE_MEAL) {
-            if (isFarmingBlock(blockType)) {
+            if (configManager.getMaterialRegistry().isFarmingBlock(blockType)) {
                 updatePlayerFarmingActivity(player, event.getClickedBlock().getLocation());
             }
         }
@@ -134,11 +136,44 @@ public class PlayerFarmingListener implements Listener {
         Material itemType = event.getItem().getItemStack().getType();
 
         // Check if it's a farming-related item
-        if (isFarmingItem(itemType)) {
+        if (configManager.getMaterialRegistry().isFarmingItem(itemType)) {
             updatePlayerFarmingActivity(player, event.getItem().getLocation());
         }
     }
 
+    /**
+     * Keep tracked farmers' grid positions current as they walk around
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        if (event.isCancelled() || event.getTo() == null) {
+            return;
+        }
+
+        Location from = event.getFrom();
+        Location to = event.getTo();
+
+        // Ignore head rotation and sub-block movement
+        if (from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ() && from.getWorld() == to.getWorld()) {
+            return;
+        }
+
+        playerTracker.updatePlayerPosition(event.getPlayer(), to);
+    }
+
+    /**
+     * Keep tracked farmers' grid positions current across teleports and world changes
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        if (event.isCancelled() || event.getTo() == null) {
+            return;
+        }
+
+        playerTracker.updatePlayerPosition(event.getPlayer(), event.getTo());
+    }
+
     /**
      * Clean up player data when they leave
      */
@@ -146,6 +181,7 @@ public class PlayerFarmingListener implements Listener {
     public void onPlayerQuit(PlayerQuitEvent event) {
         playerTracker.removePlayer(event.getPlayer());
         plugin.getEffectsManager().removePlayer(event.getPlayer());
+        plugin.getBoostManager().removePlayer(event.getPlayer());
     }
 
     /**
@@ -168,7 +204,7 @@ public class PlayerFarmingListener implements Listener {
      */
     private void updatePlayerFarmingActivity(Player player, Location farmingLocation) {
         // Check if world is disabled
-        if (configManager.getDisabledWorlds().contains(farmingLocation.getWorld().getName())) {
+        if (configManager.getSettings().isWorldDisabled(farmingLocation.getWorld())) {
             return;
         }
 
@@ -197,80 +233,4 @@ public class PlayerFarmingListener implements Listener {
             }
         }
     }
-
-    /**
-     * Check if a block is farming-related
-     */
-    private boolean isFarmingBlock(Material blockType) {
-        String typeName = blockType.toString();
-
-        // Crops
-        if (typeName.contains("WHEAT") || typeName.contains("CARROTS") ||
-                typeName.contains("POTATOES") || typeName.contains("BEETROOT") ||
-                typeName.contains("MELON") || typeName.contains("PUMPKIN") ||
-                typeName.equals("SWEET_BERRY_BUSH") || typeName.equals("COCOA") ||
-                typeName.equals("NETHER_WART")) {
-            return true;
-        }
-
-        // Saplings and mushrooms
-        if (typeName.contains("SAPLING") || typeName.contains("MUSHROOM")) {
-            return true;
-        }
-
-        // Tall plants
-        if (typeName.equals("SUGAR_CANE") || typeName.equals("CACTUS") ||
-                typeName.equals("BAMBOO") || typeName.contains("KELP")) {
-            return true;
-        }
-
-        // Farmland and related
-        if (typeName.equals("FARMLAND") || typeName.equals("COMPOSTER")) {
-            return true;
-        }
-
-        return false;
-    }
-
-    /**
-     * Check if an item is farming-related
-     */
-    private boolean isFarmingItem(Material itemType) {
-        String typeName = itemType.toString();
-
-        // Seeds and crops
-        if (typeName.contains("SEEDS") || typeName.contains("WHEAT") ||
-                typeName.contains("CARROT") || typeName.contains("POTATO") ||
-                typeName.contains("BEETROOT") || typeName.equals("MELON_SLICE") ||
-                typeName.contains("PUMPKIN") || typeName.equals("SWEET_BERRIES") ||
-                typeName.equals("COCOA_BEANS") || typeName.equals("NETHER_WART")) {
-            return true;
-        }
-
-        // Saplings and mushrooms
-        if (typeName.contains("SAPLING") || typeName.contains("MUSHROOM")) {
-            return true;
-        }
-
-        // Other farming items
-        if (typeName.equals("SUGAR_CANE") || typeName.equals("CACTUS") ||
-                typeName.equals("BAMBOO") || typeName.equals("KELP")) {
-            return true;
-        }
-
-        return false;
-    }
-
-    /**
-     * Check if an item is a farming tool
-     */
-    private boolean isFarmingTool(Material toolType) {
-        String typeName = toolType.toString();
-
-        return typeName.contains("HOE") ||
-                typeName.equals("BONE_MEAL") ||
-                typeName.contains("SEEDS") ||
-                typeName.equals("WATER_BUCKET") ||
-                typeName.equals("SHEARS");
-    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.flowey258.harvestBoost.listeners;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.ConfigManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+public class WorldListener implements Listener {
+
+    private final HarvestBoost plugin;
+    private final ConfigManager configManager;
+
+    public WorldListener(HarvestBoost plugin) {
+        this.plugin = plugin;
+        this.configManager = plugin.getConfigManager();
+    }
+
+    /**
+     * Recompile settings so disabled worlds loaded after startup are resolved to their UID
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+        if (configManager.getDisabledWorlds().contains(event.getWorld().getName())) {
+            configManager.refreshSettings();
+        }
+    }
+
+    /**
+     * Drop growth boosts still queued or registered for an unloaded world
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        plugin.getGrowthScheduler().onWorldUnload(event.getWorld());
+        plugin.getExtraGrowthScheduler().onWorldUnload(event.getWorld());
+    }
+}
@@ -0,0 +1,30 @@
+package com.flowey258.harvestBoost.managers;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Delivers pre-rendered messages to a player's action bar
+ */
+public interface ActionBarSender {
+
+    /**
+     * Show a message (with section-sign colour codes) on the player's action bar
+     */
+    void send(Player player, String message);
+
+    /**
+     * Pick Adventure when the server provides it, the Spigot chat API otherwise
+     */
+    static ActionBarSender create() {
+        try {
+            Class.forName("net.kyori.adventure.audience.Audience", false, ActionBarSender.class.getClassLoader());
+            Class.forName("net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer", false,
+                    ActionBarSender.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return new SpigotActionBarSender();
+        }
+
+        // Only loaded here, so servers without Adventure never resolve its classes
+        return new AdventureActionBarSender(new SpigotActionBarSender());
+    }
+}
@@ -0,0 +1,44 @@
+package com.flowey258.harvestBoost.managers;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends action bars through Adventure, for servers whose players are audiences
+ */
+final class AdventureActionBarSender implements ActionBarSender {
+
+    // Messages are pre-rendered per farmer count, so only a handful of distinct ones ever exist
+    private static final int MAX_CACHED_COMPONENTS = 64;
+
+    private final ActionBarSender fallback;
+    private final Map<String, Component> components = new HashMap<>();
+
+    AdventureActionBarSender(ActionBarSender fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void send(Player player, String message) {
+        if (!(player instanceof Audience audience)) {
+            fallback.send(player, message);
+            return;
+        }
+
+        Component component = components.get(message);
+        if (component == null) {
+            if (components.size() >= MAX_CACHED_COMPONENTS) {
+                components.clear(); // Formats changed on reload, drop the stale ones
+            }
+            component = LegacyComponentSerializer.legacySection().deserialize(message);
+            components.put(message, component);
+        }
+
+        audience.sendActionBar(component);
+    }
+}
@@ -0,0 +1,152 @@
+package com.flowey258.harvestBoost.managers;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.ConfigManager;
+import com.flowey258.harvestBoost.core.BoostEngine;
+import com.flowey258.harvestBoost.core.BoostEngine.CellBoost;
+import com.flowey258.harvestBoost.events.BoostLevelChangeEvent;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+public class BoostManager {
+
+    private final HarvestBoost plugin;
+    private final ConfigManager configManager;
+
+    // Cell cache, farmer counting and published levels live in the engine
+    private final BoostEngine boosts;
+
+    public BoostManager(HarvestBoost plugin) {
+        this.plugin = plugin;
+        this.configManager = plugin.getConfigManager();
+        this.boosts = plugin.getEngine().getBoosts();
+    }
+
+    /**
+     * Get the current boost multiplier at a location
+     */
+    public double getBoostMultiplier(Location location) {
+        return boosts.getBoostMultiplier(location.getWorld().getUID(),
+                location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Get the current boost multiplier at a block position
+     */
+    public double getBoostMultiplier(World world, int x, int y, int z) {
+        return boosts.getBoostMultiplier(world.getUID(), x, y, z);
+    }
+
+    /**
+     * Get the current boost percentage at a location (for display)
+     */
+    public int getBoostPercentage(Location location) {
+        double multiplier = getBoostMultiplier(location);
+        return (int) Math.round((multiplier - 1.0) * 100);
+    }
+
+    /**
+     * Get the number of farmers contributing to boost at a location
+     */
+    public int getFarmerCount(Location location) {
+        return boosts.getFarmerCount(location.getWorld().getUID(),
+                location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Resolve farmer count, multiplier and percentage for a player's location with one cache lookup
+     */
+    public PlayerBoost getPlayerBoost(Player player) {
+        Location location = player.getLocation();
+        CellBoost cell = boosts.getCellBoost(location.getWorld().getUID(),
+                location.getBlockX(), location.getBlockY(), location.getBlockZ());
+
+        return new PlayerBoost(player, cell.playerCount(), cell.multiplier(),
+                configManager.getSettings().getBoostPercentage(cell.playerCount()));
+    }
+
+    /**
+     * Publish a BoostLevelChangeEvent when a freshly resolved boost moved the player to another level
+     */
+    public void updateBoostLevel(PlayerBoost boost) {
+        int maxLevel = configManager.getSettings().getMaxPlayers();
+        int newLevel = boostLevel(boost.farmerCount(), maxLevel);
+
+        Player player = boost.player();
+        int previousLevel = boosts.publishBoostLevel(player.getUniqueId(), newLevel);
+
+        if (previousLevel != newLevel) {
+            plugin.getServer().getPluginManager().callEvent(
+                    new BoostLevelChangeEvent(player, player.getLocation(), previousLevel, newLevel, maxLevel));
+        }
+    }
+
+    /**
+     * Forget the published level of a player who left, without an event
+     */
+    public void removePlayer(Player player) {
+        boosts.removePlayer(player.getUniqueId());
+    }
+
+    /**
+     * Boost level of a farmer count: 0 when solo or alone, capped at the maximum player count
+     */
+    public static int boostLevel(int farmerCount, int maxLevel) {
+        return BoostEngine.boostLevel(farmerCount, maxLevel);
+    }
+
+    /**
+     * Visit every cached, still valid boost cell of a world with a multiplier above 1.0
+     */
+    public void forEachBoostedCell(World world, BoostEngine.BoostedCellConsumer consumer) {
+        boosts.forEachBoostedCell(world.getUID(), consumer);
+    }
+
+    /**
+     * Check if a location has any boost active
+     */
+    public boolean hasBoost(Location location) {
+        return getBoostMultiplier(location) > 1.0;
+    }
+
+    /**
+     * Recompute and cache the boost of the cell containing a location
+     */
+    public void updateBoostCache(Location location) {
+        boosts.updateBoostCache(location.getWorld().getUID(),
+                location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Invalidate every cached cell a farmer change at a location can affect
+     */
+    public void invalidateAround(Location location) {
+        if (location.getWorld() == null) {
+            return;
+        }
+
+        boosts.invalidateAround(location.getWorld().getUID(), location.getX(), location.getZ());
+    }
+
+    /**
+     * Drop cache entries nobody read since the last cleanup
+     */
+    public void cleanCache() {
+        boosts.cleanCache();
+    }
+
+    /**
+     * Clear all cached data
+     */
+    public void clearCache() {
+        boosts.clearCache();
+    }
+
+    /**
+     * Get the number of cached boost entries across all worlds
+     */
+    public int getCacheSize() {
+        return boosts.getCacheSize();
+    }
+}
@@ -0,0 +1,208 @@
+package com.flowey258.harvestBoost.managers;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.ConfigManager;
+import com.flowey258.harvestBoost.config.PluginSettings;
+import com.flowey258.harvestBoost.core.ActionBarTracker;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+public class EffectsManager {
+
+    private final HarvestBoost plugin;
+    private final ConfigManager configManager;
+    private final ParticleManager particleManager;
+
+    // The messenger that carries whispers to the action bar, by Adventure where the realm speaks it.
+    private final ActionBarSender actionBarSender = ActionBarSender.create();
+
+    // The spirit's memory: the last message whispered to each hero, and when; kept by the engine.
+    private final ActionBarTracker<Player> actionBars = new ActionBarTracker<>(actionBarSender::send, Player::isOnline);
+
+    public EffectsManager(HarvestBoost plugin) {
+        this.plugin = plugin;
+        this.configManager = plugin.getConfigManager();
+        this.particleManager = plugin.getParticleManager();
+    }
+
+    /**
+     * Summon magical growth particles at the blessed crop.
+     */
+    public void showCropParticles(Location location) {
+        // The sparks are gathered through the tick and released together, bundled per chunk.
+        particleManager.queue(location);
+    }
+
+    /**
+     * Summon magical growth particles at the blessed block.
+     */
+    public void showCropParticles(World world, int x, int y, int z) {
+        particleManager.queue(world, x, y, z);
+    }
+
+    /**
+     * Whisper the tale of communal strength onto the hero's action bar, only when the tale changed.
+     */
+    public void updateActionBar(PlayerBoost boost) {
+        Player player = boost.player();
+        PluginSettings settings = configManager.getSettings();
+
+        // A hero standing alone hears nothing; the communal spirit is dormant and the last whisper fades.
+        // The epic message was forged for every fellowship size when the settings were compiled.
+        String message = settings.isActionBarEnabled() && boost.farmerCount() > 1
+                ? settings.getActionBarMessage(boost.farmerCount())
+                : null;
+
+        // The tracker only whispers when the tale changed, the refresh keeps it alive.
+        actionBars.update(player.getUniqueId(), player, message);
+    }
+
+    /**
+     * Renew unchanged whispers just before the hero's action bar lets them fade.
+     */
+    public void refreshActionBars() {
+        PluginSettings settings = configManager.getSettings();
+        if (!settings.isActionBarEnabled()) {
+            actionBars.clearAll();
+        }
+
+        actionBars.refresh(settings.getActionBarUpdateInterval());
+    }
+
+    /**
+     * Chronicle the hero's change in communal strength with a resonant sound.
+     */
+    public void handleBoostChange(Player player, int previousLevel, int newLevel) {
+        if (!configManager.isSoundsEnabled()) {
+            return;
+        }
+
+        if (previousLevel == 0 && newLevel > 0) {
+            // The hero has just joined the ranks of the boosted.
+            playEnterBoostSound(player);
+        } else if (newLevel > previousLevel) {
+            // The communal bond grows stronger.
+            playBoostIncreaseSound(player);
+        } else if (newLevel == 0) {
+            // The hero has drifted away from the group.
+            playBoostDecreaseSound(player);
+        }
+    }
+
+    /**
+     * Play a triumphant fanfare as the hero enters a boosted fellowship.
+     */
+    private void playEnterBoostSound(Player player) {
+        PluginSettings settings = configManager.getSettings();
+        Sound sound = settings.getEnterBoostSound();
+        if (sound == null) {
+            return; // The song was lost when the settings were forged.
+        }
+
+        float pitch = settings.getSoundPitch();
+        player.playSound(player.getLocation(), sound, settings.getSoundVolume(), pitch);
+    }
+
+    /**
+     * Play a chime of ascension as the fellowship grows stronger.
+     */
+    private void playBoostIncreaseSound(Player player) {
+        PluginSettings settings = configManager.getSettings();
+        Sound sound = settings.getBoostChangeSound();
+        if (sound == null) {
+            return; // The song was lost when the settings were forged.
+        }
+
+        float pitch = settings.getSoundPitch() + 0.2f; // A higher pitch for triumph
+        player.playSound(player.getLocation(), sound, settings.getSoundVolume(), pitch);
+    }
+
+    /**
+     * Play a somber tone as the fellowship dwindles.
+     */
+    private void playBoostDecreaseSound(Player player) {
+        PluginSettings settings = configManager.getSettings();
+        Sound sound = settings.getBoostChangeSound();
+        if (sound == null) {
+            return; // The song was lost when the settings were forged.
+        }
+
+        float pitch = settings.getSoundPitch() - 0.2f; // A lower pitch for a fading bond
+        player.playSound(player.getLocation(), sound, settings.getSoundVolume(), pitch);
+    }
+
+    /**
+     * Bestow all magical blessings (particles, lore, and song) upon the hero.
+     */
+    public void showAllEffects(Player player) {
+        // Divine the fellowship's strength once for every blessing.
+        PlayerBoost boost = plugin.getBoostManager().getPlayerBoost(player);
+
+        // Whisper a new tale on the action bar.
+        updateActionBar(boost);
+
+        // Chronicle the hero's journey; the song plays only if the fellowship's strength shifted.
+        plugin.getBoostManager().updateBoostLevel(boost);
+
+        // The crops are blessed separately in their growth events.
+    }
+
+    /**
+     * Cleanse the spirit's memory of those who have departed the realm.
+     */
+    public void cleanupOfflinePlayers() {
+        actionBars.cleanupOfflinePlayers(playerId -> {
+            Player player = plugin.getServer().getPlayer(playerId);
+            return player != null && player.isOnline();
+        });
+    }
+
+    /**
+     * The hero has left the fellowship; remove them from our chronicles.
+     */
+    public void removePlayer(Player player) {
+        actionBars.removePlayer(player.getUniqueId());
+    }
+
+    /**
+     * Clear all chronicles and memories of the fellowship.
+     */
+    public void clearAll() {
+        actionBars.clearAll();
+        particleManager.clear();
+    }
+
+    /**
+     * Count the whispers carried to action bars since the spirit awoke.
+     */
+    public long getActionBarsSent() {
+        return actionBars.getSentCount();
+    }
+
+    /**
+     * Conjure a powerful explosion of magic to celebrate a great feat of communal strength.
+     */
+    public void showBoostAchievementEffect(Player player, int boostLevel) {
+        if (!configManager.isParticlesEnabled()) {
+            return;
+        }
+
+        Location playerLoc = player.getLocation().add(0, 1, 0);
+
+        try {
+            // Unleash a burst of celebratory magic.
+            player.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, playerLoc, 20, 1, 1, 1, 0.1);
+
+            // Play a special song of leveling up.
+            if (configManager.isSoundsEnabled()) {
+                player.playSound(playerLoc, Sound.ENTITY_PLAYER_LEVELUP, 0.7f, 1.5f);
+            }
+
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to conjure achievement magic: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.flowey258.harvestBoost.managers;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.FarmMaterialRegistry;
+import com.flowey258.harvestBoost.core.FarmIndex;
+import com.flowey258.harvestBoost.metrics.PluginMetrics;
+import com.flowey258.harvestBoost.platform.BukkitChunkBlocks;
+import com.flowey258.harvestBoost.platform.BukkitPlatform;
+import com.flowey258.harvestBoost.util.BlockKeys;
+import com.flowey258.harvestBoost.util.ChunkFarmBits;
+import com.flowey258.harvestBoost.util.LongHashSet;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+public class FarmIndexManager {
+
+    private final HarvestBoost plugin;
+    private final BukkitPlatform platform;
+
+    // Farmable-block bitmaps per chunk live in the engine
+    private final FarmIndex farmIndex;
+
+    // World UID -> packed keys of blocks to re-read once the tick's physics settled
+    private final Map<UUID, LongHashSet> pendingRefresh = new HashMap<>();
+
+    public FarmIndexManager(HarvestBoost plugin) {
+        this.plugin = plugin;
+        this.platform = plugin.getPlatform();
+        this.farmIndex = plugin.getEngine().getFarmIndex();
+    }
+
+    /**
+     * Register every chunk that is already loaded (e.g. after a plugin reload)
+     */
+    public void indexLoadedChunks() {
+        for (World world : plugin.getServer().getWorlds()) {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                onChunkLoad(chunk);
+            }
+        }
+    }
+
+    /**
+     * Start tracking a chunk; sections are scanned the first time a query needs them
+     */
+    public void onChunkLoad(Chunk chunk) {
+        farmIndex.onChunkLoad(platform.world(chunk.getWorld()), chunk.getX(), chunk.getZ());
+    }
+
+    /**
+     * Stop tracking a chunk
+     */
+    public void onChunkUnload(Chunk chunk) {
+        farmIndex.onChunkUnload(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ());
+    }
+
+    /**
+     * Drop the index of an unloaded world
+     */
+    public void onWorldUnload(World world) {
+        farmIndex.onWorldUnload(world.getUID());
+        platform.forgetWorld(world.getUID());
+    }
+
+    /**
+     * Record a block change at a location
+     */
+    public void updateBlock(World world, int x, int y, int z, Material newType) {
+        farmIndex.updateBlock(world.getUID(), x, y, z, newType.ordinal());
+    }
+
+    /**
+     * Re-read a block next tick, for changes whose outcome is only known after physics ran
+     * (pushed blocks, crops popping off trampled or exploded farmland)
+     */
+    public void refreshLater(World world, int x, int y, int z) {
+        if (pendingRefresh.isEmpty()) {
+            plugin.getServer().getScheduler().runTask(plugin, this::refreshPending);
+        }
+        pendingRefresh.computeIfAbsent(world.getUID(), id -> new LongHashSet()).add(BlockKeys.packBlock(x, y, z));
+    }
+
+    /**
+     * Feed the current type of every block queued by refreshLater into the index
+     */
+    private void refreshPending() {
+        for (Map.Entry<UUID, LongHashSet> entry : pendingRefresh.entrySet()) {
+            World world = plugin.getServer().getWorld(entry.getKey());
+            if (world == null) {
+                continue;
+            }
+
+            entry.getValue().forEach(blockKey -> {
+                int x = BlockKeys.blockX(blockKey);
+                int y = BlockKeys.blockY(blockKey);
+                int z = BlockKeys.blockZ(blockKey);
+
+                // Unloaded chunks are rescanned from scratch when they load again
+                if (world.isChunkLoaded(x >> 4, z >> 4)) {
+                    updateBlock(world, x, y, z, world.getBlockAt(x, y, z).getType());
+                }
+            });
+        }
+        pendingRefresh.clear();
+    }
+
+    /**
+     * Check if there is any farmable block within a horizontal radius and vertical reach of a location
+     */
+    public boolean isNearFarmableBlocks(Location location, int radius, int verticalReach) {
+        World world = location.getWorld();
+        if (world == null) {
+            return false;
+        }
+
+        return farmIndex.isNearFarmableBlocks(platform.world(world),
+                location.getBlockX(), location.getBlockY(), location.getBlockZ(), radius, verticalReach);
+    }
+
+    /**
+     * Check if every loaded chunk section around a location has already been scanned
+     */
+    public boolean isIndexed(Location location, int radius, int verticalReach) {
+        World world = location.getWorld();
+        if (world == null) {
+            return true;
+        }
+
+        return farmIndex.isIndexed(platform.world(world),
+                location.getBlockX(), location.getBlockY(), location.getBlockZ(), radius, verticalReach);
+    }
+
+    /**
+     * Check a block box for farmable blocks, scanning any section not indexed yet
+     */
+    public boolean anyFarmableInBox(World world, int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        return farmIndex.anyFarmableInBox(platform.world(world), minX, maxX, minY, maxY, minZ, maxZ);
+    }
+
+    /**
+     * Visit the packed key of every indexed farmable block in a box; unscanned sections are skipped
+     */
+    public void forEachFarmableInBox(World world, int minX, int maxX, int minY, int maxY, int minZ, int maxZ,
+                                     LongConsumer consumer) {
+        farmIndex.forEachFarmableInBox(world.getUID(), minX, maxX, minY, maxY, minZ, maxZ, consumer);
+    }
+
+    /**
+     * Forget every scan, e.g. after the material classification changed
+     */
+    public void invalidateAll() {
+        farmIndex.invalidateAll();
+    }
+
+    /**
+     * Clear all indexed data
+     */
+    public void clearAll() {
+        farmIndex.clearAll();
+        pendingRefresh.clear();
+    }
+
+    /**
+     * Get the index of a tracked chunk, or null when it is not loaded
+     */
+    public ChunkFarmBits getChunk(UUID worldId, int chunkX, int chunkZ) {
+        return farmIndex.getChunk(worldId, chunkX, chunkZ);
+    }
+
+    /**
+     * Number of chunks currently tracked
+     */
+    public int getIndexedChunkCount() {
+        return farmIndex.getIndexedChunkCount();
+    }
+
+    /**
+     * Install the result of an off-thread scan, replaying block changes made since its snapshot was taken
+     */
+    public boolean installScan(UUID worldId, int chunkX, int chunkZ, int expectedEpoch,
+                               int[] sectionIndexes, long[][] sectionBits) {
+        return farmIndex.installScan(worldId, chunkX, chunkZ, expectedEpoch, sectionIndexes, sectionBits);
+    }
+
+    /**
+     * Get a chunk index, registering loaded chunks whose load event we did not see
+     */
+    public ChunkFarmBits getOrIndexChunk(World world, int chunkX, int chunkZ) {
+        return farmIndex.getOrIndexChunk(platform.world(world), chunkX, chunkZ);
+    }
+
+    /**
+     * Build the farmable bitmap of one section from a chunk snapshot (safe off the main thread)
+     */
+    public static long[] scanSection(ChunkSnapshot snapshot, int sectionIndex, int sectionMinY,
+                                     FarmMaterialRegistry materials, PluginMetrics metrics) {
+        return FarmIndex.scanSection(new BukkitChunkBlocks(snapshot), sectionIndex, sectionMinY,
+                materials.getClassifier(), metrics);
+    }
+}
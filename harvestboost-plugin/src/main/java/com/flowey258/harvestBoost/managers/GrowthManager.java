@@ -0,0 +1,356 @@
+package com.flowey258.harvestBoost.managers;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.ConfigManager;
+import com.flowey258.harvestBoost.config.FarmMaterialRegistry;
+import com.flowey258.harvestBoost.config.PluginSettings;
+import com.flowey258.harvestBoost.util.BlockKeys;
+import com.flowey258.harvestBoost.util.LongIntMap;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.Ageable;
+import org.bukkit.block.data.BlockData;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+public class GrowthManager {
+
+    private final HarvestBoost plugin;
+    private final ConfigManager configManager;
+    private final BoostManager boostManager;
+    private final EffectsManager effectsManager;
+    private final Random random;
+
+    // Bonus age stages collected during the tick (world UID -> packed block key -> stages)
+    private final Map<UUID, LongIntMap> pendingAgeGrowth = new HashMap<>();
+
+    // Bonus blocks collected during the tick (world UID -> packed key of the first free block above a column -> blocks)
+    private final Map<UUID, LongIntMap> pendingVerticalGrowth = new HashMap<>();
+
+    public GrowthManager(HarvestBoost plugin) {
+        this.plugin = plugin;
+        this.configManager = plugin.getConfigManager();
+        this.boostManager = plugin.getBoostManager();
+        this.effectsManager = plugin.getEffectsManager();
+        this.random = new Random();
+    }
+
+    /**
+     * Apply the growth boost to a block that grew naturally
+     */
+    public void applyBoost(World world, int x, int y, int z) {
+        PluginSettings settings = configManager.getSettings();
+        Block block = world.getBlockAt(x, y, z);
+
+        // The block may have been harvested or replaced while the boost was queued
+        if (!settings.getMaterials().isBoostable(block.getType())) {
+            return;
+        }
+
+        Location location = block.getLocation();
+
+        // Get boost multiplier for this location
+        double boostMultiplier = boostManager.getBoostMultiplier(location);
+
+        if (boostMultiplier <= 1.0) {
+            return; // No boost to apply
+        }
+
+        // Apply boost chance
+        if (shouldApplyBoost(boostMultiplier)) {
+            // Show particle effects
+            effectsManager.showCropParticles(location);
+
+            // Force additional growth stages if applicable
+            applyAdditionalGrowth(block, boostMultiplier);
+
+            if (settings.isDebugEnabled()) {
+                plugin.getLogger().info("Applied " + String.format("%.1f", boostMultiplier) +
+                        "x boost to " + block.getType() + " at " +
+                        location.getBlockX() + "," + location.getBlockY() + "," + location.getBlockZ());
+            }
+        }
+    }
+
+    /**
+     * Determine if boost should be applied based on multiplier
+     */
+    public boolean shouldApplyBoost(double multiplier) {
+        // Convert multiplier to probability
+        // 1.25x = 25% chance for extra growth
+        // 1.5x = 50% chance for extra growth
+        // 1.75x = 75% chance for extra growth
+        double boostChance = multiplier - 1.0;
+        return random.nextDouble() < boostChance;
+    }
+
+    /**
+     * Apply additional growth to a block if possible
+     */
+    private void applyAdditionalGrowth(Block block, double boostMultiplier) {
+        Material blockType = block.getType();
+        FarmMaterialRegistry materials = configManager.getMaterialRegistry();
+
+        // Handle age-based crops
+        if (materials.isAgeable(blockType)) {
+            applyAgeBasedGrowth(block, boostMultiplier);
+        }
+
+        // Handle height-based plants (bamboo, cactus, sugar cane)
+        else if (materials.isHeightBased(blockType)) {
+            applyHeightBasedGrowth(block, boostMultiplier);
+        }
+    }
+
+    /**
+     * Apply growth to age-based blocks
+     */
+    private void applyAgeBasedGrowth(Block block, double boostMultiplier) {
+        // Additional growth stages based on boost level
+        int extraGrowthChance = (int) ((boostMultiplier - 1.0) * 100);
+
+        // Small chance for bonus growth stage
+        if (random.nextInt(100) < extraGrowthChance / 2) {
+            // Collected and written once per block at the end of the tick
+            pendingAgeGrowth.computeIfAbsent(block.getWorld().getUID(), id -> new LongIntMap())
+                    .addTo(BlockKeys.packBlock(block.getX(), block.getY(), block.getZ()), 1);
+        }
+    }
+
+    /**
+     * Queue one extra age stage for a crop, written with the other bonus stages at the end of the tick
+     */
+    public boolean queueAgeStage(Block block) {
+        if (!(block.getBlockData() instanceof Ageable ageable) || ageable.getAge() >= ageable.getMaximumAge()) {
+            return false;
+        }
+
+        pendingAgeGrowth.computeIfAbsent(block.getWorld().getUID(), id -> new LongIntMap())
+                .addTo(BlockKeys.packBlock(block.getX(), block.getY(), block.getZ()), 1);
+        return true;
+    }
+
+    /**
+     * Write all bonus growth collected this tick, returns the number of blocks changed
+     */
+    public int flushPendingGrowth() {
+        return flushAgeGrowth() + flushVerticalGrowth();
+    }
+
+    /**
+     * Write the bonus age stages collected this tick, one block data update per block
+     */
+    private int flushAgeGrowth() {
+        if (pendingAgeGrowth.isEmpty()) {
+            return 0;
+        }
+
+        int[] written = {0};
+        Iterator<Map.Entry<UUID, LongIntMap>> iterator = pendingAgeGrowth.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, LongIntMap> entry = iterator.next();
+            World world = plugin.getServer().getWorld(entry.getKey());
+            LongIntMap stages = entry.getValue();
+
+            if (world == null || stages.isEmpty()) {
+                iterator.remove();
+                continue;
+            }
+
+            stages.forEach((blockKey, extraStages) -> {
+                if (advanceAge(world, blockKey, extraStages)) {
+                    written[0]++;
+                }
+            });
+            stages.clear();
+        }
+
+        return written[0];
+    }
+
+    /**
+     * Advance an Ageable crop by a number of stages, capped at its maximum age
+     */
+    private boolean advanceAge(World world, long blockKey, int extraStages) {
+        int x = BlockKeys.blockX(blockKey);
+        int z = BlockKeys.blockZ(blockKey);
+        if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+            return false;
+        }
+
+        Block block = world.getBlockAt(x, BlockKeys.blockY(blockKey), z);
+        if (!configManager.getMaterialRegistry().isAgeable(block.getType())) {
+            return false; // Harvested since the boost was rolled
+        }
+
+        BlockData data = block.getBlockData();
+        if (!(data instanceof Ageable ageable)) {
+            return false;
+        }
+
+        int newAge = Math.min(ageable.getAge() + extraStages, ageable.getMaximumAge());
+        if (newAge <= ageable.getAge()) {
+            return false;
+        }
+
+        // Only the age changes, never the block type or shape, so neighbours need no physics update
+        ageable.setAge(newAge);
+        block.setBlockData(ageable, false);
+        return true;
+    }
+
+    /**
+     * Drop bonus age stages that were not written yet
+     */
+    public void clearPendingGrowth() {
+        pendingAgeGrowth.clear();
+        pendingVerticalGrowth.clear();
+    }
+
+    /**
+     * Apply growth to height-based blocks
+     */
+    private void applyHeightBasedGrowth(Block block, double boostMultiplier) {
+        // For height-based plants, we can try to grow them upward
+        Block above = block.getRelative(0, 1, 0);
+
+        if (above.getType() == Material.AIR) {
+            // Small chance for immediate upward growth
+            double growthChance = (boostMultiplier - 1.0) * 0.3; // 30% of boost as growth chance
+
+            if (random.nextDouble() < growthChance) {
+                // Check height limits
+                if (canGrowUpward(block, 1)) {
+                    // Collected and written once per column at the end of the tick
+                    pendingVerticalGrowth.computeIfAbsent(block.getWorld().getUID(), id -> new LongIntMap())
+                            .addTo(BlockKeys.packBlock(above.getX(), above.getY(), above.getZ()), 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the bonus blocks collected this tick, with one neighbour update per column
+     */
+    private int flushVerticalGrowth() {
+        if (pendingVerticalGrowth.isEmpty()) {
+            return 0;
+        }
+
+        int[] written = {0};
+        Iterator<Map.Entry<UUID, LongIntMap>> iterator = pendingVerticalGrowth.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, LongIntMap> entry = iterator.next();
+            World world = plugin.getServer().getWorld(entry.getKey());
+            LongIntMap columns = entry.getValue();
+
+            if (world == null || columns.isEmpty()) {
+                iterator.remove();
+                continue;
+            }
+
+            columns.forEach((blockKey, extraBlocks) -> {
+                int grown = growColumn(world, blockKey, extraBlocks);
+                if (grown > 0) {
+                    written[0] += grown;
+                    // Particles are merged per chunk and delivered once the whole tick is done
+                    effectsManager.showCropParticles(world, BlockKeys.blockX(blockKey),
+                            BlockKeys.blockY(blockKey) + grown - 1, BlockKeys.blockZ(blockKey));
+                }
+            });
+            columns.clear();
+        }
+
+        return written[0];
+    }
+
+    /**
+     * Grow a plant column into the free blocks above it, returns the number of blocks placed
+     */
+    private int growColumn(World world, long blockKey, int extraBlocks) {
+        int x = BlockKeys.blockX(blockKey);
+        int y = BlockKeys.blockY(blockKey);
+        int z = BlockKeys.blockZ(blockKey);
+        if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+            return 0;
+        }
+
+        // The column may have been harvested or already grown since the boost was rolled
+        Block top = world.getBlockAt(x, y - 1, z);
+        Material blockType = top.getType();
+        if (!configManager.getMaterialRegistry().isHeightBased(blockType)) {
+            return 0;
+        }
+
+        PlantColumnManager plantColumns = plugin.getPlantColumnManager();
+        int allowed = Math.min(extraBlocks, getMaxHeight(blockType) - plantColumns.getHeight(top));
+
+        int count = 0;
+        while (count < allowed) {
+            Block target = world.getBlockAt(x, y + count, z);
+            if (!target.getType().isAir() || !canSurviveWithoutPhysics(target, blockType)) {
+                break;
+            }
+            count++;
+        }
+
+        for (int i = 0; i < count; i++) {
+            // Only the topmost block of the column notifies its neighbours, once, like vanilla growth does
+            boolean physics = i == count - 1;
+            world.getBlockAt(x, y + i, z).setType(blockType, physics);
+
+            plantColumns.onGrow(world, x, y + i, z);
+            plugin.getFarmIndexManager().updateBlock(world, x, y + i, z, blockType);
+        }
+
+        return count;
+    }
+
+    /**
+     * Check the placement rules vanilla would otherwise enforce through a physics update
+     */
+    private boolean canSurviveWithoutPhysics(Block target, Material blockType) {
+        if (blockType != Material.CACTUS) {
+            return true; // Sugar cane and bamboo only care about the block below, which is the column itself
+        }
+
+        // Cactus breaks next to anything solid or next to lava
+        return canSitNextToCactus(target.getRelative(1, 0, 0))
+                && canSitNextToCactus(target.getRelative(-1, 0, 0))
+                && canSitNextToCactus(target.getRelative(0, 0, 1))
+                && canSitNextToCactus(target.getRelative(0, 0, -1));
+    }
+
+    private boolean canSitNextToCactus(Block neighbour) {
+        Material type = neighbour.getType();
+        return !type.isSolid() && type != Material.LAVA;
+    }
+
+    /**
+     * Check if a plant can grow upward (respecting height limits)
+     */
+    private boolean canGrowUpward(Block block, int extraBlocks) {
+        int currentHeight = plugin.getPlantColumnManager().getHeight(block);
+        return currentHeight + extraBlocks <= getMaxHeight(block.getType());
+    }
+
+    /**
+     * Tallest column boosts may grow a plant to
+     */
+    private int getMaxHeight(Material blockType) {
+        return switch (blockType) {
+            case SUGAR_CANE -> 3; // Max 3 blocks high
+            case CACTUS -> 3;     // Max 3 blocks high
+            case BAMBOO -> 12;    // Max 12-16 blocks high
+            default -> 0;
+        };
+    }
+}
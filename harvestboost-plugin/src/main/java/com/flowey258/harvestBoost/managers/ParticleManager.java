@@ -0,0 +1,109 @@
+package com.flowey258.harvestBoost.managers;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.ConfigManager;
+import com.flowey258.harvestBoost.config.PluginSettings;
+import com.flowey258.harvestBoost.core.ParticleBatcher;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+
+public class ParticleManager {
+
+    private final HarvestBoost plugin;
+    private final ConfigManager configManager;
+
+    // Deduplication, per-chunk merging and per-player budgets live in the engine
+    private final ParticleBatcher<Player> batcher = new ParticleBatcher<>();
+
+    public ParticleManager(HarvestBoost plugin) {
+        this.plugin = plugin;
+        this.configManager = plugin.getConfigManager();
+    }
+
+    /**
+     * Queue growth particles above a block, delivered at the end of the tick
+     */
+    public void queue(World world, int x, int y, int z) {
+        if (!configManager.getSettings().isParticlesEnabled()) {
+            return;
+        }
+
+        batcher.queue(world.getUID(), x, y, z);
+    }
+
+    /**
+     * Queue growth particles at a location, delivered at the end of the tick
+     */
+    public void queue(Location location) {
+        if (location.getWorld() != null) {
+            queue(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        }
+    }
+
+    /**
+     * Deliver the particles collected this tick to every player close enough, within their budget
+     */
+    public void flush() {
+        PluginSettings settings = configManager.getSettings();
+        Particle particleType = settings.getParticleType();
+
+        // An unknown particle was already reported when the settings were compiled
+        if (!settings.isParticlesEnabled() || particleType == null) {
+            batcher.clear();
+            return;
+        }
+
+        batcher.flush(this::forEachViewer,
+                (player, x, y, z, amount, offsetX, offsetY, offsetZ) ->
+                        player.spawnParticle(particleType, x, y, z, amount, offsetX, offsetY, offsetZ, 0),
+                settings.getParticleViewDistance(), settings.getMaxParticlePacketsPerPlayer(), settings.getParticleAmount());
+    }
+
+    /**
+     * Visit every player of a world with their location
+     */
+    private void forEachViewer(UUID worldId, ParticleBatcher.ViewerConsumer<Player> consumer) {
+        World world = plugin.getServer().getWorld(worldId);
+        if (world == null) {
+            return;
+        }
+
+        for (Player player : world.getPlayers()) {
+            Location viewer = player.getLocation();
+            consumer.accept(player, viewer.getX(), viewer.getY(), viewer.getZ());
+        }
+    }
+
+    /**
+     * Drop particles that were not delivered yet
+     */
+    public void clear() {
+        batcher.clear();
+    }
+
+    public long getQueuedCount() {
+        return batcher.getQueuedCount();
+    }
+
+    /**
+     * Number of emissions dropped because their block already sparkled that tick
+     */
+    public long getDuplicateCount() {
+        return batcher.getDuplicateCount();
+    }
+
+    public long getPacketsSent() {
+        return batcher.getPacketsSent();
+    }
+
+    /**
+     * Number of bursts not sent to a player because of distance or budget
+     */
+    public long getPacketsCulled() {
+        return batcher.getPacketsCulled();
+    }
+}
@@ -0,0 +1,184 @@
+package com.flowey258.harvestBoost.managers;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.ConfigManager;
+import com.flowey258.harvestBoost.util.BlockKeys;
+import com.flowey258.harvestBoost.util.PlantColumns;
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class PlantColumnManager {
+
+    // Columns are never walked further than this (matches the tallest natural bamboo)
+    private static final int MAX_SCAN_HEIGHT = 20;
+
+    private final HarvestBoost plugin;
+    private final ConfigManager configManager;
+
+    // World UID -> (packed chunk key -> cached columns)
+    private final Map<UUID, Map<Long, PlantColumns>> worldColumns = new HashMap<>();
+
+    private long hits;
+    private long misses;
+    private long mismatches;
+
+    public PlantColumnManager(HarvestBoost plugin) {
+        this.plugin = plugin;
+        this.configManager = plugin.getConfigManager();
+    }
+
+    /**
+     * Get the height of the plant column a block belongs to
+     */
+    public int getHeight(Block block) {
+        World world = block.getWorld();
+        int x = block.getX();
+        int y = block.getY();
+        int z = block.getZ();
+
+        PlantColumns columns = getColumns(world.getUID(), x >> 4, z >> 4, true);
+        int height = columns.heightAt(x, y, z);
+
+        if (height == 0) {
+            misses++;
+            return scanColumn(columns, block);
+        }
+
+        hits++;
+
+        // In debug mode every cached height is checked against the world
+        if (configManager.isDebugEnabled()) {
+            int base = columns.baseAt(x, y, z);
+            int actual = scanColumn(columns, block);
+            if (actual != height || columns.baseAt(x, y, z) != base) {
+                mismatches++;
+                plugin.getLogger().warning("Cached plant column at " + x + "," + base + "," + z +
+                        " had height " + height + " but the world has " + actual + "; rescanned");
+            }
+            return actual;
+        }
+
+        return height;
+    }
+
+    /**
+     * Record a height-based plant growing into a block
+     */
+    public void onGrow(World world, int x, int y, int z) {
+        PlantColumns columns = getColumns(world.getUID(), x >> 4, z >> 4, false);
+        if (columns != null && !columns.extendTop(x, y, z)) {
+            columns.invalidate(x, z, y, y);
+        }
+    }
+
+    /**
+     * Forget cached columns touching a block that was placed, broken or moved
+     */
+    public void onBlockChanged(World world, int x, int y, int z) {
+        PlantColumns columns = getColumns(world.getUID(), x >> 4, z >> 4, false);
+        if (columns != null) {
+            columns.invalidate(x, z, y, y);
+        }
+    }
+
+    /**
+     * Drop the cached columns of an unloaded chunk
+     */
+    public void onChunkUnload(Chunk chunk) {
+        Map<Long, PlantColumns> chunks = worldColumns.get(chunk.getWorld().getUID());
+        if (chunks != null) {
+            chunks.remove(BlockKeys.packColumn(chunk.getX(), chunk.getZ()));
+        }
+    }
+
+    /**
+     * Drop the cached columns of an unloaded world
+     */
+    public void onWorldUnload(World world) {
+        worldColumns.remove(world.getUID());
+    }
+
+    /**
+     * Clear all cached columns
+     */
+    public void clearAll() {
+        worldColumns.clear();
+    }
+
+    /**
+     * Number of columns currently cached
+     */
+    public int getCachedColumnCount() {
+        int total = 0;
+        for (Map<Long, PlantColumns> chunks : worldColumns.values()) {
+            for (PlantColumns columns : chunks.values()) {
+                total += columns.size();
+            }
+        }
+        return total;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getMismatches() {
+        return mismatches;
+    }
+
+    /**
+     * Walk a plant column in the world and cache it
+     */
+    private int scanColumn(PlantColumns columns, Block block) {
+        Material blockType = block.getType();
+        int height = 1;
+        int base = block.getY();
+
+        // Count downward to find base
+        Block below = block.getRelative(0, -1, 0);
+        while (below.getType() == blockType && height < MAX_SCAN_HEIGHT) {
+            height++;
+            base--;
+            below = below.getRelative(0, -1, 0);
+        }
+
+        // Count upward from original block
+        Block above = block.getRelative(0, 1, 0);
+        while (above.getType() == blockType && height < MAX_SCAN_HEIGHT) {
+            height++;
+            above = above.getRelative(0, 1, 0);
+        }
+
+        columns.put(block.getX(), block.getZ(), base, height);
+        return height;
+    }
+
+    private PlantColumns getColumns(UUID worldId, int chunkX, int chunkZ, boolean create) {
+        Map<Long, PlantColumns> chunks = worldColumns.get(worldId);
+        if (chunks == null) {
+            if (!create) {
+                return null;
+            }
+            chunks = new HashMap<>();
+            worldColumns.put(worldId, chunks);
+        }
+
+        long chunkKey = BlockKeys.packColumn(chunkX, chunkZ);
+        PlantColumns columns = chunks.get(chunkKey);
+        if (columns == null && create) {
+            columns = new PlantColumns();
+            chunks.put(chunkKey, columns);
+        }
+        return columns;
+    }
+}
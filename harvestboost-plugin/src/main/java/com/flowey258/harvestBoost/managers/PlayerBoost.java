@@ -0,0 +1,16 @@
+package com.flowey258.harvestBoost.managers;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Boost resolved once for a player's location, shared by every effect shown to them
+ */
+public record PlayerBoost(Player player, int farmerCount, double multiplier, int percentage) {
+
+    /**
+     * Check if the player stands in a boosted area
+     */
+    public boolean isBoosted() {
+        return multiplier > 1.0;
+    }
+}
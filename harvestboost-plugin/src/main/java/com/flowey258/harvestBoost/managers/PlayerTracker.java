@@ -0,0 +1,172 @@
+package com.flowey258.harvestBoost.managers;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.ConfigManager;
+import com.flowey258.harvestBoost.core.PresenceState;
+import com.flowey258.harvestBoost.core.PresenceTracker;
+import com.flowey258.harvestBoost.core.PresenceTracker.PresenceData;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+public class PlayerTracker {
+
+    private final HarvestBoost plugin;
+    private final ConfigManager configManager;
+
+    // Presence states, qualification timing and the farmer grid live in the engine
+    private final PresenceTracker presence;
+
+    public PlayerTracker(HarvestBoost plugin) {
+        this.plugin = plugin;
+        this.configManager = plugin.getConfigManager();
+        this.presence = plugin.getEngine().getPresence();
+    }
+
+    /**
+     * Advance one server tick, qualifying players whose minimum presence time just ended
+     */
+    public void tick() {
+        presence.tick();
+    }
+
+    /**
+     * Update player's presence in a farming area
+     */
+    public void updatePlayerPresence(Player player, Location farmingLocation) {
+        UUID worldId = farmingLocation.getWorld().getUID();
+        boolean enteredArea = presence.updatePresence(player.getUniqueId(), worldId,
+                farmingLocation.getX(), farmingLocation.getY(), farmingLocation.getZ());
+
+        if (enteredArea && configManager.isDebugEnabled()) {
+            plugin.getLogger().info("Player " + player.getName() + " entered farming area at " +
+                    farmingLocation.getBlockX() + "," + farmingLocation.getBlockY() + "," + farmingLocation.getBlockZ());
+        }
+
+        Location playerLoc = player.getLocation();
+        presence.placeFarmer(player.getUniqueId(), playerLoc.getWorld().getUID(),
+                playerLoc.getX(), playerLoc.getY(), playerLoc.getZ());
+    }
+
+    /**
+     * Record that a tracked player is no longer near any farmable blocks
+     */
+    public void updatePlayerAwayFromFarm(Player player) {
+        presence.updateAwayFromFarm(player.getUniqueId());
+    }
+
+    /**
+     * Keep a tracked farmer's grid position in sync as they move
+     */
+    public void updatePlayerPosition(Player player, Location location) {
+        if (location.getWorld() == null) {
+            return;
+        }
+
+        presence.updatePosition(player.getUniqueId(), location.getWorld().getUID(),
+                location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Check if a tracked player currently counts towards the boost at a crop location
+     */
+    public boolean isContributing(UUID playerId, Location cropLocation) {
+        if (cropLocation.getWorld() == null) {
+            return false;
+        }
+
+        return presence.isContributing(playerId, cropLocation.getWorld().getUID(),
+                cropLocation.getX(), cropLocation.getY(), cropLocation.getZ());
+    }
+
+    /**
+     * Check if player has been in the farming area long enough to contribute to boost
+     */
+    public boolean hasBeenInAreaLongEnough(Player player, Location farmingLocation) {
+        return isContributing(player.getUniqueId(), farmingLocation);
+    }
+
+    /**
+     * Get a player's current presence state
+     */
+    public PresenceState getPresenceState(Player player) {
+        return presence.getPresenceState(player.getUniqueId());
+    }
+
+    /**
+     * Visit every farmer currently counting towards boosts in a world, with their last farming location
+     */
+    public void forEachQualifiedFarmer(World world, BiConsumer<UUID, Location> consumer) {
+        presence.forEachQualifiedFarmer(world.getUID(),
+                (playerId, x, y, z) -> consumer.accept(playerId, new Location(world, x, y, z)));
+    }
+
+    /**
+     * Remove player from tracking when they leave
+     */
+    public void removePlayer(Player player) {
+        presence.removePlayer(player.getUniqueId());
+    }
+
+    /**
+     * Clean up old presence data for offline players
+     */
+    public void cleanupOfflinePlayers() {
+        presence.cleanupOfflinePlayers();
+    }
+
+    /**
+     * Get player's current boost level based on their location
+     */
+    public int getPlayerBoostLevel(Player player) {
+        Location playerLoc = player.getLocation();
+        return plugin.getBoostManager().getFarmerCount(playerLoc);
+    }
+
+    /**
+     * Check if player is currently in a boosted farming area
+     */
+    public boolean isPlayerInBoostedArea(Player player) {
+        Location playerLoc = player.getLocation();
+        return plugin.getBoostManager().hasBoost(playerLoc);
+    }
+
+    /**
+     * Get the time a player has been in their current farming area (in milliseconds)
+     */
+    public long getTimeInCurrentArea(Player player) {
+        return presence.getTimeInCurrentArea(player.getUniqueId());
+    }
+
+    /**
+     * Clear all tracking data
+     */
+    public void clearAll() {
+        presence.clearAll();
+    }
+
+    /**
+     * Get debug information about a player's farming status
+     */
+    public String getPlayerDebugInfo(Player player) {
+        PresenceData data = presence.getPresence(player.getUniqueId());
+
+        if (data == null) {
+            return "Not in farming area";
+        }
+
+        long timeInArea = getTimeInCurrentArea(player);
+        int boostLevel = getPlayerBoostLevel(player);
+
+        return String.format("Area: %d,%d,%d | Time: %dms | State: %s | Boost: %dx",
+                (int) Math.floor(data.x()),
+                (int) Math.floor(data.y()),
+                (int) Math.floor(data.z()),
+                timeInArea,
+                data.state(),
+                boostLevel);
+    }
+}
@@ -0,0 +1,34 @@
+package com.flowey258.harvestBoost.managers;
+
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.TextComponent;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends action bars through the Spigot chat component API
+ */
+final class SpigotActionBarSender implements ActionBarSender {
+
+    // Messages are pre-rendered per farmer count, so only a handful of distinct ones ever exist
+    private static final int MAX_CACHED_COMPONENTS = 64;
+
+    private final Map<String, BaseComponent[]> components = new HashMap<>();
+
+    @Override
+    public void send(Player player, String message) {
+        BaseComponent[] component = components.get(message);
+        if (component == null) {
+            if (components.size() >= MAX_CACHED_COMPONENTS) {
+                components.clear(); // Formats changed on reload, drop the stale ones
+            }
+            component = TextComponent.fromLegacyText(message);
+            components.put(message, component);
+        }
+
+        player.spigot().sendMessage(ChatMessageType.ACTION_BAR, component);
+    }
+}
@@ -0,0 +1,69 @@
+package com.flowey258.harvestBoost.platform;
+
+import com.flowey258.harvestBoost.core.BlockTypes;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Server;
+import org.bukkit.Tag;
+
+/**
+ * Bukkit materials as engine block types, identified by their ordinal
+ */
+public final class BukkitBlockTypes implements BlockTypes {
+
+    private static final Material[] MATERIALS = Material.values();
+
+    private final Server server;
+
+    public BukkitBlockTypes(Server server) {
+        this.server = server;
+    }
+
+    /**
+     * Material of a type id
+     */
+    public static Material material(int type) {
+        return MATERIALS[type];
+    }
+
+    @Override
+    public int count() {
+        return MATERIALS.length;
+    }
+
+    @Override
+    public int byName(String name) {
+        Material material = Material.getMaterial(name);
+        return material != null ? material.ordinal() : -1;
+    }
+
+    @Override
+    public int matchBlock(String entry) {
+        Material material = Material.matchMaterial(entry);
+        return material != null && material.isBlock() ? material.ordinal() : -1;
+    }
+
+    @Override
+    public int[] tag(String key) {
+        NamespacedKey namespacedKey = NamespacedKey.fromString(key.toLowerCase());
+        Tag<Material> tag = namespacedKey != null && server != null
+                ? server.getTag(Tag.REGISTRY_BLOCKS, namespacedKey, Material.class)
+                : null;
+        if (tag == null) {
+            return null;
+        }
+
+        return tag.getValues().stream().mapToInt(Material::ordinal).toArray();
+    }
+
+    @Override
+    public String name(int type) {
+        return MATERIALS[type].name();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean isLegacy(int type) {
+        return MATERIALS[type].isLegacy();
+    }
+}
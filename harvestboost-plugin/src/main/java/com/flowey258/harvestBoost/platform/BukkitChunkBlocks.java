@@ -0,0 +1,26 @@
+package com.flowey258.harvestBoost.platform;
+
+import com.flowey258.harvestBoost.core.ChunkBlocks;
+import org.bukkit.ChunkSnapshot;
+
+/**
+ * Engine view of a chunk snapshot, safe to read off the main thread like the snapshot itself
+ */
+public final class BukkitChunkBlocks implements ChunkBlocks {
+
+    private final ChunkSnapshot snapshot;
+
+    public BukkitChunkBlocks(ChunkSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public boolean isSectionEmpty(int sectionIndex) {
+        return snapshot.isSectionEmpty(sectionIndex);
+    }
+
+    @Override
+    public int getType(int x, int y, int z) {
+        return snapshot.getBlockType(x, y, z).ordinal();
+    }
+}
@@ -0,0 +1,55 @@
+package com.flowey258.harvestBoost.platform;
+
+import com.flowey258.harvestBoost.core.ChunkBlocks;
+import com.flowey258.harvestBoost.core.FarmWorld;
+import org.bukkit.World;
+
+import java.util.UUID;
+
+/**
+ * Engine view of a loaded Bukkit world
+ */
+public final class BukkitFarmWorld implements FarmWorld {
+
+    private final World world;
+    private final UUID id;
+
+    public BukkitFarmWorld(World world) {
+        this.world = world;
+        this.id = world.getUID();
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public int getMinHeight() {
+        return world.getMinHeight();
+    }
+
+    @Override
+    public int getMaxHeight() {
+        return world.getMaxHeight();
+    }
+
+    @Override
+    public boolean isChunkLoaded(int chunkX, int chunkZ) {
+        return world.isChunkLoaded(chunkX, chunkZ);
+    }
+
+    @Override
+    public int getBlockType(int x, int y, int z) {
+        return world.getBlockAt(x, y, z).getType().ordinal();
+    }
+
+    @Override
+    public ChunkBlocks snapshotChunk(int chunkX, int chunkZ) {
+        return new BukkitChunkBlocks(world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false));
+    }
+}
@@ -0,0 +1,74 @@
+package com.flowey258.harvestBoost.platform;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.core.EnginePlatform;
+import com.flowey258.harvestBoost.core.PresenceState;
+import com.flowey258.harvestBoost.core.PresenceTracker.PresenceData;
+import com.flowey258.harvestBoost.events.FarmerPresenceChangeEvent;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Connects the engine to the Bukkit server: player lookups, presence events and world views
+ */
+public final class BukkitPlatform implements EnginePlatform {
+
+    private final HarvestBoost plugin;
+
+    // One view per world, main thread only
+    private final Map<UUID, BukkitFarmWorld> worlds = new HashMap<>();
+
+    public BukkitPlatform(HarvestBoost plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Get the engine view of a world
+     */
+    public BukkitFarmWorld world(World world) {
+        BukkitFarmWorld farmWorld = worlds.get(world.getUID());
+        if (farmWorld == null || farmWorld.getWorld() != world) {
+            farmWorld = new BukkitFarmWorld(world);
+            worlds.put(farmWorld.getId(), farmWorld);
+        }
+        return farmWorld;
+    }
+
+    /**
+     * Drop the view of an unloaded world
+     */
+    public void forgetWorld(UUID worldId) {
+        worlds.remove(worldId);
+    }
+
+    @Override
+    public boolean isOnline(UUID playerId) {
+        Player player = plugin.getServer().getPlayer(playerId);
+        return player != null && player.isOnline();
+    }
+
+    @Override
+    public void onPresenceChange(UUID playerId, PresenceState previousState, PresenceState newState,
+                                 PresenceData presence) {
+        Player player = plugin.getServer().getPlayer(playerId);
+        if (player == null) {
+            return;
+        }
+
+        Location farmingArea = new Location(plugin.getServer().getWorld(presence.worldId()),
+                presence.areaX(), presence.areaY(), presence.areaZ());
+        plugin.getServer().getPluginManager().callEvent(
+                new FarmerPresenceChangeEvent(player, previousState, newState, farmingArea));
+    }
+
+    @Override
+    public Logger getLogger() {
+        return plugin.getLogger();
+    }
+}
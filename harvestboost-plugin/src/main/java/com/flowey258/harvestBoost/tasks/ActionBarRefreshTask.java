@@ -0,0 +1,21 @@
+package com.flowey258.harvestBoost.tasks;
+
+import com.flowey258.harvestBoost.managers.EffectsManager;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Re-sends unchanged action bar messages before the client fades them, once per server tick
+ */
+public class ActionBarRefreshTask extends BukkitRunnable {
+
+    private final EffectsManager effectsManager;
+
+    public ActionBarRefreshTask(EffectsManager effectsManager) {
+        this.effectsManager = effectsManager;
+    }
+
+    @Override
+    public void run() {
+        effectsManager.refreshActionBars();
+    }
+}
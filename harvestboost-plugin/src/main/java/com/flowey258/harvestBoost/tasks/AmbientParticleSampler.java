@@ -0,0 +1,228 @@
+package com.flowey258.harvestBoost.tasks;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.PluginSettings;
+import com.flowey258.harvestBoost.managers.EffectsManager;
+import com.flowey258.harvestBoost.managers.FarmIndexManager;
+import com.flowey258.harvestBoost.managers.PlayerBoost;
+import com.flowey258.harvestBoost.util.BlockKeys;
+import com.flowey258.harvestBoost.util.ChunkFarmBits;
+import com.flowey258.harvestBoost.util.PositionReservoir;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Sparkles random farm blocks around boosted players.
+ *
+ * Every boosted player's surroundings keep a small reservoir sample of the farmable blocks the
+ * farm index knows about. The sample is only rebuilt when the player moves to another block or
+ * the index of the surrounding chunks changes. Each tick an area earns a fraction of a particle
+ * spot, so the spots of one particle interval are spread evenly over it instead of bursting at
+ * once, and every spot is a constant-time draw from the sample.
+ *
+ * Not thread-safe; all access is expected from the server main thread.
+ */
+public class AmbientParticleSampler extends BukkitRunnable {
+
+    // Particle spots per boosted player per particle interval
+    private static final int SPOTS_PER_INTERVAL = 10;
+
+    // Farmable blocks remembered per boosted player
+    private static final int RESERVOIR_SIZE = 32;
+
+    // Horizontal reach around the player, capped for performance, and vertical reach
+    private static final int MAX_RADIUS = 5;
+    private static final int VERTICAL_REACH = 2;
+
+    private final HarvestBoost plugin;
+    private final FarmIndexManager farmIndexManager;
+    private final EffectsManager effectsManager;
+    private final Random random = new Random();
+
+    // Player UID -> sampled surroundings, only for players currently boosted
+    private final Map<UUID, AmbientArea> areas = new HashMap<>();
+
+    public AmbientParticleSampler(HarvestBoost plugin) {
+        this.plugin = plugin;
+        this.farmIndexManager = plugin.getFarmIndexManager();
+        this.effectsManager = plugin.getEffectsManager();
+    }
+
+    /**
+     * Track the areas of boosted players, resampling those whose surroundings changed
+     */
+    public void updateAreas(List<PlayerBoost> boostFrame) {
+        PluginSettings settings = plugin.getConfigManager().getSettings();
+        if (!settings.isParticlesEnabled()) {
+            areas.clear();
+            return;
+        }
+
+        int radius = Math.min(settings.getDetectionRadius(), MAX_RADIUS);
+
+        for (PlayerBoost boost : boostFrame) {
+            UUID playerId = boost.player().getUniqueId();
+            if (!boost.isBoosted()) {
+                areas.remove(playerId);
+                continue;
+            }
+
+            Location location = boost.player().getLocation();
+            World world = location.getWorld();
+            if (world == null) {
+                areas.remove(playerId);
+                continue;
+            }
+
+            AmbientArea area = areas.get(playerId);
+            if (area == null) {
+                area = new AmbientArea();
+                // Start at a random point of the cycle so areas don't sparkle in lockstep
+                area.credit = random.nextDouble();
+                areas.put(playerId, area);
+            }
+
+            int x = location.getBlockX();
+            int y = location.getBlockY();
+            int z = location.getBlockZ();
+            int signature = indexSignature(world, x, z, radius);
+
+            if (!area.matches(world.getUID(), x, y, z, radius, signature)) {
+                resample(area, world, x, y, z, radius);
+                area.signature = signature;
+            }
+        }
+
+        // Players who went offline are missing from the frame altogether
+        if (areas.size() > boostFrame.size()) {
+            areas.keySet().removeIf(playerId -> plugin.getServer().getPlayer(playerId) == null);
+        }
+    }
+
+    @Override
+    public void run() {
+        if (areas.isEmpty()) {
+            return;
+        }
+
+        try {
+            PluginSettings settings = plugin.getConfigManager().getSettings();
+            double spotsPerTick = (double) SPOTS_PER_INTERVAL / Math.max(1, settings.getParticleInterval());
+
+            Iterator<AmbientArea> iterator = areas.values().iterator();
+            while (iterator.hasNext()) {
+                AmbientArea area = iterator.next();
+                World world = plugin.getServer().getWorld(area.worldId);
+                if (world == null) {
+                    iterator.remove();
+                    continue;
+                }
+
+                area.credit += spotsPerTick;
+                while (area.credit >= 1.0) {
+                    area.credit -= 1.0;
+                    if (!area.reservoir.isEmpty()) {
+                        emit(world, area.reservoir.draw(random));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            plugin.getLogger().warning("Error in AmbientParticleSampler: " + e.getMessage());
+            if (plugin.getConfigManager().isDebugEnabled()) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Forget every tracked area
+     */
+    public void clear() {
+        areas.clear();
+    }
+
+    /**
+     * Number of boosted players currently sparkling
+     */
+    public int getAreaCount() {
+        return areas.size();
+    }
+
+    /**
+     * Sparkle one sampled block, unless it was harvested since it was sampled
+     */
+    private void emit(World world, long blockKey) {
+        int x = BlockKeys.blockX(blockKey);
+        int y = BlockKeys.blockY(blockKey);
+        int z = BlockKeys.blockZ(blockKey);
+
+        ChunkFarmBits chunk = farmIndexManager.getChunk(world.getUID(), x >> 4, z >> 4);
+        if (chunk != null && chunk.get(x & 15, y, z & 15)) {
+            effectsManager.showCropParticles(world, x, y, z);
+        }
+    }
+
+    /**
+     * Refill an area's reservoir from the farm index around a block
+     */
+    private void resample(AmbientArea area, World world, int x, int y, int z, int radius) {
+        area.worldId = world.getUID();
+        area.x = x;
+        area.y = y;
+        area.z = z;
+        area.radius = radius;
+
+        PositionReservoir reservoir = area.reservoir;
+        reservoir.reset();
+        farmIndexManager.forEachFarmableInBox(world,
+                x - radius, x + radius, y - VERTICAL_REACH, y + VERTICAL_REACH, z - radius, z + radius,
+                blockKey -> reservoir.offer(blockKey, random));
+    }
+
+    /**
+     * Combined index version of the chunks around a block, changes whenever any of them changes
+     */
+    private int indexSignature(World world, int x, int z, int radius) {
+        UUID worldId = world.getUID();
+        int signature = 1;
+
+        for (int chunkX = (x - radius) >> 4; chunkX <= (x + radius) >> 4; chunkX++) {
+            for (int chunkZ = (z - radius) >> 4; chunkZ <= (z + radius) >> 4; chunkZ++) {
+                ChunkFarmBits chunk = farmIndexManager.getChunk(worldId, chunkX, chunkZ);
+                signature = 31 * signature + (chunk != null ? chunk.version() : -1);
+            }
+        }
+
+        return signature;
+    }
+
+    /**
+     * Sampled surroundings of one boosted player
+     */
+    private static final class AmbientArea {
+        private final PositionReservoir reservoir = new PositionReservoir(RESERVOIR_SIZE);
+
+        private UUID worldId;
+        private int x;
+        private int y;
+        private int z;
+        private int radius;
+        private int signature;
+
+        // Fractional particle spots earned but not spent yet
+        private double credit;
+
+        private boolean matches(UUID worldId, int x, int y, int z, int radius, int signature) {
+            return worldId.equals(this.worldId) && x == this.x && y == this.y && z == this.z
+                    && radius == this.radius && signature == this.signature;
+        }
+    }
+}
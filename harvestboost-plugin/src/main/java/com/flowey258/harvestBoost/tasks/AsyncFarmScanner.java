@@ -0,0 +1,249 @@
+package com.flowey258.harvestBoost.tasks;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.FarmMaterialRegistry;
+import com.flowey258.harvestBoost.managers.FarmIndexManager;
+import com.flowey258.harvestBoost.managers.PlayerTracker;
+import com.flowey258.harvestBoost.metrics.PluginMetrics;
+import com.flowey258.harvestBoost.util.BlockKeys;
+import com.flowey258.harvestBoost.util.ChunkFarmBits;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moves farm-detection block scans off the main thread.
+ *
+ * The update task captures {@link ChunkSnapshot}s of unscanned chunks around players on the main
+ * thread, worker threads turn them into farmable bitmaps, and the results plus the presence
+ * updates that were waiting on them are applied back on the main thread.
+ */
+public class AsyncFarmScanner {
+
+    private final HarvestBoost plugin;
+    private final ExecutorService executor;
+
+    // Chunks with a scan in flight (world UID -> packed chunk keys), main thread only
+    private final Map<UUID, Set<Long>> inFlight = new HashMap<>();
+
+    public AsyncFarmScanner(HarvestBoost plugin, int threads) {
+        this.plugin = plugin;
+
+        AtomicInteger threadId = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "HarvestBoost-FarmScan-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start collecting scan work for one run of the update task
+     */
+    public ScanBatch newBatch() {
+        return new ScanBatch();
+    }
+
+    /**
+     * Scan the batch off-thread and apply its results on the main thread
+     */
+    public void submit(ScanBatch batch) {
+        if (batch.requests.isEmpty()) {
+            return; // Players waiting on in-flight chunks are retried next run
+        }
+
+        List<ScanRequest> requests = new ArrayList<>(batch.requests.values());
+        FarmMaterialRegistry materials = plugin.getConfigManager().getMaterialRegistry();
+        PluginMetrics metrics = plugin.getMetrics();
+
+        try {
+            CompletableFuture.runAsync(() -> requests.forEach(request -> request.scan(materials, metrics)), executor)
+                    .whenComplete((ignored, error) -> {
+                        if (!plugin.isEnabled()) {
+                            return;
+                        }
+                        plugin.getServer().getScheduler().runTask(plugin, () -> apply(requests, batch.waitingPlayers, error));
+                    });
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            requests.forEach(this::release);
+        }
+    }
+
+    /**
+     * Stop the worker threads
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        inFlight.clear();
+    }
+
+    /**
+     * Install scan results and run the presence updates that were waiting on them (main thread)
+     */
+    private void apply(List<ScanRequest> requests, List<WaitingPlayer> waitingPlayers, Throwable error) {
+        FarmIndexManager farmIndex = plugin.getFarmIndexManager();
+
+        for (ScanRequest request : requests) {
+            release(request);
+
+            if (error == null) {
+                farmIndex.installScan(request.worldId, request.chunkX, request.chunkZ,
+                        request.epoch, request.sectionIndexes, request.results);
+            }
+        }
+
+        if (error != null) {
+            plugin.getLogger().warning("Error in async farm scan: " + error.getMessage());
+            return;
+        }
+
+        PlayerTracker playerTracker = plugin.getPlayerTracker();
+        int farmRadius = plugin.getConfigManager().getFarmingDetectionRadius();
+
+        for (WaitingPlayer waiting : waitingPlayers) {
+            Player player = plugin.getServer().getPlayer(waiting.playerId());
+            if (player == null || !player.isOnline() || player.getWorld() != waiting.location().getWorld()) {
+                continue;
+            }
+
+            // Chunks unloaded or invalidated while scanning stay unscanned; leave those players for the next run
+            if (!farmIndex.isIndexed(waiting.location(), farmRadius, 2)) {
+                continue;
+            }
+
+            if (farmIndex.isNearFarmableBlocks(waiting.location(), farmRadius, 2)) {
+                playerTracker.updatePlayerPresence(player, waiting.location());
+            } else {
+                playerTracker.updatePlayerAwayFromFarm(player);
+            }
+        }
+    }
+
+    private void release(ScanRequest request) {
+        Set<Long> chunks = inFlight.get(request.worldId);
+        if (chunks != null) {
+            chunks.remove(BlockKeys.packColumn(request.chunkX, request.chunkZ));
+            if (chunks.isEmpty()) {
+                inFlight.remove(request.worldId);
+            }
+        }
+    }
+
+    /**
+     * Scan work gathered during one run; snapshots are shared by every player near the same chunk
+     */
+    public class ScanBatch {
+
+        // Keyed by world UID and chunk so a snapshot is captured at most once per run
+        private final Map<ChunkRef, ScanRequest> requests = new HashMap<>();
+        private final List<WaitingPlayer> waitingPlayers = new ArrayList<>();
+
+        /**
+         * Queue snapshots for every unscanned chunk section around a player (main thread)
+         */
+        public void addPlayer(Player player, Location location, int radius, int verticalReach) {
+            World world = location.getWorld();
+            if (world == null) {
+                return;
+            }
+
+            UUID worldId = world.getUID();
+            FarmIndexManager farmIndex = plugin.getFarmIndexManager();
+            int centerX = location.getBlockX();
+            int centerY = location.getBlockY();
+            int centerZ = location.getBlockZ();
+
+            for (int chunkX = (centerX - radius) >> 4; chunkX <= (centerX + radius) >> 4; chunkX++) {
+                for (int chunkZ = (centerZ - radius) >> 4; chunkZ <= (centerZ + radius) >> 4; chunkZ++) {
+                    ChunkFarmBits chunk = farmIndex.getOrIndexChunk(world, chunkX, chunkZ);
+                    if (chunk == null || chunk.isScanned(centerY - verticalReach, centerY + verticalReach)) {
+                        continue;
+                    }
+
+                    long chunkKey = BlockKeys.packColumn(chunkX, chunkZ);
+                    ChunkRef ref = new ChunkRef(worldId, chunkKey);
+                    ScanRequest request = requests.get(ref);
+
+                    if (request == null) {
+                        if (!inFlight.computeIfAbsent(worldId, id -> new HashSet<>()).add(chunkKey)) {
+                            continue; // Already being scanned by an earlier run
+                        }
+
+                        ChunkSnapshot snapshot = world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false);
+                        request = new ScanRequest(worldId, chunkX, chunkZ, snapshot, chunk.epoch());
+                        requests.put(ref, request);
+                    }
+
+                    for (int index = chunk.firstSection(centerY - verticalReach);
+                         index <= chunk.lastSection(centerY + verticalReach); index++) {
+                        if (!chunk.isScanned(index)) {
+                            // Changes from here on are replayed over the scan result when it is installed
+                            chunk.beginScan(index);
+                            request.sections.set(index);
+                            request.sectionMinYs.put(index, chunk.sectionMinY(index));
+                        }
+                    }
+                }
+            }
+
+            waitingPlayers.add(new WaitingPlayer(player.getUniqueId(), location));
+        }
+    }
+
+    /**
+     * Snapshot of one chunk and the sections to scan from it
+     */
+    private static final class ScanRequest {
+        private final UUID worldId;
+        private final int chunkX;
+        private final int chunkZ;
+        private final ChunkSnapshot snapshot;
+        private final int epoch;
+        private final BitSet sections = new BitSet();
+        private final Map<Integer, Integer> sectionMinYs = new HashMap<>();
+
+        // Filled in by the worker thread
+        private int[] sectionIndexes;
+        private long[][] results;
+
+        private ScanRequest(UUID worldId, int chunkX, int chunkZ, ChunkSnapshot snapshot, int epoch) {
+            this.worldId = worldId;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.snapshot = snapshot;
+            this.epoch = epoch;
+        }
+
+        private void scan(FarmMaterialRegistry materials, PluginMetrics metrics) {
+            int[] indexes = sections.stream().toArray();
+            long[][] bits = new long[indexes.length][];
+
+            for (int i = 0; i < indexes.length; i++) {
+                bits[i] = FarmIndexManager.scanSection(snapshot, indexes[i], sectionMinYs.get(indexes[i]), materials, metrics);
+            }
+
+            sectionIndexes = indexes;
+            results = bits;
+        }
+    }
+
+    private record ChunkRef(UUID worldId, long chunkKey) {}
+
+    private record WaitingPlayer(UUID playerId, Location location) {}
+}
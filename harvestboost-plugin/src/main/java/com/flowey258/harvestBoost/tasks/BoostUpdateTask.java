@@ -0,0 +1,214 @@
+package com.flowey258.harvestBoost.tasks;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.ConfigManager;
+import com.flowey258.harvestBoost.managers.BoostManager;
+import com.flowey258.harvestBoost.managers.EffectsManager;
+import com.flowey258.harvestBoost.managers.FarmIndexManager;
+import com.flowey258.harvestBoost.managers.PlayerBoost;
+import com.flowey258.harvestBoost.managers.PlayerTracker;
+import com.flowey258.harvestBoost.metrics.PluginMetrics;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BoostUpdateTask extends BukkitRunnable {
+
+    private final HarvestBoost plugin;
+    private final ConfigManager configManager;
+    private final BoostManager boostManager;
+    private final PlayerTracker playerTracker;
+    private final EffectsManager effectsManager;
+    private final PluginMetrics metrics;
+
+    private int tickCounter = 0;
+
+    public BoostUpdateTask(HarvestBoost plugin) {
+        this.plugin = plugin;
+        this.configManager = plugin.getConfigManager();
+        this.boostManager = plugin.getBoostManager();
+        this.playerTracker = plugin.getPlayerTracker();
+        this.effectsManager = plugin.getEffectsManager();
+        this.metrics = plugin.getMetrics();
+    }
+
+    @Override
+    public void run() {
+        long start = metrics.updateTotal.start();
+        try {
+            // Increment tick counter
+            tickCounter++;
+
+            // Update player tracking
+            long phase = metrics.updateTracking.start();
+            updatePlayerTracking();
+            metrics.updateTracking.stop(phase);
+
+            // Clean up caches periodically (every 5 minutes)
+            if (tickCounter % 6000 == 0) {
+                phase = metrics.updateCleanup.start();
+                performCleanup();
+                metrics.updateCleanup.stop(phase);
+            }
+
+            // Resolve every player's boost once for all effects of this run
+            phase = metrics.updateFrame.start();
+            List<PlayerBoost> boostFrame = captureBoostFrame();
+            metrics.updateFrame.stop(phase);
+
+            // Register the crops around boosted players for their extra growth ticks
+            phase = metrics.updateExtraGrowth.start();
+            plugin.getExtraGrowthScheduler().rebuild(boostFrame);
+            metrics.updateExtraGrowth.stop(phase);
+
+            // Let other plugins read this run's boosts without recomputing them
+            phase = metrics.updatePublish.start();
+            plugin.getApiService().publish(boostFrame);
+            metrics.updatePublish.stop(phase);
+
+            // Update actionbars for players in boosted areas
+            phase = metrics.updateActionBars.start();
+            updateActionBars(boostFrame);
+            metrics.updateActionBars.stop(phase);
+
+            // Resample the surroundings of boosted players, the sampler spreads their particles over the ticks
+            phase = metrics.updateAmbient.start();
+            plugin.getAmbientParticleSampler().updateAreas(boostFrame);
+            metrics.updateAmbient.stop(phase);
+
+        } catch (Exception e) {
+            plugin.getLogger().warning("Error in BoostUpdateTask: " + e.getMessage());
+            if (configManager.isDebugEnabled()) {
+                e.printStackTrace();
+            }
+        } finally {
+            metrics.updateTotal.stop(start);
+        }
+    }
+
+    /**
+     * Update player tracking and presence
+     */
+    private void updatePlayerTracking() {
+        AsyncFarmScanner.ScanBatch scanBatch = plugin.getFarmScanner().newBatch();
+
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            if (player.isOnline()) {
+                // Update player presence if they're near farming areas
+                updatePlayerFarmingPresence(player, scanBatch);
+            }
+        }
+
+        // Scan chunks nobody has indexed yet off the main thread
+        plugin.getFarmScanner().submit(scanBatch);
+
+        // Clean up offline players every 20 ticks (1 second)
+        if (tickCounter % 20 == 0) {
+            playerTracker.cleanupOfflinePlayers();
+            effectsManager.cleanupOfflinePlayers();
+        }
+    }
+
+    /**
+     * Update player farming presence
+     */
+    private void updatePlayerFarmingPresence(Player player, AsyncFarmScanner.ScanBatch scanBatch) {
+        // Check if player is in a disabled world
+        if (configManager.getSettings().isWorldDisabled(player.getWorld())) {
+            return;
+        }
+
+        Location playerLoc = player.getLocation();
+        int farmRadius = configManager.getFarmingDetectionRadius();
+        FarmIndexManager farmIndex = plugin.getFarmIndexManager();
+
+        // Unscanned surroundings are snapshotted and resolved next tick by the async scanner
+        if (!farmIndex.isIndexed(playerLoc, farmRadius, 2)) {
+            scanBatch.addPlayer(player, playerLoc, farmRadius, 2);
+            return;
+        }
+
+        // Check if player is near any farmable blocks
+        if (farmIndex.isNearFarmableBlocks(playerLoc, farmRadius, 2)) {
+            playerTracker.updatePlayerPresence(player, playerLoc);
+        } else {
+            playerTracker.updatePlayerAwayFromFarm(player);
+        }
+    }
+
+    /**
+     * Resolve farmer count, multiplier and percentage of every online player once
+     */
+    private List<PlayerBoost> captureBoostFrame() {
+        List<PlayerBoost> boostFrame = new ArrayList<>();
+
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            if (player.isOnline()) {
+                PlayerBoost boost = boostManager.getPlayerBoost(player);
+                boostFrame.add(boost);
+
+                // Feedback listens for level transitions instead of polling every player
+                boostManager.updateBoostLevel(boost);
+            }
+        }
+
+        return boostFrame;
+    }
+
+    /**
+     * Update actionbars for players in boosted areas
+     */
+    private void updateActionBars(List<PlayerBoost> boostFrame) {
+        if (!configManager.isActionBarEnabled()) {
+            return;
+        }
+
+        // Unboosted players are passed too so their last message is forgotten
+        for (PlayerBoost boost : boostFrame) {
+            effectsManager.updateActionBar(boost);
+        }
+    }
+
+    /**
+     * Perform periodic cleanup tasks
+     */
+    private void performCleanup() {
+        if (configManager.isDebugEnabled()) {
+            plugin.getLogger().info("Performing periodic cleanup...");
+        }
+
+        // Clean boost cache
+        boostManager.cleanCache();
+
+        // Clean player tracking data
+        playerTracker.cleanupOfflinePlayers();
+
+        // Clean effects data
+        effectsManager.cleanupOfflinePlayers();
+
+        // Force garbage collection suggestion (not guaranteed)
+        System.gc();
+
+        if (configManager.isDebugEnabled()) {
+            plugin.getLogger().info("Cleanup completed. Online players: " +
+                    plugin.getServer().getOnlinePlayers().size());
+        }
+    }
+
+    /**
+     * Get current tick count
+     */
+    public int getTickCounter() {
+        return tickCounter;
+    }
+
+    /**
+     * Reset tick counter
+     */
+    public void resetTickCounter() {
+        tickCounter = 0;
+    }
+}
\ No newline at end of file
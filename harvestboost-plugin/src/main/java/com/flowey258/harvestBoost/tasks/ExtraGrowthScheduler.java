@@ -0,0 +1,184 @@
+package com.flowey258.harvestBoost.tasks;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.FarmMaterialRegistry;
+import com.flowey258.harvestBoost.core.ExtraGrowthTicks;
+import com.flowey258.harvestBoost.managers.EffectsManager;
+import com.flowey258.harvestBoost.managers.GrowthManager;
+import com.flowey258.harvestBoost.managers.PlayerBoost;
+import org.bukkit.GameRule;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.data.type.Sapling;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Hands out extra random growth ticks to crops and saplings in boosted areas.
+ *
+ * The registry and the weighted draws live in {@link ExtraGrowthTicks}; this task feeds it the
+ * boosted players after every boost update and applies each drawn tick to the block, under
+ * performance.max-extra-growth-per-tick. While it runs, ageable crops get no reactive bonus
+ * stage from the growth scheduler, which would stack on top.
+ *
+ * Not thread-safe; all access is expected from the server main thread.
+ */
+public class ExtraGrowthScheduler extends BukkitRunnable {
+
+    // Chance bone meal turns a fully staged sapling into a tree, as in vanilla
+    private static final double BONE_MEAL_TREE_CHANCE = 0.45;
+
+    private final HarvestBoost plugin;
+    private final GrowthManager growthManager;
+    private final EffectsManager effectsManager;
+    private final Random random = new Random();
+
+    // Candidate registry, credit and draws are shared with the load simulator
+    private final ExtraGrowthTicks growthTicks;
+
+    public ExtraGrowthScheduler(HarvestBoost plugin) {
+        this.plugin = plugin;
+        this.growthManager = plugin.getGrowthManager();
+        this.effectsManager = plugin.getEffectsManager();
+        this.growthTicks = new ExtraGrowthTicks(plugin.getEngine(), random);
+    }
+
+    /**
+     * Rebuild the candidate registry from the boosted cells around boosted players
+     */
+    public void rebuild(List<PlayerBoost> boostFrame) {
+        growthTicks.beginRebuild();
+
+        for (PlayerBoost boost : boostFrame) {
+            if (!boost.isBoosted()) {
+                continue;
+            }
+
+            Location location = boost.player().getLocation();
+            World world = location.getWorld();
+            if (world == null) {
+                continue;
+            }
+
+            growthTicks.addFarmer(plugin.getPlatform().world(world), location.getBlockX(), location.getBlockY(), location.getBlockZ(),
+                    randomTickSpeed(world));
+        }
+
+        growthTicks.finishRebuild();
+    }
+
+    @Override
+    public void run() {
+        try {
+            FarmMaterialRegistry materials = plugin.getConfigManager().getMaterialRegistry();
+            growthTicks.tick(plugin.getConfigManager().getSettings().getMaxExtraGrowthPerTick(),
+                    (worldId, x, y, z) -> attempt(worldId, x, y, z, materials));
+        } catch (Exception e) {
+            plugin.getLogger().warning("Error in ExtraGrowthScheduler: " + e.getMessage());
+            if (plugin.getConfigManager().isDebugEnabled()) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Give one block an extra random growth tick
+     */
+    private boolean attempt(UUID worldId, int x, int y, int z, FarmMaterialRegistry materials) {
+        World world = plugin.getServer().getWorld(worldId);
+        if (world == null || !world.isChunkLoaded(x >> 4, z >> 4)) {
+            return false;
+        }
+
+        Block block = world.getBlockAt(x, y, z);
+        Material type = block.getType();
+        // Each plant rolls its own vanilla odds and light requirement, nether wart and cocoa grow in the dark
+        double chance = materials.growthChance(type);
+        if (!materials.isBoostable(type) || chance <= 0 || block.getLightLevel() < materials.minGrowthLight(type)) {
+            return false;
+        }
+
+        boolean grown = false;
+        if (materials.isAgeable(type)) {
+            grown = random.nextDouble() < chance && growthManager.queueAgeStage(block);
+        } else if (materials.is(type, FarmMaterialRegistry.SAPLING) && block.getBlockData() instanceof Sapling sapling) {
+            grown = advanceSapling(block, sapling, chance);
+        }
+
+        if (grown) {
+            effectsManager.showCropParticles(world, x, y, z);
+        }
+        return grown;
+    }
+
+    /**
+     * Advance a sapling the way a vanilla random tick does: one stage, or into a tree once fully staged
+     */
+    private boolean advanceSapling(Block block, Sapling sapling, double chance) {
+        if (sapling.getStage() < sapling.getMaximumStage()) {
+            if (random.nextDouble() >= chance) {
+                return false;
+            }
+
+            // Only the stage changes, never the block type or shape, so neighbours need no physics update
+            sapling.setStage(sapling.getStage() + 1);
+            block.setBlockData(sapling, false);
+            return true;
+        }
+
+        // Bone meal is the only way to grow the right tree and fire StructureGrowEvent; raising the roll by
+        // its own tree chance keeps the odds of a tree at vanilla's 1/7 per tick
+        return random.nextDouble() < chance / BONE_MEAL_TREE_CHANCE
+                && block.applyBoneMeal(BlockFace.UP);
+    }
+
+    /**
+     * Random tick speed game rule of a world, vanilla's default when unset
+     */
+    private static int randomTickSpeed(World world) {
+        Integer speed = world.getGameRuleValue(GameRule.RANDOM_TICK_SPEED);
+        return speed != null ? Math.max(0, speed) : 3;
+    }
+
+    /**
+     * Forget the registry of an unloaded world
+     */
+    public void onWorldUnload(World world) {
+        growthTicks.onWorldUnload(world.getUID());
+    }
+
+    /**
+     * Forget every registered block
+     */
+    public void clear() {
+        growthTicks.clear();
+    }
+
+    /**
+     * Number of blocks currently receiving extra growth ticks
+     */
+    public int getRegisteredCount() {
+        return growthTicks.getRegisteredCount();
+    }
+
+    public long getAttemptCount() {
+        return growthTicks.getAttemptCount();
+    }
+
+    public long getGrownCount() {
+        return growthTicks.getGrownCount();
+    }
+
+    /**
+     * Number of extra ticks dropped because the per-tick budget ran out
+     */
+    public long getDroppedCount() {
+        return growthTicks.getDroppedCount();
+    }
+}
@@ -0,0 +1,280 @@
+package com.flowey258.harvestBoost.tasks;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.config.PluginSettings;
+import com.flowey258.harvestBoost.managers.GrowthManager;
+import com.flowey258.harvestBoost.util.BlockKeys;
+import com.flowey258.harvestBoost.util.LongHashSet;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Queues growth boosts and applies them under a per-tick budget.
+ *
+ * Growth events only enqueue the grown block. Every tick the queue is drained round-robin over
+ * chunks, one block per chunk per turn, until either performance.max-crops-per-tick blocks were
+ * processed or performance.max-crop-time-per-tick ran out. Whatever is left waits for the next
+ * tick, so a single huge farm can neither spike a tick nor starve the farms around it.
+ *
+ * Not thread-safe; all access is expected from the server main thread.
+ */
+public class GrowthBoostScheduler extends BukkitRunnable {
+
+    private final HarvestBoost plugin;
+    private final GrowthManager growthManager;
+
+    // World UID -> (packed chunk key -> pending blocks of that chunk)
+    private final Map<UUID, Map<Long, ChunkQueue>> worldQueues = new HashMap<>();
+
+    // Chunks with pending work, in the order they get their next turn
+    private final ArrayDeque<ChunkQueue> rotation = new ArrayDeque<>();
+
+    private long currentTick;
+    private int queueDepth;
+
+    // Statistics since the scheduler started
+    private long queuedTotal;
+    private long processedTotal;
+    private long deferredTotal;
+    private int peakQueueDepth;
+    private int lastTickProcessed;
+
+    public GrowthBoostScheduler(HarvestBoost plugin) {
+        this.plugin = plugin;
+        this.growthManager = plugin.getGrowthManager();
+    }
+
+    /**
+     * Queue a grown block for its boost; a block already waiting is not queued twice
+     */
+    public void enqueue(World world, int x, int y, int z) {
+        UUID worldId = world.getUID();
+        long chunkKey = BlockKeys.packColumn(x >> 4, z >> 4);
+
+        Map<Long, ChunkQueue> chunks = worldQueues.computeIfAbsent(worldId, id -> new HashMap<>());
+        ChunkQueue queue = chunks.get(chunkKey);
+        if (queue == null) {
+            queue = new ChunkQueue(worldId, chunkKey);
+            chunks.put(chunkKey, queue);
+        }
+
+        // Stamped with the run that will first drain it, so only boosts left over by that run count as deferred
+        if (!queue.offer(BlockKeys.packBlock(x, y, z), currentTick + 1)) {
+            return;
+        }
+
+        if (queue.size() == 1) {
+            rotation.addLast(queue);
+        }
+
+        queuedTotal++;
+        queueDepth++;
+        peakQueueDepth = Math.max(peakQueueDepth, queueDepth);
+    }
+
+    @Override
+    public void run() {
+        try {
+            currentTick++;
+            drain(plugin.getConfigManager().getSettings());
+
+            // Boosts only collect bonus age stages and blocks, they are written once per block and column here
+            growthManager.flushPendingGrowth();
+        } catch (Exception e) {
+            plugin.getLogger().warning("Error in GrowthBoostScheduler: " + e.getMessage());
+            if (plugin.getConfigManager().isDebugEnabled()) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Apply queued boosts until this tick's count or time budget is spent
+     */
+    private void drain(PluginSettings settings) {
+        int maxBlocks = settings.getMaxCropsPerTick();
+        long budgetNanos = settings.getMaxCropTimeNanos();
+        long start = System.nanoTime();
+        int processed = 0;
+
+        while (processed < maxBlocks && !rotation.isEmpty()) {
+            // Always make some progress, even when a single boost is slower than the budget
+            if (processed > 0 && System.nanoTime() - start >= budgetNanos) {
+                break;
+            }
+
+            ChunkQueue queue = rotation.pollFirst();
+            World world = plugin.getServer().getWorld(queue.worldId);
+            if (world == null) {
+                discard(queue);
+                continue;
+            }
+
+            if (queue.headTick() < currentTick) {
+                deferredTotal++;
+            }
+            long blockKey = queue.poll();
+            queueDepth--;
+            processed++;
+
+            int chunkX = BlockKeys.columnX(queue.chunkKey);
+            int chunkZ = BlockKeys.columnZ(queue.chunkKey);
+
+            // Never load a chunk just to boost a crop in it
+            if (world.isChunkLoaded(chunkX, chunkZ)) {
+                growthManager.applyBoost(world, BlockKeys.blockX(blockKey), BlockKeys.blockY(blockKey), BlockKeys.blockZ(blockKey));
+            }
+
+            if (queue.size() > 0) {
+                rotation.addLast(queue);
+            } else {
+                removeQueue(queue);
+            }
+        }
+
+        processedTotal += processed;
+        lastTickProcessed = processed;
+    }
+
+    /**
+     * Drop the queued boosts of an unloaded world
+     */
+    public void onWorldUnload(World world) {
+        Map<Long, ChunkQueue> chunks = worldQueues.remove(world.getUID());
+        if (chunks == null) {
+            return;
+        }
+
+        for (ChunkQueue queue : chunks.values()) {
+            queueDepth -= queue.size();
+        }
+        rotation.removeIf(queue -> queue.worldId.equals(world.getUID()));
+    }
+
+    /**
+     * Drop every queued boost
+     */
+    public void clear() {
+        worldQueues.clear();
+        rotation.clear();
+        queueDepth = 0;
+        growthManager.clearPendingGrowth();
+    }
+
+    /**
+     * Number of blocks waiting for their boost
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Highest queue depth seen
+     */
+    public int getPeakQueueDepth() {
+        return peakQueueDepth;
+    }
+
+    /**
+     * Number of boosts that had to wait at least one tick for budget
+     */
+    public long getDeferredCount() {
+        return deferredTotal;
+    }
+
+    public long getQueuedCount() {
+        return queuedTotal;
+    }
+
+    public long getProcessedCount() {
+        return processedTotal;
+    }
+
+    public int getLastTickProcessed() {
+        return lastTickProcessed;
+    }
+
+    private void discard(ChunkQueue queue) {
+        queueDepth -= queue.size();
+        removeQueue(queue);
+    }
+
+    private void removeQueue(ChunkQueue queue) {
+        Map<Long, ChunkQueue> chunks = worldQueues.get(queue.worldId);
+        if (chunks != null) {
+            chunks.remove(queue.chunkKey);
+            if (chunks.isEmpty()) {
+                worldQueues.remove(queue.worldId);
+            }
+        }
+    }
+
+    /**
+     * FIFO ring of packed block keys pending in one chunk, with the tick each was first due at
+     */
+    private static final class ChunkQueue {
+        private final UUID worldId;
+        private final long chunkKey;
+        private final LongHashSet queued = new LongHashSet();
+
+        private long[] blocks = new long[8];
+        private long[] ticks = new long[8];
+        private int head;
+        private int size;
+
+        private ChunkQueue(UUID worldId, long chunkKey) {
+            this.worldId = worldId;
+            this.chunkKey = chunkKey;
+        }
+
+        private boolean offer(long blockKey, long tick) {
+            if (!queued.add(blockKey)) {
+                return false;
+            }
+
+            if (size == blocks.length) {
+                grow();
+            }
+
+            int tail = (head + size) & (blocks.length - 1);
+            blocks[tail] = blockKey;
+            ticks[tail] = tick;
+            size++;
+            return true;
+        }
+
+        private long headTick() {
+            return ticks[head];
+        }
+
+        private long poll() {
+            long blockKey = blocks[head];
+            head = (head + 1) & (blocks.length - 1);
+            size--;
+            queued.remove(blockKey);
+            return blockKey;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private void grow() {
+            long[] grownBlocks = new long[blocks.length << 1];
+            long[] grownTicks = new long[ticks.length << 1];
+            for (int i = 0; i < size; i++) {
+                int index = (head + i) & (blocks.length - 1);
+                grownBlocks[i] = blocks[index];
+                grownTicks[i] = ticks[index];
+            }
+            blocks = grownBlocks;
+            ticks = grownTicks;
+            head = 0;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.flowey258.harvestBoost.tasks;
+
+import com.flowey258.harvestBoost.HarvestBoost;
+import com.flowey258.harvestBoost.managers.ParticleManager;
+import com.flowey258.harvestBoost.metrics.MetricsSnapshot;
+import com.flowey258.harvestBoost.metrics.PluginMetrics;
+import com.flowey258.harvestBoost.metrics.PrometheusEndpoint;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Copies main-thread state into a snapshot for the Prometheus endpoint, once a second.
+ *
+ * Runs on the main thread, so it may read every manager; scrapes only ever see the published copy.
+ */
+public class MetricsSnapshotTask extends BukkitRunnable {
+
+    private final HarvestBoost plugin;
+    private final PrometheusEndpoint endpoint;
+
+    public MetricsSnapshotTask(HarvestBoost plugin, PrometheusEndpoint endpoint) {
+        this.plugin = plugin;
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public void run() {
+        if (!endpoint.isRunning()) {
+            return;
+        }
+
+        try {
+            endpoint.publish(capture());
+        } catch (Exception e) {
+            plugin.getLogger().warning("Error in MetricsSnapshotTask: " + e.getMessage());
+            if (plugin.getConfigManager().isDebugEnabled()) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private MetricsSnapshot capture() {
+        MetricsSnapshot.Builder snapshot = MetricsSnapshot.builder();
+
+        // Farmers counting towards boosts, per world
+        Map<String, Integer> qualified = new LinkedHashMap<>();
+        for (World world : plugin.getServer().getWorlds()) {
+            int[] count = {0};
+            plugin.getPlayerTracker().forEachQualifiedFarmer(world, (playerId, location) -> count[0]++);
+            qualified.put(world.getName(), count[0]);
+        }
+        snapshot.gauge("qualified_farmers", "Farmers currently counting towards boosts", "world", qualified);
+
+        // Boost cell cache, the hit ratio comes from the hot-path counters
+        PluginMetrics metrics = plugin.getMetrics();
+        long hits = metrics.boostCacheHits.getTotal();
+        long lookups = hits + metrics.boostCacheMisses.getTotal() + metrics.boostCacheStale.getTotal();
+        snapshot.gauge("boost_cache_cells", "Boost cells currently cached", plugin.getBoostManager().getCacheSize());
+        snapshot.gauge("boost_cache_hit_ratio", "Share of boost lookups answered from the cache",
+                lookups > 0 ? (double) hits / lookups : Double.NaN);
+
+        // Growth
+        GrowthBoostScheduler growth = plugin.getGrowthScheduler();
+        snapshot.gauge("growth_queue_depth", "Growth boosts waiting for the per-tick budget", growth.getQueueDepth());
+        snapshot.counter("growth_boosts_queued_total", "Growth boosts queued from grow events", growth.getQueuedCount());
+        snapshot.counter("growth_boosts_applied_total", "Growth boosts applied", growth.getProcessedCount());
+        snapshot.counter("growth_boosts_deferred_total", "Growth boosts pushed to a later tick", growth.getDeferredCount());
+
+        ExtraGrowthScheduler extraGrowth = plugin.getExtraGrowthScheduler();
+        snapshot.gauge("extra_growth_registered_crops", "Crops receiving extra growth ticks", extraGrowth.getRegisteredCount());
+        snapshot.counter("extra_growth_attempts_total", "Extra growth ticks handed out", extraGrowth.getAttemptCount());
+        snapshot.counter("extra_growth_grown_total", "Extra growth ticks that grew a crop", extraGrowth.getGrownCount());
+        snapshot.counter("extra_growth_dropped_total", "Extra growth ticks dropped over budget", extraGrowth.getDroppedCount());
+
+        // Farm index
+        snapshot.gauge("farm_index_chunks", "Chunks in the farm index", plugin.getFarmIndexManager().getIndexedChunkCount());
+
+        // Effects
+        ParticleManager particles = plugin.getParticleManager();
+        snapshot.counter("particle_bursts_sent_total", "Particle bursts sent to players", particles.getPacketsSent());
+        snapshot.counter("particle_bursts_culled_total", "Particle bursts not sent because of distance or budget",
+                particles.getPacketsCulled());
+        snapshot.counter("particle_duplicates_total", "Particle emissions merged into one already queued",
+                particles.getDuplicateCount());
+        snapshot.counter("action_bars_sent_total", "Action bar messages sent",
+                plugin.getEffectsManager().getActionBarsSent());
+
+        return snapshot.build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.flowey258.harvestBoost.tasks;
+
+import com.flowey258.harvestBoost.metrics.PluginMetrics;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Closes the metrics window once a minute, so rates and percentiles cover the last minute
+ */
+public class MetricsWindowTask extends BukkitRunnable {
+
+    // Ticks per window; the window itself is measured on the wall clock, so lag doesn't skew rates
+    public static final long WINDOW_TICKS = 1200L;
+
+    private final PluginMetrics metrics;
+
+    public MetricsWindowTask(PluginMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void run() {
+        if (metrics.isEnabled()) {
+            metrics.rollWindow();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.flowey258.harvestBoost.tasks;
+
+import com.flowey258.harvestBoost.managers.ParticleManager;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Delivers the growth particles collected during a tick, once per server tick
+ */
+public class ParticleFlushTask extends BukkitRunnable {
+
+    private final ParticleManager particleManager;
+
+    public ParticleFlushTask(ParticleManager particleManager) {
+        this.particleManager = particleManager;
+    }
+
+    @Override
+    public void run() {
+        particleManager.flush();
+    }
+}
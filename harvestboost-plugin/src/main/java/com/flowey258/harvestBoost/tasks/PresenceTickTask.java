@@ -0,0 +1,21 @@
+package com.flowey258.harvestBoost.tasks;
+
+import com.flowey258.harvestBoost.managers.PlayerTracker;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Advances farming presence qualification once per server tick
+ */
+public class PresenceTickTask extends BukkitRunnable {
+
+    private final PlayerTracker playerTracker;
+
+    public PresenceTickTask(PlayerTracker playerTracker) {
+        this.playerTracker = playerTracker;
+    }
+
+    @Override
+    public void run() {
+        playerTracker.tick();
+    }
+}
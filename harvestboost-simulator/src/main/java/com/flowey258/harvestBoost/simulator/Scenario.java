@@ -0,0 +1,60 @@
+package com.flowey258.harvestBoost.simulator;
+
+import java.util.Locale;
+
+/**
+ * How the simulated players are spread over farms and how they move
+ */
+enum Scenario {
+
+    // Groups of farmers sharing large farms, the case the boost exists for
+    COOP(1.0, 0.0, 0.0),
+
+    // Every player tending a farm of their own, so nobody is ever boosted
+    SOLO(0.0, 1.0, 0.0),
+
+    // Everybody jumping between farms and the wilderness at once, every storm interval
+    TELEPORT(0.0, 0.0, 1.0),
+
+    // A server's usual blend of the three
+    MIXED(0.5, 0.3, 0.2);
+
+    private final double coopShare;
+    private final double soloShare;
+    private final double teleportShare;
+
+    Scenario(double coopShare, double soloShare, double teleportShare) {
+        this.coopShare = coopShare;
+        this.soloShare = soloShare;
+        this.teleportShare = teleportShare;
+    }
+
+    /**
+     * Number of co-op farmers among a player count
+     */
+    int coopPlayers(int players) {
+        return (int) Math.round(players * coopShare);
+    }
+
+    /**
+     * Number of solo farmers among a player count
+     */
+    int soloPlayers(int players) {
+        return Math.min(players - coopPlayers(players), (int) Math.round(players * soloShare));
+    }
+
+    /**
+     * Number of teleporting players among a player count, whoever is left
+     */
+    int teleportPlayers(int players) {
+        return teleportShare == 0 ? 0 : players - coopPlayers(players) - soloPlayers(players);
+    }
+
+    static Scenario parse(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown scenario " + value + ", expected mixed, coop, solo or teleport");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.flowey258.harvestBoost.simulator;
+
+import com.flowey258.harvestBoost.core.BlockTypes;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The handful of block types a simulated farm is built from
+ */
+final class SimBlockTypes implements BlockTypes {
+
+    static final int AIR = 0;
+    static final int DIRT = 1;
+    static final int FARMLAND = 2;
+    static final int WATER = 3;
+    static final int WHEAT = 4;
+    static final int CARROTS = 5;
+    static final int POTATOES = 6;
+    static final int BEETROOTS = 7;
+
+    // Crops planted row by row on every farm
+    static final int[] CROPS = {WHEAT, CARROTS, POTATOES, BEETROOTS};
+
+    private static final String[] NAMES = {
+            "AIR", "DIRT", "FARMLAND", "WATER", "WHEAT", "CARROTS", "POTATOES", "BEETROOTS"
+    };
+
+    private final Map<String, Integer> byName = new HashMap<>();
+
+    SimBlockTypes() {
+        for (int type = 0; type < NAMES.length; type++) {
+            byName.put(NAMES[type], type);
+        }
+    }
+
+    @Override
+    public int count() {
+        return NAMES.length;
+    }
+
+    @Override
+    public int byName(String name) {
+        return byName.getOrDefault(name, -1);
+    }
+
+    @Override
+    public int matchBlock(String entry) {
+        String name = entry.trim().toUpperCase(Locale.ROOT);
+        if (name.startsWith("MINECRAFT:")) {
+            name = name.substring("MINECRAFT:".length());
+        }
+        return byName(name);
+    }
+
+    @Override
+    public int[] tag(String key) {
+        return switch (key) {
+            case "minecraft:crops" -> CROPS.clone();
+            default -> null;
+        };
+    }
+
+    @Override
+    public String name(int type) {
+        return NAMES[type];
+    }
+
+    @Override
+    public boolean isLegacy(int type) {
+        return false;
+    }
+}
@@ -0,0 +1,106 @@
+package com.flowey258.harvestBoost.simulator;
+
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * A simulated player shuffling around the patch of farm they work on, or teleporting between farms
+ */
+final class SimFarmer {
+
+    // Farmers harvesting and replanting move slowly, in blocks per tick
+    private static final double WALK_SPEED = 0.15;
+
+    // Half the size of the patch a teleporter wanders around away from any farm
+    private static final int WILDERNESS_WANDER = 16;
+
+    enum Behaviour { COOP, SOLO, TELEPORTER }
+
+    final UUID id = UUID.randomUUID();
+    final Behaviour behaviour;
+
+    // Area the farmer currently wanders in
+    private int areaMinX;
+    private int areaMinZ;
+    private int areaSize;
+
+    double x;
+    double z;
+    private double targetX;
+    private double targetZ;
+
+    // Set when the farmer crossed into another block or teleported this tick
+    boolean moved;
+
+    SimFarmer(Behaviour behaviour, int minX, int minZ, int size, Random random) {
+        this.behaviour = behaviour;
+        wanderIn(minX, minZ, size);
+        x = areaMinX + random.nextDouble() * areaSize;
+        z = areaMinZ + random.nextDouble() * areaSize;
+        pickTarget(random);
+    }
+
+    /**
+     * Walk over to another patch and keep working there
+     */
+    void workAt(int minX, int minZ, int size, Random random) {
+        wanderIn(minX, minZ, size);
+        pickTarget(random);
+    }
+
+    /**
+     * Walk one tick towards the current target, picking a new one once reached
+     */
+    void walk(Random random) {
+        int blockX = (int) Math.floor(x);
+        int blockZ = (int) Math.floor(z);
+
+        double dx = targetX - x;
+        double dz = targetZ - z;
+        double distance = Math.sqrt(dx * dx + dz * dz);
+        if (distance <= WALK_SPEED) {
+            x = targetX;
+            z = targetZ;
+            pickTarget(random);
+        } else {
+            x += dx / distance * WALK_SPEED;
+            z += dz / distance * WALK_SPEED;
+        }
+
+        moved = blockX != (int) Math.floor(x) || blockZ != (int) Math.floor(z);
+    }
+
+    /**
+     * Teleport into a patch and keep working there
+     */
+    void teleportTo(int minX, int minZ, int size, Random random) {
+        wanderIn(minX, minZ, size);
+        teleport(random);
+    }
+
+    /**
+     * Teleport to a random spot far away from every farm
+     */
+    void teleportToWilderness(int centerX, int centerZ, Random random) {
+        wanderIn(centerX - WILDERNESS_WANDER, centerZ - WILDERNESS_WANDER, WILDERNESS_WANDER * 2);
+        teleport(random);
+    }
+
+    private void teleport(Random random) {
+        x = areaMinX + random.nextDouble() * areaSize;
+        z = areaMinZ + random.nextDouble() * areaSize;
+        pickTarget(random);
+        moved = true;
+    }
+
+    private void wanderIn(int minX, int minZ, int size) {
+        areaMinX = minX;
+        areaMinZ = minZ;
+        areaSize = size;
+    }
+
+    private void pickTarget(Random random) {
+        targetX = areaMinX + random.nextDouble() * areaSize;
+        targetZ = areaMinZ + random.nextDouble() * areaSize;
+    }
+}
@@ -0,0 +1,59 @@
+package com.flowey258.harvestBoost.simulator;
+
+import com.flowey258.harvestBoost.core.EnginePlatform;
+import com.flowey258.harvestBoost.core.PresenceState;
+import com.flowey258.harvestBoost.core.PresenceTracker;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * The simulated server: every simulated player is online and presence changes are only counted
+ */
+final class SimPlatform implements EnginePlatform {
+
+    private final Logger logger = Logger.getLogger("HarvestBoost-Simulator");
+    private final Set<UUID> online;
+
+    // New presence state -> transitions into it
+    private final Map<PresenceState, long[]> presenceChanges = new EnumMap<>(PresenceState.class);
+
+    SimPlatform(Set<UUID> online) {
+        this.online = online;
+        for (PresenceState state : PresenceState.values()) {
+            presenceChanges.put(state, new long[1]);
+        }
+    }
+
+    @Override
+    public boolean isOnline(UUID playerId) {
+        return online.contains(playerId);
+    }
+
+    @Override
+    public void onPresenceChange(UUID playerId, PresenceState previousState, PresenceState newState,
+                                 PresenceTracker.PresenceData presence) {
+        presenceChanges.get(newState)[0]++;
+    }
+
+    @Override
+    public Logger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Number of presence changes into a state since the counts were last reset
+     */
+    long getPresenceChanges(PresenceState state) {
+        return presenceChanges.get(state)[0];
+    }
+
+    void resetCounts() {
+        for (long[] count : presenceChanges.values()) {
+            count[0] = 0;
+        }
+    }
+}
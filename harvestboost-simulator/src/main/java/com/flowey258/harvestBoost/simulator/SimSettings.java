@@ -0,0 +1,98 @@
+package com.flowey258.harvestBoost.simulator;
+
+import com.flowey258.harvestBoost.core.BlockClassifier;
+import com.flowey258.harvestBoost.core.EngineSettings;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Engine settings built from the simulation options, with the shipped defaults everywhere else
+ */
+final class SimSettings implements EngineSettings {
+
+    // Each farmer past the first adds this much to the multiplier, as in the default config
+    private static final double BOOST_PER_FARMER = 0.25;
+
+    // The default effects.actionbar.format, rendered the way the plugin compiles it
+    private static final String ACTION_BAR_FORMAT = "🌱 Growth boosted by %boost%% (%players% farmers nearby!)";
+
+    private final SimulationOptions options;
+    private final int boostCellShift;
+    private final double[] boostMultipliers;
+    private final String[] actionBarMessages;
+    private final BlockClassifier classifier;
+
+    SimSettings(SimulationOptions options, Logger logger) {
+        this.options = options;
+        this.boostCellShift = Integer.numberOfTrailingZeros(options.boostCellSize());
+
+        // Multipliers and messages for every player count up to the cap
+        int maxPlayers = options.maxPlayers();
+        boostMultipliers = new double[maxPlayers + 1];
+        actionBarMessages = new String[maxPlayers + 1];
+        for (int count = 0; count <= maxPlayers; count++) {
+            boostMultipliers[count] = 1.0 + BOOST_PER_FARMER * Math.max(0, count - 1);
+            actionBarMessages[count] = ACTION_BAR_FORMAT
+                    .replace("%boost%", String.valueOf(Math.round((boostMultipliers[count] - 1.0) * 100)))
+                    .replace("%players%", String.valueOf(count));
+        }
+
+        BlockClassifier.Rules rules = new BlockClassifier.Rules(List.of(), List.of(), List.of(), List.of(), List.of(),
+                true, true, true, true);
+        this.classifier = BlockClassifier.compile(new SimBlockTypes(), rules, logger);
+    }
+
+    @Override
+    public int getDetectionRadius() {
+        return options.detectionRadius();
+    }
+
+    @Override
+    public int getFarmingDetectionRadius() {
+        return options.farmingDetectionRadius();
+    }
+
+    @Override
+    public int getMinimumPresenceTime() {
+        return options.minimumPresenceTime();
+    }
+
+    @Override
+    public int getMaxPlayers() {
+        return options.maxPlayers();
+    }
+
+    @Override
+    public int getBoostCellShift() {
+        return boostCellShift;
+    }
+
+    @Override
+    public double getBoostMultiplier(int playerCount) {
+        return boostMultipliers[Math.max(0, Math.min(playerCount, options.maxPlayers()))];
+    }
+
+    /**
+     * Action bar message for a player count, capped like the multiplier
+     */
+    String getActionBarMessage(int playerCount) {
+        return actionBarMessages[Math.max(0, Math.min(playerCount, options.maxPlayers()))];
+    }
+
+    @Override
+    public boolean isWorldDisabled(UUID worldId) {
+        return false;
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return false;
+    }
+
+    @Override
+    public BlockClassifier getClassifier() {
+        return classifier;
+    }
+}
@@ -0,0 +1,102 @@
+package com.flowey258.harvestBoost.simulator;
+
+import com.flowey258.harvestBoost.core.ChunkBlocks;
+import com.flowey258.harvestBoost.core.FarmWorld;
+import com.flowey258.harvestBoost.util.BlockKeys;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * An overworld-sized world that only stores the sections something was placed in.
+ *
+ * Every chunk counts as loaded, like the area a server keeps around its players; chunks nothing
+ * was placed in read as air. Blocks are only placed while the world is generated, so a chunk is
+ * its own snapshot.
+ */
+final class SimWorld implements FarmWorld {
+
+    static final int MIN_HEIGHT = -64;
+    static final int MAX_HEIGHT = 320;
+    private static final int SECTION_COUNT = (MAX_HEIGHT - MIN_HEIGHT) >> 4;
+
+    private static final ChunkBlocks EMPTY_CHUNK = new SimChunk();
+
+    private final UUID id = UUID.randomUUID();
+
+    // Packed chunk column -> chunk, only for chunks with blocks in them
+    private final Map<Long, SimChunk> chunks = new HashMap<>();
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public int getMinHeight() {
+        return MIN_HEIGHT;
+    }
+
+    @Override
+    public int getMaxHeight() {
+        return MAX_HEIGHT;
+    }
+
+    @Override
+    public boolean isChunkLoaded(int chunkX, int chunkZ) {
+        return true;
+    }
+
+    @Override
+    public ChunkBlocks snapshotChunk(int chunkX, int chunkZ) {
+        SimChunk chunk = chunks.get(BlockKeys.packColumn(chunkX, chunkZ));
+        return chunk != null ? chunk : EMPTY_CHUNK;
+    }
+
+    /**
+     * Place a block while generating
+     */
+    void setType(int x, int y, int z, int type) {
+        chunks.computeIfAbsent(BlockKeys.packColumn(x >> 4, z >> 4), key -> new SimChunk()).setType(x, y, z, type);
+    }
+
+    @Override
+    public int getBlockType(int x, int y, int z) {
+        SimChunk chunk = chunks.get(BlockKeys.packColumn(x >> 4, z >> 4));
+        return chunk != null ? chunk.getType(x & 15, y, z & 15) : SimBlockTypes.AIR;
+    }
+
+    /**
+     * Chunk columns holding at least one block
+     */
+    Iterable<Long> populatedChunks() {
+        return chunks.keySet();
+    }
+
+    /**
+     * Block types of one chunk, one byte per block in the sections that hold anything
+     */
+    private static final class SimChunk implements ChunkBlocks {
+        private final byte[][] sections = new byte[SECTION_COUNT][];
+
+        @Override
+        public boolean isSectionEmpty(int sectionIndex) {
+            return sections[sectionIndex] == null;
+        }
+
+        @Override
+        public int getType(int x, int y, int z) {
+            byte[] section = sections[(y - MIN_HEIGHT) >> 4];
+            return section != null ? section[((y & 15) << 8) | (z << 4) | x] : SimBlockTypes.AIR;
+        }
+
+        private void setType(int x, int y, int z, int type) {
+            int index = (y - MIN_HEIGHT) >> 4;
+            if (sections[index] == null) {
+                sections[index] = new byte[4096];
+            }
+            sections[index][((y & 15) << 8) | ((z & 15) << 4) | (x & 15)] = (byte) type;
+        }
+    }
+}
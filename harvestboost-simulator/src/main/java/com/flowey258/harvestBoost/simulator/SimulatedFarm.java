@@ -0,0 +1,38 @@
+package com.flowey258.harvestBoost.simulator;
+
+/**
+ * A square farm: crops in rows on farmland, with a water channel every few columns
+ *
+ * @param minX  lowest block X of the farm
+ * @param minZ  lowest block Z of the farm
+ * @param size  side length in blocks
+ * @param crops number of crops planted on it
+ */
+record SimulatedFarm(int minX, int minZ, int size, int crops) {
+
+    // Every ninth column is water, the classic layout that keeps every crop hydrated
+    static final int WATER_SPACING = 9;
+
+    /**
+     * Side length of a farm holding a number of crops, water columns included
+     */
+    static int sizeFor(int crops) {
+        int size = Math.max(1, (int) Math.ceil(Math.sqrt(crops)));
+        while ((long) size * cropColumns(size) < crops) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Number of columns of a farm that are not water
+     */
+    private static int cropColumns(int size) {
+        int water = (size + WATER_SPACING - 1 - WATER_SPACING / 2) / WATER_SPACING;
+        return size - water;
+    }
+
+    static boolean isWaterColumn(int localX) {
+        return localX % WATER_SPACING == WATER_SPACING / 2;
+    }
+}
@@ -0,0 +1,714 @@
+package com.flowey258.harvestBoost.simulator;
+
+import com.flowey258.harvestBoost.core.ActionBarTracker;
+import com.flowey258.harvestBoost.core.BlockClassifier;
+import com.flowey258.harvestBoost.core.BoostEngine;
+import com.flowey258.harvestBoost.core.BoostEngine.CellBoost;
+import com.flowey258.harvestBoost.core.ExtraGrowthTicks;
+import com.flowey258.harvestBoost.core.FarmIndex;
+import com.flowey258.harvestBoost.core.HarvestEngine;
+import com.flowey258.harvestBoost.core.ParticleBatcher;
+import com.flowey258.harvestBoost.core.PresenceState;
+import com.flowey258.harvestBoost.core.PresenceTracker;
+import com.flowey258.harvestBoost.metrics.HistogramSnapshot;
+import com.flowey258.harvestBoost.metrics.LatencyHistogram;
+import com.flowey258.harvestBoost.metrics.PluginMetrics;
+import com.flowey258.harvestBoost.util.BlockKeys;
+
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a synthetic server against the engine, tick by tick, and measures what each tick costs.
+ *
+ * Every tick does what the plugin's scheduled tasks and listeners do on a live server: move and
+ * teleport listeners update farmer positions, presence qualification advances, every check
+ * interval the boost update resolves presence, boost levels, the extra growth registry and action
+ * bars, vanilla random ticks grow crops, the extra growth ticks are drawn, and the growth particles
+ * and action bar refreshes go out. Only the packets themselves are counted instead of sent.
+ *
+ * The engine, the extra growth registry and draws, particle batching and action bar tracking are
+ * the plugin's own core classes. The boost update and growth listener steps are replayed here in
+ * the plugin's order, and what a grown crop does to the world is only counted.
+ *
+ * Farm scans run inline on the tick; the plugin runs them on worker threads, so their share is
+ * reported separately.
+ */
+final class Simulation {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    // Crops stand on farmland at this height, farmers walk among them
+    private static final int CROP_Y = 64;
+
+    // Co-op farms are shared by this many farmers, give or take one
+    private static final int COOP_GROUP_SIZE = 4;
+
+    // Empty blocks between neighbouring farms, on top of the detection radius on both sides
+    private static final int FARM_GAP = 32;
+
+    // Farmers work a patch this wide, close enough to count towards each other's crops
+    private static final int PATCH_SIZE = 3;
+
+    // Ticks a crew spends on one patch before moving on to another part of the farm
+    private static final int PATCH_INTERVAL = 600;
+
+    // Teleporters landing away from every farm, the rest land on a random farm
+    private static final double WILDERNESS_CHANCE = 0.25;
+
+    // Vanilla's default randomTickSpeed
+    private static final int RANDOM_TICK_SPEED = 3;
+
+    // Boost update runs between offline player and cache cleanups, as in the plugin's update task
+    private static final int OFFLINE_CLEANUP_RUNS = 20;
+    private static final int CLEANUP_RUNS = 6000;
+
+    // Settings of the particle flush, as in the default config
+    private static final int PARTICLE_VIEW_DISTANCE = 32;
+    private static final int PARTICLE_PACKETS_PER_PLAYER = 8;
+    private static final int PARTICLE_AMOUNT = 3;
+
+    /**
+     * Parts of a tick, timed separately
+     */
+    enum Phase {
+        LISTENERS("move/teleport listeners"),
+        PRESENCE("presence tick"),
+        BOOST_UPDATE("boost update task"),
+        GROWTH("growth events"),
+        EXTRA_GROWTH("extra growth ticks"),
+        PARTICLES("particle flush"),
+        ACTION_BARS("action bar refresh");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    private final SimulationOptions options;
+    private final Random random;
+    private final PrintStream out;
+
+    private final SimWorld world = new SimWorld();
+    private final UUID worldId = world.getId();
+    private final List<SimulatedFarm> farms = new ArrayList<>();
+    private final List<SimFarmer> farmers = new ArrayList<>();
+
+    // Co-op and solo farmers working each farm and the patch they work on, by farm index
+    private final List<List<SimFarmer>> crews = new ArrayList<>();
+    private int[] patchMinX;
+    private int[] patchMinZ;
+    private final Set<UUID> online = new HashSet<>();
+
+    // Planted crops, for picking random tick targets
+    private int[] cropX;
+    private int[] cropZ;
+    private int cropCount;
+
+    private final SimSettings settings;
+    private final PluginMetrics metrics = new PluginMetrics();
+    private final SimPlatform platform;
+    private final HarvestEngine engine;
+    private final BoostEngine boosts;
+    private final PresenceTracker presence;
+    private final FarmIndex farmIndex;
+    private final ActionBarTracker<SimFarmer> actionBars;
+    private final ParticleBatcher<SimFarmer> particles = new ParticleBatcher<>();
+    private final ExtraGrowthTicks extraGrowth;
+
+    // Measurements of the current run
+    private final LatencyHistogram tickCost = new LatencyHistogram();
+    private final Map<Phase, LatencyHistogram> phaseCost = new EnumMap<>(Phase.class);
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private long allocatedBytes;
+    private long maxTickAllocatedBytes;
+    private long gcCountAtStart;
+    private long gcMillisAtStart;
+    private long overBudgetTicks;
+
+    // Effect and growth counts of the current run
+    private long levelChanges;
+    private long actionBarPackets;
+    private long particleBursts;
+    private long growthEvents;
+    private long boostedGrowth;
+    private long bonusStages;
+    private double randomTickBacklog;
+
+    // Extra growth totals when the measured run started, the core counts since startup
+    private long extraAttemptsAtStart;
+    private long extraGrownAtStart;
+    private long extraDroppedAtStart;
+
+    // Farmer count and multiplier at each farmer's cell in the last boost update, reused between updates
+    private int[] farmerCounts = new int[0];
+    private double[] farmerMultipliers = new double[0];
+
+    private int tick;
+    private int updateRuns;
+
+    Simulation(SimulationOptions options, PrintStream out) {
+        this.options = options;
+        this.random = new Random(options.seed());
+        this.out = out;
+
+        this.platform = new SimPlatform(online);
+        this.settings = new SimSettings(options, platform.getLogger());
+        this.engine = new HarvestEngine(() -> settings, metrics, platform);
+        this.boosts = engine.getBoosts();
+        this.presence = engine.getPresence();
+        this.farmIndex = engine.getFarmIndex();
+        this.actionBars = new ActionBarTracker<>((farmer, message) -> actionBarPackets++, farmer -> true);
+        this.extraGrowth = new ExtraGrowthTicks(engine, random);
+
+        for (Phase phase : Phase.values()) {
+            phaseCost.put(phase, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Build the world and its farmers, warm up, then run and measure the configured ticks
+     */
+    void run() {
+        long start = System.nanoTime();
+        generate();
+        out.printf(Locale.ROOT, "Generated %d farms with %d crops and %d players in %d ms%n",
+                farms.size(), cropCount, farmers.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        // Like a plugin enabled on a running server: the farms' chunks are loaded already
+        for (long chunkKey : world.populatedChunks()) {
+            farmIndex.onChunkLoad(world, BlockKeys.columnX(chunkKey), BlockKeys.columnZ(chunkKey));
+        }
+
+        metrics.setEnabled(true);
+        runTicks(options.warmupTicks());
+        resetMeasurements();
+
+        long runStart = System.nanoTime();
+        runTicks(options.ticks());
+        long runNanos = System.nanoTime() - runStart;
+
+        out.printf(Locale.ROOT, "Ran %d ticks in %.1f s (%.0f simulated seconds)%n%n",
+                options.ticks(), runNanos / 1e9, options.ticks() / 20.0);
+    }
+
+    /**
+     * Lay out the farms on a grid and place the farmers of the scenario on them
+     */
+    private void generate() {
+        Scenario scenario = options.scenario();
+        int players = options.players();
+        int coopPlayers = scenario.coopPlayers(players);
+        int soloPlayers = scenario.soloPlayers(players);
+        int teleporters = scenario.teleportPlayers(players);
+
+        // Co-op groups of a few farmers each; teleporters alone still need farms to visit
+        List<Integer> groups = new ArrayList<>();
+        for (int remaining = coopPlayers; remaining > 0; ) {
+            int group = Math.min(remaining, COOP_GROUP_SIZE - 1 + random.nextInt(3));
+            groups.add(group);
+            remaining -= group;
+        }
+        if (groups.isEmpty() && soloPlayers == 0) {
+            for (int i = 0; i < Math.max(1, teleporters / COOP_GROUP_SIZE); i++) {
+                groups.add(COOP_GROUP_SIZE);
+            }
+        }
+
+        // Crops are shared out by the number of farmers a farm is built for
+        int farmCount = groups.size() + soloPlayers;
+        int[] weights = new int[farmCount];
+        int totalWeight = 0;
+        for (int i = 0; i < farmCount; i++) {
+            weights[i] = i < groups.size() ? groups.get(i) : 1;
+            totalWeight += weights[i];
+        }
+
+        int[] farmCrops = new int[farmCount];
+        int maxSize = 1;
+        int assigned = 0;
+        for (int i = 0; i < farmCount; i++) {
+            farmCrops[i] = i == farmCount - 1
+                    ? options.crops() - assigned
+                    : (int) ((long) options.crops() * weights[i] / totalWeight);
+            assigned += farmCrops[i];
+            maxSize = Math.max(maxSize, SimulatedFarm.sizeFor(farmCrops[i]));
+        }
+
+        cropX = new int[options.crops()];
+        cropZ = new int[options.crops()];
+
+        // Far enough apart that no farmer ever boosts a neighbouring farm
+        int pitch = maxSize + 2 * options.detectionRadius() + FARM_GAP;
+        int columns = (int) Math.ceil(Math.sqrt(farmCount));
+        patchMinX = new int[farmCount];
+        patchMinZ = new int[farmCount];
+        for (int i = 0; i < farmCount; i++) {
+            SimulatedFarm farm = new SimulatedFarm((i % columns) * pitch, (i / columns) * pitch,
+                    SimulatedFarm.sizeFor(farmCrops[i]), farmCrops[i]);
+            plant(farm);
+            farms.add(farm);
+            crews.add(new ArrayList<>());
+            patchMinX[i] = patchX(farm);
+            patchMinZ[i] = patchZ(farm);
+        }
+
+        // Farms laid out only for teleporters to visit have no crew
+        for (int i = 0; i < groups.size() && coopPlayers > 0; i++) {
+            for (int j = 0; j < groups.get(i); j++) {
+                addCrewMember(SimFarmer.Behaviour.COOP, i);
+            }
+        }
+        for (int i = 0; i < soloPlayers; i++) {
+            addCrewMember(SimFarmer.Behaviour.SOLO, groups.size() + i);
+        }
+        for (int i = 0; i < teleporters; i++) {
+            SimulatedFarm farm = farms.get(random.nextInt(farms.size()));
+            addFarmer(new SimFarmer(SimFarmer.Behaviour.TELEPORTER,
+                    patchX(farm), patchZ(farm), PATCH_SIZE, random));
+        }
+    }
+
+    /**
+     * Add a farmer to a farm's crew, working the same patch as the rest of the crew
+     */
+    private void addCrewMember(SimFarmer.Behaviour behaviour, int farmIndex) {
+        SimFarmer farmer = new SimFarmer(behaviour, patchMinX[farmIndex], patchMinZ[farmIndex], PATCH_SIZE, random);
+        crews.get(farmIndex).add(farmer);
+        addFarmer(farmer);
+    }
+
+    /**
+     * Lowest block X of a random work patch on a farm
+     */
+    private int patchX(SimulatedFarm farm) {
+        return farm.minX() + random.nextInt(Math.max(1, farm.size() - PATCH_SIZE + 1));
+    }
+
+    private int patchZ(SimulatedFarm farm) {
+        return farm.minZ() + random.nextInt(Math.max(1, farm.size() - PATCH_SIZE + 1));
+    }
+
+    /**
+     * Place a farm's farmland, water and crops, rotating the crop type by row
+     */
+    private void plant(SimulatedFarm farm) {
+        int planted = 0;
+        for (int localZ = 0; localZ < farm.size() && planted < farm.crops(); localZ++) {
+            int crop = SimBlockTypes.CROPS[localZ % SimBlockTypes.CROPS.length];
+            for (int localX = 0; localX < farm.size() && planted < farm.crops(); localX++) {
+                int x = farm.minX() + localX;
+                int z = farm.minZ() + localZ;
+                world.setType(x, CROP_Y - 2, z, SimBlockTypes.DIRT);
+
+                if (SimulatedFarm.isWaterColumn(localX)) {
+                    world.setType(x, CROP_Y - 1, z, SimBlockTypes.WATER);
+                    continue;
+                }
+
+                world.setType(x, CROP_Y - 1, z, SimBlockTypes.FARMLAND);
+                world.setType(x, CROP_Y, z, crop);
+                cropX[cropCount] = x;
+                cropZ[cropCount] = z;
+                cropCount++;
+                planted++;
+            }
+        }
+    }
+
+    private void addFarmer(SimFarmer farmer) {
+        farmers.add(farmer);
+        online.add(farmer.id);
+    }
+
+    private void runTicks(int ticks) {
+        long start = System.nanoTime();
+        for (int i = 1; i <= ticks; i++) {
+            runTick();
+
+            // Keep to 20 ticks per second, like a server with time to spare
+            if (options.realtime()) {
+                long sleep = start + i * TICK_NANOS - System.nanoTime();
+                if (sleep > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(sleep);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * One server tick: simulated movement first, then everything the plugin would run
+     */
+    private void runTick() {
+        tick++;
+        moveFarmers();
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        long phase = start;
+        onPlayerMoves();
+        phase = stopPhase(Phase.LISTENERS, phase);
+
+        presence.tick();
+        phase = stopPhase(Phase.PRESENCE, phase);
+
+        if (tick % options.checkInterval() == 0) {
+            long update = metrics.updateTotal.start();
+            runBoostUpdate();
+            metrics.updateTotal.stop(update);
+        }
+        phase = stopPhase(Phase.BOOST_UPDATE, phase);
+
+        growCrops();
+        phase = stopPhase(Phase.GROWTH, phase);
+
+        extraGrowth.tick(options.maxExtraGrowthPerTick(), this::growExtra);
+        phase = stopPhase(Phase.EXTRA_GROWTH, phase);
+
+        particles.flush(this::forEachViewer, (farmer, x, y, z, amount, offsetX, offsetY, offsetZ) -> particleBursts++,
+                PARTICLE_VIEW_DISTANCE, PARTICLE_PACKETS_PER_PLAYER, PARTICLE_AMOUNT);
+        phase = stopPhase(Phase.PARTICLES, phase);
+
+        actionBars.refresh(options.actionBarInterval());
+        stopPhase(Phase.ACTION_BARS, phase);
+
+        long cost = System.nanoTime() - start;
+        tickCost.record(cost);
+        if (cost > TICK_NANOS) {
+            overBudgetTicks++;
+        }
+
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        allocatedBytes += allocated;
+        maxTickAllocatedBytes = Math.max(maxTickAllocatedBytes, allocated);
+    }
+
+    private long stopPhase(Phase phase, long start) {
+        long now = System.nanoTime();
+        phaseCost.get(phase).record(now - start);
+        return now;
+    }
+
+    /**
+     * Walk every farmer a step, teleporting the teleporters when a storm hits
+     */
+    private void moveFarmers() {
+        // Crews move on to another patch of their farm, staggered so not every farm moves at once
+        for (int i = 0; i < farms.size(); i++) {
+            List<SimFarmer> crew = crews.get(i);
+            if (!crew.isEmpty() && (tick + i * 37) % PATCH_INTERVAL == 0) {
+                SimulatedFarm farm = farms.get(i);
+                patchMinX[i] = patchX(farm);
+                patchMinZ[i] = patchZ(farm);
+                for (SimFarmer farmer : crew) {
+                    farmer.workAt(patchMinX[i], patchMinZ[i], PATCH_SIZE, random);
+                }
+            }
+        }
+
+        boolean storm = tick % options.stormInterval() == 0;
+
+        for (SimFarmer farmer : farmers) {
+            if (storm && farmer.behaviour == SimFarmer.Behaviour.TELEPORTER) {
+                if (random.nextDouble() < WILDERNESS_CHANCE) {
+                    farmer.teleportToWilderness(-100_000 - random.nextInt(100_000), random.nextInt(100_000), random);
+                } else {
+                    SimulatedFarm farm = farms.get(random.nextInt(farms.size()));
+                    farmer.teleportTo(patchX(farm), patchZ(farm), PATCH_SIZE, random);
+                }
+            } else {
+                farmer.walk(random);
+            }
+        }
+    }
+
+    /**
+     * What the plugin's PlayerMoveEvent and PlayerTeleportEvent listeners do for farmers who changed block
+     */
+    private void onPlayerMoves() {
+        for (SimFarmer farmer : farmers) {
+            if (farmer.moved) {
+                presence.updatePosition(farmer.id, worldId, farmer.x, CROP_Y, farmer.z);
+            }
+        }
+    }
+
+    /**
+     * What the plugin's BoostUpdateTask does every check interval, step by step in the same order
+     */
+    private void runBoostUpdate() {
+        updateRuns++;
+
+        // Presence of every online player
+        long phase = metrics.updateTracking.start();
+        int farmRadius = settings.getFarmingDetectionRadius();
+        for (SimFarmer farmer : farmers) {
+            int blockX = (int) Math.floor(farmer.x);
+            int blockZ = (int) Math.floor(farmer.z);
+
+            if (farmIndex.isNearFarmableBlocks(world, blockX, CROP_Y, blockZ, farmRadius, 2)) {
+                presence.updatePresence(farmer.id, worldId, farmer.x, CROP_Y, farmer.z);
+                presence.placeFarmer(farmer.id, worldId, farmer.x, CROP_Y, farmer.z);
+            } else {
+                presence.updateAwayFromFarm(farmer.id);
+            }
+        }
+        if (updateRuns % OFFLINE_CLEANUP_RUNS == 0) {
+            presence.cleanupOfflinePlayers();
+            actionBars.cleanupOfflinePlayers(online::contains);
+        }
+        metrics.updateTracking.stop(phase);
+
+        if (updateRuns % CLEANUP_RUNS == 0) {
+            phase = metrics.updateCleanup.start();
+            boosts.cleanCache();
+            metrics.updateCleanup.stop(phase);
+        }
+
+        // Boost frame, level publishing and action bars of every player
+        phase = metrics.updateFrame.start();
+        int maxPlayers = settings.getMaxPlayers();
+        if (farmerCounts.length < farmers.size()) {
+            farmerCounts = new int[farmers.size()];
+            farmerMultipliers = new double[farmers.size()];
+        }
+        for (int i = 0; i < farmers.size(); i++) {
+            SimFarmer farmer = farmers.get(i);
+            CellBoost cell = boosts.getCellBoost(worldId,
+                    (int) Math.floor(farmer.x), CROP_Y, (int) Math.floor(farmer.z));
+            farmerCounts[i] = cell.playerCount();
+            farmerMultipliers[i] = cell.multiplier();
+
+            int level = BoostEngine.boostLevel(cell.playerCount(), maxPlayers);
+            if (boosts.publishBoostLevel(farmer.id, level) != level) {
+                levelChanges++;
+            }
+        }
+        metrics.updateFrame.stop(phase);
+
+        // Register the crops around boosted farmers for their extra growth ticks
+        phase = metrics.updateExtraGrowth.start();
+        extraGrowth.beginRebuild();
+        for (int i = 0; i < farmers.size(); i++) {
+            if (farmerMultipliers[i] > 1.0) {
+                SimFarmer farmer = farmers.get(i);
+                extraGrowth.addFarmer(world, (int) Math.floor(farmer.x), CROP_Y, (int) Math.floor(farmer.z),
+                        RANDOM_TICK_SPEED);
+            }
+        }
+        extraGrowth.finishRebuild();
+        metrics.updateExtraGrowth.stop(phase);
+
+        phase = metrics.updateActionBars.start();
+        for (int i = 0; i < farmers.size(); i++) {
+            SimFarmer farmer = farmers.get(i);
+            String message = farmerCounts[i] > 1 ? settings.getActionBarMessage(farmerCounts[i]) : null;
+            actionBars.update(farmer.id, farmer, message);
+        }
+        metrics.updateActionBars.stop(phase);
+    }
+
+    /**
+     * Vanilla random ticks over every crop; those that grow go through the plugin's growth listener rules
+     */
+    private void growCrops() {
+        randomTickBacklog += cropCount * RANDOM_TICK_SPEED * ExtraGrowthTicks.RANDOM_TICKS_PER_SPEED;
+        int randomTicks = (int) randomTickBacklog;
+        randomTickBacklog -= randomTicks;
+
+        BlockClassifier classifier = settings.getClassifier();
+        boolean extraGrowthEnabled = options.maxExtraGrowthPerTick() > 0;
+
+        for (int i = 0; i < randomTicks; i++) {
+            int crop = random.nextInt(cropCount);
+            int x = cropX[crop];
+            int z = cropZ[crop];
+
+            // The simulated farms are in daylight, so only each crop's own odds decide
+            int type = world.getBlockType(x, CROP_Y, z);
+            if (random.nextDouble() >= classifier.growthChance(type)) {
+                continue;
+            }
+
+            long start = metrics.growEvent.start();
+            growthEvents++;
+
+            // Ageable crops get their boost as extra growth ticks, only the fallback reacts to vanilla growth
+            if (classifier.isBoostable(type) && !(extraGrowthEnabled && classifier.isAgeable(type))) {
+                double multiplier = boosts.getBoostMultiplier(worldId, x, CROP_Y, z);
+
+                // The growth manager's rolls: particles at m - 1, then a bonus stage at half of that again
+                if (multiplier > 1.0 && random.nextDouble() < multiplier - 1.0) {
+                    boostedGrowth++;
+                    particles.queue(worldId, x, CROP_Y, z);
+
+                    if (random.nextInt(100) < (int) ((multiplier - 1.0) * 100) / 2) {
+                        bonusStages++;
+                    }
+                }
+            }
+            metrics.growEvent.stop(start);
+        }
+    }
+
+    /**
+     * One extra growth tick drawn for a crop, with the odds the plugin's extra growth scheduler uses
+     */
+    private boolean growExtra(UUID tickWorld, int x, int y, int z) {
+        int type = world.getBlockType(x, y, z);
+        BlockClassifier classifier = settings.getClassifier();
+        if (!classifier.isAgeable(type) || random.nextDouble() >= classifier.growthChance(type)) {
+            return false;
+        }
+
+        particles.queue(tickWorld, x, y, z);
+        return true;
+    }
+
+    private void forEachViewer(UUID viewerWorld, ParticleBatcher.ViewerConsumer<SimFarmer> consumer) {
+        for (SimFarmer farmer : farmers) {
+            consumer.accept(farmer, farmer.x, CROP_Y, farmer.z);
+        }
+    }
+
+    /**
+     * Forget what the warmup recorded
+     */
+    private void resetMeasurements() {
+        metrics.reset();
+        platform.resetCounts();
+        tickCost.reset();
+        phaseCost.values().forEach(LatencyHistogram::reset);
+
+        allocatedBytes = 0;
+        maxTickAllocatedBytes = 0;
+        overBudgetTicks = 0;
+        levelChanges = 0;
+        actionBarPackets = 0;
+        particleBursts = 0;
+        growthEvents = 0;
+        boostedGrowth = 0;
+        bonusStages = 0;
+        extraAttemptsAtStart = extraGrowth.getAttemptCount();
+        extraGrownAtStart = extraGrowth.getGrownCount();
+        extraDroppedAtStart = extraGrowth.getDroppedCount();
+
+        gcCountAtStart = gcCount();
+        gcMillisAtStart = gcMillis();
+    }
+
+    /**
+     * 99th percentile of the measured tick cost
+     */
+    long getTickP99Nanos() {
+        return tickCost.snapshot().percentile(0.99);
+    }
+
+    /**
+     * Print tick cost, allocation, cache and effect statistics of the measured ticks
+     */
+    void report() {
+        int ticks = options.ticks();
+        HistogramSnapshot total = tickCost.snapshot();
+
+        out.println("Tick cost (ms)                     mean      p50      p95      p99      max");
+        printCost("tick", total);
+        for (Phase phase : Phase.values()) {
+            printCost("  " + phase.label, phaseCost.get(phase).snapshot());
+        }
+        out.println("Boost update phases, per run");
+        printCost("  tracking", metrics.updateTracking.getTotal());
+        printCost("  frame", metrics.updateFrame.getTotal());
+        printCost("  extra growth", metrics.updateExtraGrowth.getTotal());
+        printCost("  action bars", metrics.updateActionBars.getTotal());
+        printCost("farm scans (off-thread live)", metrics.sectionScan.getTotal());
+        out.printf(Locale.ROOT, "Ticks over the 50 ms budget: %d of %d%n%n", overBudgetTicks, ticks);
+
+        out.println("Allocation");
+        out.printf(Locale.ROOT, "  %.1f KB per tick, %.1f KB worst tick, %.1f MB in total%n",
+                allocatedBytes / 1024.0 / ticks, maxTickAllocatedBytes / 1024.0, allocatedBytes / 1024.0 / 1024.0);
+        out.printf(Locale.ROOT, "  %d collections, %d ms in GC%n%n",
+                gcCount() - gcCountAtStart, gcMillis() - gcMillisAtStart);
+
+        long hits = metrics.boostCacheHits.getTotal();
+        long misses = metrics.boostCacheMisses.getTotal();
+        long stale = metrics.boostCacheStale.getTotal();
+        long lookups = hits + misses + stale;
+        out.println("Boost cache");
+        out.printf(Locale.ROOT, "  %d lookups: %d hits (%.1f%%), %d misses, %d stale; %d cells cached%n",
+                lookups, hits, lookups == 0 ? 0.0 : hits * 100.0 / lookups, misses, stale, boosts.getCacheSize());
+        printCost("  recompute (ms)", metrics.boostRecompute.getTotal());
+        out.printf(Locale.ROOT, "  %d chunks indexed, %d block reads%n%n",
+                farmIndex.getIndexedChunkCount(), metrics.blockReads.getTotal());
+
+        out.println("Presence");
+        out.printf(Locale.ROOT, "  %d tracked; transitions: %d qualifying, %d qualified, %d outside%n%n",
+                presence.size(), platform.getPresenceChanges(PresenceState.QUALIFYING),
+                platform.getPresenceChanges(PresenceState.QUALIFIED),
+                platform.getPresenceChanges(PresenceState.OUTSIDE));
+
+        out.println("Growth and effects");
+        out.printf(Locale.ROOT, "  %d growth events, %d boosted, %d bonus stages%n",
+                growthEvents, boostedGrowth, bonusStages);
+        out.printf(Locale.ROOT, "  %d crops registered for extra growth (%.2f ticks expected per tick); "
+                        + "%d extra ticks, %d grew, %d over budget%n",
+                extraGrowth.getRegisteredCount(), extraGrowth.getExpectedTicks(),
+                extraGrowth.getAttemptCount() - extraAttemptsAtStart, extraGrowth.getGrownCount() - extraGrownAtStart,
+                extraGrowth.getDroppedCount() - extraDroppedAtStart);
+        out.printf(Locale.ROOT, "  %d boost level changes, %d action bars sent (%d showing)%n",
+                levelChanges, actionBarPackets, actionBars.size());
+        out.printf(Locale.ROOT, "  %d particle bursts sent, %d culled, %d duplicate emissions dropped%n",
+                particleBursts, particles.getPacketsCulled(), particles.getDuplicateCount());
+    }
+
+    private void printCost(String label, HistogramSnapshot snapshot) {
+        if (snapshot.count() == 0) {
+            out.printf(Locale.ROOT, "%-30s %8s%n", label, "-");
+            return;
+        }
+
+        out.printf(Locale.ROOT, "%-30s %8.3f %8.3f %8.3f %8.3f %8.3f%n", label,
+                millis(snapshot.mean()), millis(snapshot.percentile(0.5)), millis(snapshot.percentile(0.95)),
+                millis(snapshot.percentile(0.99)), millis(snapshot.max()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,140 @@
+package com.flowey258.harvestBoost.simulator;
+
+import java.util.Locale;
+
+/**
+ * Command-line options of a simulation run; defaults match the shipped config.yml
+ */
+record SimulationOptions(Scenario scenario, int players, int crops, int ticks, int warmupTicks,
+                         int checkInterval, int detectionRadius, int farmingDetectionRadius, int boostCellSize,
+                         int maxPlayers, int minimumPresenceTime, int actionBarInterval, int maxExtraGrowthPerTick,
+                         int stormInterval, long seed, boolean realtime, double maxTickMillis) {
+
+    static final String USAGE = """
+            Usage: java -jar simulator.jar [options]
+              --scenario <name>                mixed, coop, solo or teleport (default mixed)
+              --players <n>                    Simulated players (default 300)
+              --crops <n>                      Crops spread over the farms (default 500000)
+              --ticks <n>                      Measured ticks, 20 per second (default 6000)
+              --warmup <n>                     Ticks run before measuring (default 1200)
+              --check-interval <ticks>         detection.check-interval (default 100)
+              --radius <blocks>                detection.radius (default 10)
+              --farming-radius <blocks>        advanced.farming-detection-radius (default 3)
+              --cell-size <blocks>             performance.boost-cell-size (default 4)
+              --max-players <n>                boosts.max-players (default 4)
+              --presence-time <ticks>          advanced.minimum-presence-time (default 100)
+              --actionbar-interval <ticks>     effects.actionbar.update-interval (default 40)
+              --extra-growth <n>               performance.max-extra-growth-per-tick (default 20)
+              --storm-interval <ticks>         Ticks between teleport storms (default 200)
+              --seed <n>                       Random seed, equal seeds replay equal runs (default 1)
+              --realtime                       Sleep between ticks to run at 20 ticks per second
+              --max-tick-ms <ms>               Exit with status 1 when the p99 tick cost exceeds this
+            """;
+
+    /**
+     * Parse command-line arguments, throwing IllegalArgumentException on anything unknown
+     */
+    static SimulationOptions parse(String[] args) {
+        Scenario scenario = Scenario.MIXED;
+        int players = 300;
+        int crops = 500_000;
+        int ticks = 6000;
+        int warmup = 1200;
+        int checkInterval = 100;
+        int radius = 10;
+        int farmingRadius = 3;
+        int cellSize = 4;
+        int maxPlayers = 4;
+        int presenceTime = 100;
+        int actionBarInterval = 40;
+        int maxExtraGrowth = 20;
+        int stormInterval = 200;
+        long seed = 1;
+        boolean realtime = false;
+        double maxTickMillis = 0;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--realtime")) {
+                realtime = true;
+                continue;
+            }
+
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+
+            switch (option) {
+                case "--scenario" -> scenario = Scenario.parse(value);
+                case "--players" -> players = positive(option, value);
+                case "--crops" -> crops = positive(option, value);
+                case "--ticks" -> ticks = positive(option, value);
+                case "--warmup" -> warmup = nonNegative(option, value);
+                case "--check-interval" -> checkInterval = positive(option, value);
+                case "--radius" -> radius = positive(option, value);
+                case "--farming-radius" -> farmingRadius = positive(option, value);
+                case "--cell-size" -> cellSize = positive(option, value);
+                case "--max-players" -> maxPlayers = positive(option, value);
+                case "--presence-time" -> presenceTime = nonNegative(option, value);
+                case "--actionbar-interval" -> actionBarInterval = positive(option, value);
+                case "--extra-growth" -> maxExtraGrowth = nonNegative(option, value);
+                case "--storm-interval" -> stormInterval = positive(option, value);
+                case "--seed" -> seed = parseLong(option, value);
+                case "--max-tick-ms" -> maxTickMillis = parseDouble(option, value);
+                default -> throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+
+        // Same rule as the plugin: a power of two between 1 and 16
+        if (cellSize > 16 || Integer.bitCount(cellSize) != 1) {
+            throw new IllegalArgumentException("--cell-size must be a power of two between 1 and 16");
+        }
+
+        return new SimulationOptions(scenario, players, crops, ticks, warmup, checkInterval, radius, farmingRadius,
+                cellSize, maxPlayers, presenceTime, actionBarInterval, maxExtraGrowth, stormInterval, seed, realtime,
+                maxTickMillis);
+    }
+
+    /**
+     * One-line summary for the report header
+     */
+    String describe() {
+        return String.format(Locale.ROOT,
+                "scenario=%s players=%d crops=%d ticks=%d warmup=%d check-interval=%d radius=%d cell-size=%d seed=%d",
+                scenario.name().toLowerCase(Locale.ROOT), players, crops, ticks, warmupTicks, checkInterval,
+                detectionRadius, boostCellSize, seed);
+    }
+
+    private static int positive(String option, String value) {
+        int parsed = nonNegative(option, value);
+        if (parsed == 0) {
+            throw new IllegalArgumentException(option + " must be positive");
+        }
+        return parsed;
+    }
+
+    private static int nonNegative(String option, String value) {
+        long parsed = parseLong(option, value);
+        if (parsed < 0 || parsed > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(option + " is out of range: " + value);
+        }
+        return (int) parsed;
+    }
+
+    private static long parseLong(String option, String value) {
+        try {
+            return Long.parseLong(value.replace("_", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(option + " expects a number, got " + value);
+        }
+    }
+
+    private static double parseDouble(String option, String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(option + " expects a number, got " + value);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.flowey258.harvestBoost.simulator;
+
+import java.util.Locale;
+
+/**
+ * Command-line entry point of the load simulator.
+ *
+ * Builds a synthetic world for the chosen scenario, replays it against the engine and prints the
+ * tick cost, allocation and cache statistics. With {@code --max-tick-ms} it exits with status 1
+ * when the 99th percentile tick cost is over the limit, so a build can fail on a scaling regression.
+ */
+public final class SimulatorMain {
+
+    private SimulatorMain() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 1 && (args[0].equals("--help") || args[0].equals("-h"))) {
+            System.out.print(SimulationOptions.USAGE);
+            return;
+        }
+
+        SimulationOptions options;
+        try {
+            options = SimulationOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(SimulationOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        System.out.println("HarvestBoost load simulation: " + options.describe());
+
+        Simulation simulation = new Simulation(options, System.out);
+        simulation.run();
+        simulation.report();
+
+        // Fail the run when the tick cost regressed past the limit
+        double p99Millis = simulation.getTickP99Nanos() / 1e6;
+        if (options.maxTickMillis() > 0 && p99Millis > options.maxTickMillis()) {
+            System.err.printf(Locale.ROOT, "%nFAILED: p99 tick cost %.3f ms is over the limit of %.3f ms%n",
+                    p99Millis, options.maxTickMillis());
+            System.exit(1);
+        }
+    }
+}